@@ -0,0 +1,88 @@
+package com.example.ecommerce.api.port_one;
+
+import com.example.ecommerce.common.exception.port_one.PortOneException;
+import com.example.ecommerce.common.exception.port_one.PortOneNotFoundPaymentException;
+import com.example.ecommerce.common.exception.port_one.PortOneUnavailableException;
+import com.example.ecommerce.dto.port_one.PortOneGetPaymentResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포트원 결제 조회 비동기 클라이언트
+ * 응답을 기다리는 동안 호출 스레드를 점유하지 않고 CompletableFuture 로 결과를 전달
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PortOneAsyncPayment {
+
+    private final CloseableHttpAsyncClient portOneAsyncHttpClient;
+    private final ApiAuthProperties apiAuthProperties;
+    private final PortOneClientProperties portOneClientProperties;
+    private final ObjectMapper objectMapper;
+    private final PortOneResilience portOneResilience;
+
+    public CompletableFuture<PortOneGetPaymentResponseDto> getPayment(String paymentId) {
+        return portOneResilience.callAsync(() -> fetchPayment(paymentId));
+    }
+
+    private CompletableFuture<PortOneGetPaymentResponseDto> fetchPayment(String paymentId) {
+        SimpleHttpRequest request = SimpleRequestBuilder
+            .get(portOneClientProperties.getBaseUrl() + "/payments/" + paymentId)
+            .setHeader("Authorization", "PortOne " + apiAuthProperties.getToken())
+            .build();
+
+        CompletableFuture<PortOneGetPaymentResponseDto> result = new CompletableFuture<>();
+
+        portOneAsyncHttpClient.execute(request, new FutureCallback<>() {
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                // 동기 클라이언트와 같이 5xx 응답은 포트원 장애, 4xx 응답은 결제를 찾을 수 없는 것으로 처리
+                if (response.getCode() >= 500) {
+                    result.completeExceptionally(new PortOneUnavailableException(
+                        PortOneException.UNAVAILABLE.getStatus(), PortOneException.UNAVAILABLE.getMessage()));
+                    return;
+                }
+
+                if (response.getCode() >= 400) {
+                    result.completeExceptionally(new PortOneNotFoundPaymentException(
+                        PortOneException.NOTFOUND.getStatus(), PortOneException.NOTFOUND.getMessage()));
+                    return;
+                }
+
+                try {
+                    PortOneGetPaymentResponseDto responseDto = objectMapper.readValue(
+                        response.getBodyText(), PortOneGetPaymentResponseDto.class);
+                    log.info("responseDto: " + responseDto);
+                    result.complete(responseDto);
+                } catch (JsonProcessingException ex) {
+                    result.completeExceptionally(ex);
+                }
+            }
+
+            @Override
+            public void failed(Exception ex) {
+                log.warn("PortOne async request failed - paymentId : {}", paymentId, ex);
+                result.completeExceptionally(new PortOneUnavailableException(
+                    PortOneException.UNAVAILABLE.getStatus(), PortOneException.UNAVAILABLE.getMessage()));
+            }
+
+            @Override
+            public void cancelled() {
+                result.completeExceptionally(new CancellationException("PortOne request cancelled"));
+            }
+        });
+
+        return result;
+    }
+}
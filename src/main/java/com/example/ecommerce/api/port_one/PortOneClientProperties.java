@@ -0,0 +1,36 @@
+package com.example.ecommerce.api.port_one;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 포트원 API 호출용 HTTP 클라이언트 설정 (커넥션 풀, 타임아웃)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "port-one-api.client")
+public class PortOneClientProperties {
+
+    private String baseUrl = "https://api.portone.io";
+
+    // 전체 커넥션 수 / 호스트(route)별 커넥션 수 상한
+    private int maxTotal = 100;
+    private int maxPerRoute = 50;
+
+    // TCP 연결 수립 대기 시간
+    private Duration connectTimeout = Duration.ofSeconds(1);
+
+    // 풀에서 커넥션을 빌려오기까지의 대기 시간 (풀이 고갈되면 이 시간 후 실패)
+    private Duration connectionRequestTimeout = Duration.ofMillis(500);
+
+    // 요청 전송 후 응답을 기다리는 시간 / 소켓 읽기 대기 시간
+    private Duration responseTimeout = Duration.ofSeconds(3);
+    private Duration socketTimeout = Duration.ofSeconds(3);
+
+    // 유휴 커넥션 정리 주기와 재사용 전 유효성 검사 간격, 커넥션 최대 수명
+    private Duration idleTimeout = Duration.ofSeconds(30);
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+    private Duration timeToLive = Duration.ofMinutes(5);
+}
@@ -1,7 +1,9 @@
 package com.example.ecommerce.api.port_one;
 
+import com.example.ecommerce.common.exception.port_one.PortOneCancelPaymentException;
 import com.example.ecommerce.common.exception.port_one.PortOneException;
 import com.example.ecommerce.common.exception.port_one.PortOneNotFoundPaymentException;
+import com.example.ecommerce.common.exception.port_one.PortOneUnavailableException;
 import com.example.ecommerce.dto.port_one.PortOneGetPaymentResponseDto;
 import lombok.AllArgsConstructor;
 import lombok.Setter;
@@ -9,29 +11,43 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Map;
+
 @Component
 @Slf4j
 @AllArgsConstructor
 @Setter
 public class PortOnePayment {
 
-    private final static String PORT_ONE_BASE_URL = "https://api.portone.io";
-
     private final RestTemplate restTemplate;
     private final ApiAuthProperties apiAuthProperties;
+    private final PortOneClientProperties portOneClientProperties;
+    private final PortOneResilience portOneResilience;
 
     public PortOneGetPaymentResponseDto getPayment(String paymentId){
+        return portOneResilience.call(() -> fetchPayment(paymentId));
+    }
+
+    /**
+     * 결제 취소 (주문 저장 실패 시 보상 처리용)
+     */
+    public void cancelPayment(String paymentId, String reason){
+        portOneResilience.run(() -> requestCancel(paymentId, reason));
+    }
+
+    private PortOneGetPaymentResponseDto fetchPayment(String paymentId){
         HttpHeaders headers = new HttpHeaders();
         headers.set("Authorization", "PortOne " + apiAuthProperties.getToken());
 
-        String url = PORT_ONE_BASE_URL + "/payments/" + paymentId;
+        String url = portOneClientProperties.getBaseUrl() + "/payments/" + paymentId;
 
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
@@ -41,11 +57,33 @@ public class PortOnePayment {
             ResponseEntity<PortOneGetPaymentResponseDto> response = restTemplate.exchange(url, HttpMethod.GET, entity, PortOneGetPaymentResponseDto.class);
             responseDto = response.getBody();
             log.info("responseDto: " + responseDto);
-        } catch (HttpClientErrorException | HttpServerErrorException e) {
+        } catch (HttpClientErrorException e) {
             throw new PortOneNotFoundPaymentException(PortOneException.NOTFOUND.getStatus(), PortOneException.NOTFOUND.getMessage());
+        } catch (RestClientException e) {
+            // 5xx 응답/타임아웃/연결 실패는 포트원 장애로 보고 서킷 브레이커 실패율에 집계
+            throw new PortOneUnavailableException(PortOneException.UNAVAILABLE.getStatus(), PortOneException.UNAVAILABLE.getMessage());
         }
 
         return responseDto;
     }
 
+    private void requestCancel(String paymentId, String reason){
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "PortOne " + apiAuthProperties.getToken());
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        String url = portOneClientProperties.getBaseUrl() + "/payments/" + paymentId + "/cancel";
+
+        HttpEntity<Map<String, String>> entity = new HttpEntity<>(Map.of("reason", reason != null ? reason : "주문 처리 실패"), headers);
+
+        try {
+            restTemplate.exchange(url, HttpMethod.POST, entity, String.class);
+            log.info("payment cancelled: " + paymentId);
+        } catch (HttpClientErrorException e) {
+            throw new PortOneCancelPaymentException(PortOneException.CANCEL_FAILED.getStatus(), PortOneException.CANCEL_FAILED.getMessage());
+        } catch (RestClientException e) {
+            throw new PortOneUnavailableException(PortOneException.UNAVAILABLE.getStatus(), PortOneException.UNAVAILABLE.getMessage());
+        }
+    }
+
 }
@@ -0,0 +1,93 @@
+package com.example.ecommerce.api.port_one;
+
+import com.example.ecommerce.common.exception.port_one.PortOneException;
+import com.example.ecommerce.common.exception.port_one.PortOneUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포트원 API 호출 보호 (서킷 브레이커 + 벌크헤드)
+ * 포트원 장애 시 요청 스레드/커넥션이 타임아웃까지 묶이지 않도록 호출 전에 빠르게 실패시킴
+ * 설정은 resilience4j.circuitbreaker.instances.portone.*, resilience4j.bulkhead.instances.portone.*
+ */
+@Component
+@Slf4j
+public class PortOneResilience {
+
+    public static final String INSTANCE_NAME = "portone";
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    public PortOneResilience(CircuitBreakerRegistry circuitBreakerRegistry,
+        BulkheadRegistry bulkheadRegistry) {
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE_NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(INSTANCE_NAME);
+
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+            log.warn("PortOne circuit breaker state transition : {}",
+                event.getStateTransition()));
+    }
+
+    /**
+     * 벌크헤드가 가장 바깥에 위치하므로 동시 호출 초과로 거절된 요청은 서킷 브레이커의 실패율에 포함되지 않음
+     */
+    public <T> T call(Supplier<T> supplier) {
+        Supplier<T> decorated = Bulkhead.decorateSupplier(bulkhead,
+            CircuitBreaker.decorateSupplier(circuitBreaker, supplier));
+
+        try {
+            return decorated.get();
+        } catch (CallNotPermittedException | BulkheadFullException ex) {
+            throw unavailable(ex);
+        }
+    }
+
+    public void run(Runnable runnable) {
+        call(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    public <T> CompletableFuture<T> callAsync(Supplier<CompletionStage<T>> supplier) {
+        Supplier<CompletionStage<T>> decorated = Bulkhead.decorateCompletionStage(bulkhead,
+            CircuitBreaker.decorateCompletionStage(circuitBreaker, supplier));
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        decorated.get().whenComplete((value, ex) -> {
+            if (ex == null) {
+                result.complete(value);
+                return;
+            }
+
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null
+                ? ex.getCause() : ex;
+            result.completeExceptionally(
+                cause instanceof CallNotPermittedException || cause instanceof BulkheadFullException
+                    ? unavailable(cause) : cause);
+        });
+
+        return result;
+    }
+
+    private PortOneUnavailableException unavailable(Throwable cause) {
+        log.warn("PortOne call rejected - circuitBreakerState : {}, availableConcurrentCalls : {}, cause : {}",
+            circuitBreaker.getState(), bulkhead.getMetrics().getAvailableConcurrentCalls(),
+            cause.getMessage());
+
+        return new PortOneUnavailableException(PortOneException.UNAVAILABLE.getStatus(),
+            PortOneException.UNAVAILABLE.getMessage());
+    }
+}
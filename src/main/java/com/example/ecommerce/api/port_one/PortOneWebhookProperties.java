@@ -0,0 +1,21 @@
+package com.example.ecommerce.api.port_one;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 포트원 웹훅 수신 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "port-one-api.webhook")
+public class PortOneWebhookProperties {
+
+    // 포트원 콘솔에서 발급한 웹훅 시크릿 (whsec_ 로 시작하는 base64 문자열)
+    private String secret;
+
+    // 재전송 공격 방지를 위해 허용하는 webhook-timestamp 와 서버 시각의 차이
+    private Duration tolerance = Duration.ofMinutes(5);
+}
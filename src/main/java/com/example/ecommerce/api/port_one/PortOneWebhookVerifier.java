@@ -0,0 +1,107 @@
+package com.example.ecommerce.api.port_one;
+
+import com.example.ecommerce.common.exception.port_one.PortOneException;
+import com.example.ecommerce.common.exception.port_one.PortOneInvalidWebhookException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포트원 V2 웹훅 서명 검증 (Standard Webhooks 규격)
+ * 서명 대상 : "{webhook-id}.{webhook-timestamp}.{body}" 를 시크릿으로 HMAC-SHA256 한 값 (base64)
+ * webhook-signature 헤더에는 "v1,{서명}" 이 공백으로 구분되어 여러 개 올 수 있음 (시크릿 교체 기간)
+ */
+@Component
+@Slf4j
+public class PortOneWebhookVerifier {
+
+    private static final String SECRET_PREFIX = "whsec_";
+    private static final String SIGNATURE_VERSION = "v1,";
+
+    private final PortOneWebhookProperties portOneWebhookProperties;
+    private final Clock clock;
+
+    @Autowired
+    public PortOneWebhookVerifier(PortOneWebhookProperties portOneWebhookProperties) {
+        this(portOneWebhookProperties, Clock.systemUTC());
+    }
+
+    PortOneWebhookVerifier(PortOneWebhookProperties portOneWebhookProperties, Clock clock) {
+        this.portOneWebhookProperties = portOneWebhookProperties;
+        this.clock = clock;
+    }
+
+    public void verify(String webhookId, String webhookTimestamp, String webhookSignature,
+        String body) {
+        if (webhookId == null || webhookTimestamp == null || webhookSignature == null) {
+            throw invalid("missing webhook headers");
+        }
+
+        long timestamp;
+        try {
+            timestamp = Long.parseLong(webhookTimestamp);
+        } catch (NumberFormatException ex) {
+            throw invalid("invalid webhook-timestamp : " + webhookTimestamp);
+        }
+
+        long skewSeconds = Math.abs(Instant.now(clock).getEpochSecond() - timestamp);
+        if (skewSeconds > portOneWebhookProperties.getTolerance().toSeconds()) {
+            throw invalid("webhook-timestamp out of tolerance : " + webhookTimestamp);
+        }
+
+        byte[] expected = sign(webhookId + "." + webhookTimestamp + "." + body);
+
+        for (String signature : webhookSignature.split(" ")) {
+            if (!signature.startsWith(SIGNATURE_VERSION)) {
+                continue;
+            }
+
+            byte[] actual;
+            try {
+                actual = Base64.getDecoder().decode(signature.substring(SIGNATURE_VERSION.length()));
+            } catch (IllegalArgumentException ex) {
+                continue;
+            }
+
+            // 타이밍 공격 방지를 위해 고정 시간 비교
+            if (MessageDigest.isEqual(expected, actual)) {
+                return;
+            }
+        }
+
+        throw invalid("webhook signature mismatch - webhookId : " + webhookId);
+    }
+
+    byte[] sign(String content) {
+        String secret = portOneWebhookProperties.getSecret();
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("port-one-api.webhook.secret is not configured");
+        }
+
+        byte[] key = Base64.getDecoder().decode(secret.startsWith(SECRET_PREFIX)
+            ? secret.substring(SECRET_PREFIX.length()) : secret);
+
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac.doFinal(content.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HmacSHA256 is not available", ex);
+        }
+    }
+
+    private PortOneInvalidWebhookException invalid(String reason) {
+        log.warn("PortOne webhook rejected - {}", reason);
+
+        return new PortOneInvalidWebhookException(PortOneException.INVALID_WEBHOOK.getStatus(),
+            PortOneException.INVALID_WEBHOOK.getMessage());
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.ecommerce.common.cache;
+
+/**
+ * L1 캐시 무효화 메시지 (key 가 null 이면 캐시 전체 무효화)
+ */
+public record CacheInvalidationMessage(
+    String origin,
+    String cacheName,
+    String key
+) {
+
+}
@@ -0,0 +1,127 @@
+package com.example.ecommerce.common.cache;
+
+import com.example.ecommerce.config.TwoLevelCacheProperties;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상품 목록 캐시의 세대(generation) 번호 (Redis 에 저장해 모든 노드가 공유)
+ * 목록 캐시 key 에 세대 번호가 포함되므로, 상품이 바뀌면 번호만 올려 이전 세대의 key 를 전부 무효화 (O(1))
+ * 이전 세대 항목은 더 이상 조회되지 않고 캐시 TTL 로 자연스럽게 정리됨
+ * key 를 만들 때마다 Redis 를 조회하지 않도록 노드 로컬에 보관하고,
+ * 세대를 올린 노드가 L1 무효화 채널로 알리면 다른 노드는 Redis 에서 다시 읽음 (메시지를 놓쳐도 localTtl 이후 다시 읽음)
+ * 역색인을 쓰는 경우에는 역색인 동기화 메시지에 세대 번호를 실어 보내고, 각 노드는 색인을 갱신한 뒤에 세대를 올림 (bumpAndPublish)
+ */
+@Slf4j
+@Component
+public class ProductCacheGeneration {
+
+    static final String GENERATION_KEY = "products:generation";
+    static final String CACHE_NAME = "products";
+    private static final RedisScript<Long> BUMP_AND_PUBLISH_SCRIPT = script();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TwoLevelCacheManager cacheManager;
+    private final long refreshIntervalNanos;
+
+    private volatile LocalGeneration localGeneration;
+
+    public ProductCacheGeneration(StringRedisTemplate stringRedisTemplate,
+        TwoLevelCacheManager cacheManager, TwoLevelCacheProperties properties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cacheManager = cacheManager;
+        this.refreshIntervalNanos = properties.getLocalTtl().toNanos();
+
+        // 다른 노드가 세대를 올리면 L1 을 비우기 전에 세대 번호를 먼저 갱신
+        cacheManager.addClearListener(CACHE_NAME, this::refresh);
+    }
+
+    public long current() {
+        LocalGeneration generation = localGeneration;
+
+        if (generation == null || System.nanoTime() - generation.loadedAt() > refreshIntervalNanos) {
+            return refresh();
+        }
+        return generation.value();
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 후에 세대를 올림
+     * (커밋 전에 올리면 다른 요청이 변경 전 데이터를 새 세대 key 로 캐싱할 수 있음)
+     * 역색인을 쓰지 않을 때만 사용 (역색인을 쓰면 ProductSearchIndexSynchronizer 가 bumpAndPublish 로 올림)
+     */
+    public void bump() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increment();
+            }
+        });
+    }
+
+    /**
+     * 세대를 올리고 같은 Lua 스크립트에서 "{message}:{세대}" 를 발행해, 메시지가 세대 순서대로 전달되도록 함
+     * 로컬 세대는 여기서 올리지 않고 자신이 보낸 메시지를 받을 때 advanceTo 로 올림
+     * (다른 노드가 먼저 올린 세대의 변경이 이 노드의 색인에 반영되기 전에 세대가 앞서지 않도록)
+     */
+    public long bumpAndPublish(String channel, String message) {
+        Long generation = stringRedisTemplate.execute(BUMP_AND_PUBLISH_SCRIPT,
+            List.of(GENERATION_KEY), channel, message);
+        log.debug("Product cache generation bumped - generation : {}", generation);
+        return generation == null ? 0L : generation;
+    }
+
+    /**
+     * 역색인 동기화 메시지를 받은 순서대로 로컬 세대를 올리고 이 노드의 L1 을 비움
+     * 각 노드가 같은 메시지로 직접 비우므로 L1 무효화 채널로 알리지 않음
+     */
+    public synchronized void advanceTo(long generation) {
+        LocalGeneration current = localGeneration;
+        if (current != null && current.value() >= generation) {
+            return;
+        }
+
+        localGeneration = new LocalGeneration(generation, System.nanoTime());
+        cacheManager.clearLocalOnly(CACHE_NAME);
+    }
+
+    private long refresh() {
+        String value = stringRedisTemplate.opsForValue().get(GENERATION_KEY);
+        long generation = value == null ? 0L : Long.parseLong(value);
+
+        localGeneration = new LocalGeneration(generation, System.nanoTime());
+        return generation;
+    }
+
+    private void increment() {
+        Long generation = stringRedisTemplate.opsForValue().increment(GENERATION_KEY);
+        localGeneration = new LocalGeneration(generation == null ? 0L : generation,
+            System.nanoTime());
+
+        // 이전 세대 항목은 더 이상 조회되지 않으므로 모든 노드의 L1 을 비워 메모리를 돌려받음
+        cacheManager.clearLocal(CACHE_NAME);
+        log.debug("Product cache generation bumped - generation : {}", generation);
+    }
+
+    private static RedisScript<Long> script() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource("redis/product/bump-generation.lua"));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    private record LocalGeneration(long value, long loadedAt) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.ecommerce.common.cache;
+
+import java.lang.reflect.Method;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 목록 캐시 key : {메서드}:g{세대}:{파라미터...}
+ * Pageable 은 page, size, sort 를 모두 key 에 포함해 페이지/크기/정렬마다 다른 항목으로 캐싱
+ */
+@Component("productListKeyGenerator")
+@RequiredArgsConstructor
+public class ProductListKeyGenerator implements KeyGenerator {
+
+    private final ProductCacheGeneration productCacheGeneration;
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        StringJoiner key = new StringJoiner(":");
+        key.add(method.getName());
+        key.add("g" + productCacheGeneration.current());
+
+        for (Object param : params) {
+            key.add(param instanceof Pageable pageable ? toKey(pageable) : String.valueOf(param));
+        }
+
+        return key.toString();
+    }
+
+    private String toKey(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return "unpaged";
+        }
+
+        String sort = pageable.getSort().stream()
+            .map(order -> order.getProperty() + "," + order.getDirection())
+            .collect(Collectors.joining(";"));
+
+        return pageable.getPageNumber() + ":" + pageable.getPageSize() + ":"
+            + (sort.isEmpty() ? "unsorted" : sort);
+    }
+}
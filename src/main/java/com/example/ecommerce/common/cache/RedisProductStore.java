@@ -0,0 +1,108 @@
+package com.example.ecommerce.common.cache;
+
+import com.example.ecommerce.entity.Product;
+import com.example.ecommerce.entity.RedisProduct;
+import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.repository.RedisProductRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상품 단건 조회용 Redis hash 저장소 (RedisProduct, key : product:{id})
+ * - 조회 : hash 가 없으면 DB 에서 읽어 채움 (read-through)
+ * - 변경 : 커밋 이후 hash 에 반영 (write-through), 재고는 stockQuantity 필드만 HSET
+ * Redis 장애 시 조회는 DB 로 대체하고 쓰기 실패는 무시 (hash TTL 이후 다시 채워짐)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisProductStore {
+
+    private static final String KEY_PREFIX = "product:";
+    private static final String STOCK_QUANTITY_FIELD = "stockQuantity";
+
+    private static final RedisScript<Long> HSET_IF_EXISTS_SCRIPT = script();
+
+    private final RedisProductRepository redisProductRepository;
+    private final ProductRepository productRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public Optional<RedisProduct> find(Long id) {
+        try {
+            return redisProductRepository.findById(id);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to read cached product - id : {}, cause : {}", id, ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 조회 경로에서 DB 로 읽은 상품을 hash 에 채우고 반환
+     */
+    public RedisProduct load(Product product) {
+        RedisProduct redisProduct = RedisProduct.from(product);
+        write(() -> redisProductRepository.save(redisProduct), product.getId());
+        return redisProduct;
+    }
+
+    public void save(Product product) {
+        // 엔티티는 커밋 이후 바뀔 수 있으므로 현재 값으로 미리 변환
+        RedisProduct redisProduct = RedisProduct.from(product);
+        afterCommit(() -> write(() -> redisProductRepository.save(redisProduct), product.getId()));
+    }
+
+    public void delete(Long id) {
+        afterCommit(() -> write(() -> redisProductRepository.deleteById(id), id));
+    }
+
+    /**
+     * DB 에 반영된 재고로 캐싱된 상품의 stockQuantity 필드만 갱신
+     * 차감량이 아닌 현재 재고 값을 쓰므로 같은 이벤트가 중복 처리되어도 결과가 같음
+     * 캐싱되지 않은 상품은 건너뜀 (다음 조회 시 DB 에서 채워짐)
+     */
+    public void refreshStockQuantities(Collection<Long> productIds) {
+        afterCommit(() -> productRepository.findAllById(productIds).forEach(product ->
+            write(() -> stringRedisTemplate.execute(HSET_IF_EXISTS_SCRIPT,
+                List.of(KEY_PREFIX + product.getId()), STOCK_QUANTITY_FIELD,
+                String.valueOf(product.getStockQuantity())), product.getId())));
+    }
+
+    private void write(Runnable command, Long id) {
+        try {
+            command.run();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to write cached product - id : {}, cause : {}", id, ex.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable command) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            command.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                command.run();
+            }
+        });
+    }
+
+    private static RedisScript<Long> script() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource("redis/product/hset-if-exists.lua"));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.ecommerce.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+/**
+ * L1(Caffeine, 노드 로컬) -> L2(Redis) 순서로 조회하는 캐시
+ * L1 에 없으면 L2 값을 L1 에 채우고, 무효화 시 L2 -> L1 순으로 제거한 뒤 다른 노드에 L1 무효화를 알림
+ * L1 key 는 Redis key 와 같은 문자열 형태로 맞춰 노드 간 메시지의 key 와 비교
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final Cache remoteCache;
+    private final BiConsumer<String, String> invalidationPublisher;
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    public TwoLevelCache(String name,
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache, Cache remoteCache,
+        BiConsumer<String, String> invalidationPublisher, MeterRegistry meterRegistry) {
+        super(true);
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationPublisher = invalidationPublisher;
+
+        this.localHits = counter(meterRegistry, "l1", "hit");
+        this.localMisses = counter(meterRegistry, "l1", "miss");
+        this.remoteHits = counter(meterRegistry, "l2", "hit");
+        this.remoteMisses = counter(meterRegistry, "l2", "miss");
+
+        gauge(meterRegistry, "l1", localHits, localMisses);
+        gauge(meterRegistry, "l2", remoteHits, remoteMisses);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = localKey(key);
+        Object storeValue = localCache.getIfPresent(localKey);
+
+        if (storeValue != null) {
+            localHits.increment();
+            return storeValue;
+        }
+        localMisses.increment();
+
+        ValueWrapper remoteValue = remoteCache.get(key);
+        if (remoteValue == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+
+        storeValue = toStoreValue(remoteValue.get());
+        localCache.put(localKey, storeValue);
+        return storeValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        T value = remoteCache.get(key, valueLoader);
+        localCache.put(localKey(key), toStoreValue(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, value);
+        localCache.put(localKey(key), toStoreValue(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        evictLocal(localKey(key));
+        invalidationPublisher.accept(name, localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        clearLocal();
+        invalidationPublisher.accept(name, null);
+    }
+
+    // 다른 노드의 무효화 메시지 처리 (L2 는 이미 제거되었으므로 L1 만 제거)
+    void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    private String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String level, String result) {
+        return Counter.builder("cache.level.gets")
+            .tag("cache", name)
+            .tag("level", level)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private void gauge(MeterRegistry meterRegistry, String level, Counter hits, Counter misses) {
+        Gauge.builder("cache.level.hit.ratio", () -> {
+                double total = hits.count() + misses.count();
+                return total == 0 ? 0 : hits.count() / total;
+            })
+            .tag("cache", name)
+            .tag("level", level)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.ecommerce.common.cache;
+
+import com.example.ecommerce.config.TwoLevelCacheProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Redis CacheManager(L2) 앞에 노드 로컬 L1 을 두는 CacheManager
+ * 무효화는 Redis pub/sub 으로 다른 노드에 전파하고, 자신이 보낸 메시지는 무시
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private final CacheManager remoteCacheManager;
+    private final TwoLevelCacheProperties properties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // 노드 식별자 (자신이 보낸 무효화 메시지 구분)
+    private final String origin = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, List<Runnable>> clearListeners = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+        TwoLevelCacheProperties properties, StringRedisTemplate stringRedisTemplate,
+        ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.properties = properties;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+
+        return caches.computeIfAbsent(name, cacheName -> new TwoLevelCache(cacheName,
+            Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaximumSize())
+                .expireAfterWrite(properties.getLocalTtl())
+                .build(),
+            remoteCache, this::publishInvalidation, meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * L2 는 그대로 두고 이 노드의 L1 만 비움 (다른 노드는 각자 받은 메시지로 비우는 경우에 사용)
+     */
+    public void clearLocalOnly(String cacheName) {
+        TwoLevelCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.clearLocal();
+        }
+    }
+
+    /**
+     * L2 는 그대로 두고 모든 노드의 L1 만 비움
+     * 세대 번호처럼 key 자체가 바뀌어 L2 의 이전 항목은 TTL 로 정리되는 캐시에서 사용
+     */
+    public void clearLocal(String cacheName) {
+        TwoLevelCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.clearLocal();
+        }
+        publishInvalidation(cacheName, null);
+    }
+
+    /**
+     * 다른 노드에서 캐시 전체 무효화 메시지를 받았을 때, L1 을 비우기 전에 실행할 작업을 등록
+     */
+    public void addClearListener(String cacheName, Runnable listener) {
+        clearListeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>())
+            .add(listener);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationMessage invalidation;
+
+        try {
+            invalidation = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+        } catch (Exception ex) {
+            log.warn("Invalid cache invalidation message - cause : {}", ex.getMessage());
+            return;
+        }
+
+        if (origin.equals(invalidation.origin())) {
+            return;
+        }
+
+        if (invalidation.key() == null) {
+            clearListeners.getOrDefault(invalidation.cacheName(), List.of())
+                .forEach(Runnable::run);
+        }
+
+        TwoLevelCache cache = caches.get(invalidation.cacheName());
+        if (cache == null) {
+            return;
+        }
+
+        if (invalidation.key() == null) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(invalidation.key());
+        }
+        log.debug("Local cache invalidated - cacheName : {}, key : {}",
+            invalidation.cacheName(), invalidation.key());
+    }
+
+    /**
+     * 메시지 전송에 실패해도 요청은 실패시키지 않음 (다른 노드의 L1 은 localTtl 이후 갱신)
+     */
+    private void publishInvalidation(String cacheName, String key) {
+        try {
+            stringRedisTemplate.convertAndSend(properties.getInvalidationChannel(),
+                objectMapper.writeValueAsString(
+                    new CacheInvalidationMessage(origin, cacheName, key)));
+        } catch (JsonProcessingException | RuntimeException ex) {
+            log.warn("Failed to publish cache invalidation - cacheName : {}, key : {}, cause : {}",
+                cacheName, key, ex.getMessage());
+        }
+    }
+}
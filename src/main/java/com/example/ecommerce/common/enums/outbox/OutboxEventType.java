@@ -0,0 +1,5 @@
+package com.example.ecommerce.common.enums.outbox;
+
+public enum OutboxEventType {
+    ORDER_PAID, PORTONE_PAYMENT_WEBHOOK, PAYMENT_CANCEL
+}
@@ -0,0 +1,5 @@
+package com.example.ecommerce.common.enums.outbox;
+
+public enum OutboxStatus {
+    PENDING, PUBLISHED, FAILED
+}
@@ -0,0 +1,40 @@
+package com.example.ecommerce.common.enums.product;
+
+import com.example.ecommerce.entity.Product;
+import java.util.Arrays;
+import java.util.function.ToLongFunction;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 커서(keyset) 검색에서 허용하는 정렬 기준
+ * 각 정렬 컬럼은 (컬럼, id) 복합 인덱스를 가져야 함 (id 는 PK)
+ */
+@Getter
+@AllArgsConstructor
+public enum ProductSortKey {
+
+    ID("id", "id", Product::getId),
+    UNIT_PRICE("unitPrice", "unit_price", Product::getUnitPrice);
+
+    private final String property;
+    private final String column;
+    private final ToLongFunction<Product> extractor;
+
+    public long valueOf(Product product) {
+        return extractor.applyAsLong(product);
+    }
+
+    /**
+     * 요청 정렬의 첫 번째 기준으로 결정 (허용하지 않는 속성이거나 정렬이 없으면 id)
+     */
+    public static ProductSortKey from(Sort sort) {
+        return sort.stream()
+            .findFirst()
+            .flatMap(order -> Arrays.stream(values())
+                .filter(sortKey -> sortKey.property.equals(order.getProperty()))
+                .findFirst())
+            .orElse(ID);
+    }
+}
@@ -3,10 +3,17 @@ package com.example.ecommerce.common.exception;
 
 import com.example.ecommerce.common.exception.file.FileContentTypeMismatchException;
 import com.example.ecommerce.common.exception.file.FileIsEmptyException;
+import com.example.ecommerce.common.exception.order.OrderCheckoutInProgressException;
+import com.example.ecommerce.common.exception.order.OrderCheckoutUnavailableException;
+import com.example.ecommerce.common.exception.order.OrderInvalidCursorException;
 import com.example.ecommerce.common.exception.order.OrderNotFoundException;
 import com.example.ecommerce.common.exception.order.OrderTotalPriceNotCorrectException;
 import com.example.ecommerce.common.exception.order_item.OrderItemNotFoundException;
+import com.example.ecommerce.common.exception.port_one.PortOneInvalidWebhookException;
 import com.example.ecommerce.common.exception.port_one.PortOneNotFoundPaymentException;
+import com.example.ecommerce.common.exception.port_one.PortOnePaymentMismatchException;
+import com.example.ecommerce.common.exception.port_one.PortOneUnavailableException;
+import com.example.ecommerce.common.exception.product.ProductInvalidCursorException;
 import com.example.ecommerce.common.exception.product.ProductNotFoundException;
 import com.example.ecommerce.common.exception.product.ProductOutOfStockException;
 import com.example.ecommerce.common.exception.review.ReviewAlreadyExistsException;
@@ -124,6 +131,14 @@ public class GlobalExceptionHandler {
         return errorResponse(ex.getStatus(), ex.getMessage());
     }
 
+    @ExceptionHandler(ProductInvalidCursorException.class)
+    public ResponseEntity<Map<String, Object>> handleProductInvalidCursorException(
+        ProductInvalidCursorException ex) {
+        log.warn("ProductInvalidCursorException 발생: {}", ex.getMessage(), ex);
+
+        return errorResponse(ex.getStatus(), ex.getMessage());
+    }
+
     /**
      * Order Exception
      */
@@ -143,6 +158,30 @@ public class GlobalExceptionHandler {
         return errorResponse(ex.getStatus(), ex.getMessage());
     }
 
+    @ExceptionHandler(OrderCheckoutInProgressException.class)
+    public ResponseEntity<Map<String, Object>> handleOrderCheckoutInProgressException(
+        OrderCheckoutInProgressException ex) {
+        log.warn("OrderCheckoutInProgressException 발생: {}", ex.getMessage(), ex);
+
+        return errorResponse(ex.getStatus(), ex.getMessage());
+    }
+
+    @ExceptionHandler(OrderCheckoutUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleOrderCheckoutUnavailableException(
+        OrderCheckoutUnavailableException ex) {
+        log.warn("OrderCheckoutUnavailableException 발생: {}", ex.getMessage(), ex);
+
+        return errorResponse(ex.getStatus(), ex.getMessage());
+    }
+
+    @ExceptionHandler(OrderInvalidCursorException.class)
+    public ResponseEntity<Map<String, Object>> handleOrderInvalidCursorException(
+        OrderInvalidCursorException ex) {
+        log.warn("OrderInvalidCursorException 발생: {}", ex.getMessage(), ex);
+
+        return errorResponse(ex.getStatus(), ex.getMessage());
+    }
+
     /**
      * OrderItem Exception
      */
@@ -165,6 +204,30 @@ public class GlobalExceptionHandler {
         return errorResponse(ex.getStatus(), ex.getMessage());
     }
 
+    @ExceptionHandler(PortOnePaymentMismatchException.class)
+    public ResponseEntity<Map<String, Object>> handlePortOnePaymentMismatchException(
+        PortOnePaymentMismatchException ex) {
+        log.warn("PortOnePaymentMismatchException 발생: {}", ex.getMessage(), ex);
+
+        return errorResponse(ex.getStatus(), ex.getMessage());
+    }
+
+    @ExceptionHandler(PortOneInvalidWebhookException.class)
+    public ResponseEntity<Map<String, Object>> handlePortOneInvalidWebhookException(
+        PortOneInvalidWebhookException ex) {
+        log.warn("PortOneInvalidWebhookException 발생: {}", ex.getMessage(), ex);
+
+        return errorResponse(ex.getStatus(), ex.getMessage());
+    }
+
+    @ExceptionHandler(PortOneUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handlePortOneUnavailableException(
+        PortOneUnavailableException ex) {
+        log.warn("PortOneUnavailableException 발생: {}", ex.getMessage(), ex);
+
+        return errorResponse(ex.getStatus(), ex.getMessage());
+    }
+
     /**
      * Review Exception
      */
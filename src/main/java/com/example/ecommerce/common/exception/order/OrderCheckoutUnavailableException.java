@@ -0,0 +1,14 @@
+package com.example.ecommerce.common.exception.order;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class OrderCheckoutUnavailableException extends RuntimeException {
+    private final HttpStatus status;
+
+    public OrderCheckoutUnavailableException(HttpStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+}
@@ -9,7 +9,11 @@ import org.springframework.http.HttpStatus;
 public enum OrderException {
 
     NOT_CORRECT("총 가격이 알맞지 않습니다.", HttpStatus.BAD_REQUEST),
-    NOTFOUND("주문을 찾을 수 없습니다.",HttpStatus.NOT_FOUND);
+    NOTFOUND("주문을 찾을 수 없습니다.",HttpStatus.NOT_FOUND),
+    IN_PROGRESS("동일한 결제로 주문이 처리 중입니다. 잠시 후 다시 시도해 주세요.", HttpStatus.CONFLICT),
+    UNAVAILABLE("주문 처리가 지연되고 있습니다. 잠시 후 주문 내역을 확인해 주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    BUSY("주문 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    INVALID_CURSOR("유효하지 않은 주문 내역 커서입니다.", HttpStatus.BAD_REQUEST);
 
     private final String message;
     private final HttpStatus status;
@@ -0,0 +1,14 @@
+package com.example.ecommerce.common.exception.order;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class OrderInvalidCursorException extends RuntimeException {
+    private final HttpStatus status;
+
+    public OrderInvalidCursorException(HttpStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+}
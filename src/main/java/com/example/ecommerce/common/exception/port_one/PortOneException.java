@@ -8,7 +8,11 @@ import org.springframework.http.HttpStatus;
 @AllArgsConstructor
 public enum PortOneException {
 
-    NOTFOUND("결제 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
+    NOTFOUND("결제 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    MISMATCH("결제 정보가 주문과 일치하지 않습니다.", HttpStatus.BAD_REQUEST),
+    CANCEL_FAILED("결제 취소에 실패했습니다.", HttpStatus.BAD_GATEWAY),
+    UNAVAILABLE("결제 서비스가 일시적으로 원활하지 않습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    INVALID_WEBHOOK("유효하지 않은 웹훅 요청입니다.", HttpStatus.UNAUTHORIZED);
 
     private final String message;
     private final HttpStatus status;
@@ -0,0 +1,15 @@
+package com.example.ecommerce.common.exception.port_one;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class PortOnePaymentMismatchException extends RuntimeException{
+
+    private final HttpStatus status;
+
+    public PortOnePaymentMismatchException(HttpStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+}
@@ -9,7 +9,9 @@ import org.springframework.http.HttpStatus;
 public enum ProductException {
 
     NOTFOUND("상품을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
-    OUT_OF_STOCK("상품의 재고가 부족합니다.", HttpStatus.BAD_REQUEST);
+    OUT_OF_STOCK("상품의 재고가 부족합니다.", HttpStatus.BAD_REQUEST),
+    RESERVATION_EXPIRED("재고 선점 시간이 만료되었습니다. 다시 주문해 주세요.", HttpStatus.CONFLICT),
+    INVALID_CURSOR("유효하지 않은 검색 커서입니다.", HttpStatus.BAD_REQUEST);
 
     private final String message;
     private final HttpStatus status;
@@ -0,0 +1,15 @@
+package com.example.ecommerce.common.exception.product;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class ProductInvalidCursorException extends RuntimeException {
+    private final HttpStatus status;
+
+    public ProductInvalidCursorException(HttpStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.example.ecommerce.common.idempotency;
+
+import java.util.Optional;
+
+/**
+ * 결제 ID(paymentId) 단위로 주문 처리 상태(처리 중 / 완료)를 기록해 재시도 요청을 중복 처리하지 않도록 함
+ * claimToken 은 처리 권한을 획득한 요청마다 새로 만든 값으로, abort 시 자신이 획득한 처리 중 표시만 지우기 위해 사용
+ */
+public interface CheckoutIdempotencyStore {
+
+    /**
+     * 결제 ID 로 주문 처리를 시작
+     * - 이미 완료된 결제면 기존 주문 ID 를 반환
+     * - 다른 요청이 처리 중이면 완료될 때까지 기다린 뒤 그 주문 ID 를 반환
+     * - 비어 있는 Optional 을 반환하면 이번 요청이 처리 권한을 획득한 것 (complete 또는 abort 를 반드시 호출)
+     */
+    Optional<Long> begin(String paymentId, String claimToken);
+
+    /**
+     * 기다리지 않는 begin (제한된 스레드 풀에서 호출하는 비동기 주문용)
+     * 다른 요청이 처리 중이면 바로 OrderCheckoutInProgressException(409) 을 던짐
+     */
+    Optional<Long> tryBegin(String paymentId, String claimToken);
+
+    void complete(String paymentId, Long orderId);
+
+    void abort(String paymentId, String claimToken);
+}
@@ -0,0 +1,128 @@
+package com.example.ecommerce.common.idempotency;
+
+import com.example.ecommerce.common.exception.order.OrderCheckoutInProgressException;
+import com.example.ecommerce.common.exception.order.OrderException;
+import com.example.ecommerce.config.CheckoutIdempotencyProperties;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리 기반 멱등성 저장소 (단일 인스턴스 실행용)
+ * 처리 중인 요청은 CompletableFuture 로 표현해, 동시 요청이 폴링 없이 완료를 기다림
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "checkout.idempotency.mode", havingValue = "local")
+public class LocalCheckoutIdempotencyStore implements CheckoutIdempotencyStore {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final CheckoutIdempotencyProperties properties;
+
+    @Override
+    public Optional<Long> begin(String paymentId, String claimToken) {
+        long deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+
+        while (true) {
+            Entry newEntry = new Entry(new CompletableFuture<>(), claimToken,
+                System.currentTimeMillis() + properties.getInFlightTtl().toMillis());
+            Entry existing = entries.putIfAbsent(paymentId, newEntry);
+
+            if (existing == null) {
+                return Optional.empty();
+            }
+
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                return Optional.of(existing.orderId().get(remaining, TimeUnit.NANOSECONDS));
+            } catch (ExecutionException e) {
+                // 처리 중이던 요청이 실패(abort)했으므로 다시 획득을 시도
+                log.debug("Previous checkout aborted, retrying - paymentId : {}", paymentId);
+            } catch (TimeoutException e) {
+                throw inProgress();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw inProgress();
+            }
+        }
+    }
+
+    @Override
+    public Optional<Long> tryBegin(String paymentId, String claimToken) {
+        Entry newEntry = new Entry(new CompletableFuture<>(), claimToken,
+            System.currentTimeMillis() + properties.getInFlightTtl().toMillis());
+        Entry existing = entries.putIfAbsent(paymentId, newEntry);
+
+        if (existing == null) {
+            return Optional.empty();
+        }
+
+        // 완료된 결제만 바로 반환하고, 처리 중이거나 방금 실패한 결제는 기다리지 않고 409 응답
+        CompletableFuture<Long> orderId = existing.orderId();
+        if (orderId.isDone() && !orderId.isCompletedExceptionally()) {
+            return Optional.of(orderId.join());
+        }
+        throw inProgress();
+    }
+
+    @Override
+    public void complete(String paymentId, Long orderId) {
+        Entry completed = new Entry(CompletableFuture.completedFuture(orderId), null,
+            System.currentTimeMillis() + properties.getCompletedTtl().toMillis());
+        Entry previous = entries.put(paymentId, completed);
+
+        if (previous != null) {
+            previous.orderId().complete(orderId);
+        }
+    }
+
+    /**
+     * 이번 요청이 획득한 처리 중 기록일 때만 제거 (만료 후 다른 요청이 획득한 기록은 그대로 둠)
+     */
+    @Override
+    public void abort(String paymentId, String claimToken) {
+        Entry previous = entries.get(paymentId);
+
+        if (previous != null && claimToken.equals(previous.claimToken())
+            && entries.remove(paymentId, previous)) {
+            previous.orderId().completeExceptionally(
+                new IllegalStateException("checkout aborted : " + paymentId));
+        }
+    }
+
+    /**
+     * 보관 시간이 지난 기록 정리 (처리 중 상태로 남은 기록은 abort 처리해 대기 중인 요청이 재시도하도록 함)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+
+        entries.forEach((paymentId, entry) -> {
+            if (entry.expiresAt() < now && entries.remove(paymentId, entry)) {
+                entry.orderId().completeExceptionally(
+                    new IllegalStateException("checkout expired : " + paymentId));
+            }
+        });
+    }
+
+    private OrderCheckoutInProgressException inProgress() {
+        return new OrderCheckoutInProgressException(OrderException.IN_PROGRESS.getStatus(),
+            OrderException.IN_PROGRESS.getMessage());
+    }
+
+    // claimToken : 처리 중 기록을 획득한 요청의 토큰 (완료 기록은 null)
+    private record Entry(CompletableFuture<Long> orderId, String claimToken, long expiresAt) {
+
+    }
+}
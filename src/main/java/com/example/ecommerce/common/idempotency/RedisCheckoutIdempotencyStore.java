@@ -0,0 +1,126 @@
+package com.example.ecommerce.common.idempotency;
+
+import com.example.ecommerce.common.exception.order.OrderCheckoutInProgressException;
+import com.example.ecommerce.common.exception.order.OrderException;
+import com.example.ecommerce.config.CheckoutIdempotencyProperties;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 기반 멱등성 저장소 (여러 노드 간 공유)
+ * key : checkout:payment:{paymentId}, value : IN_FLIGHT:{claimToken} 또는 주문 ID
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "checkout.idempotency.mode", havingValue = "redis", matchIfMissing = true)
+public class RedisCheckoutIdempotencyStore implements CheckoutIdempotencyStore {
+
+    private static final String KEY_PREFIX = "checkout:payment:";
+    private static final String IN_FLIGHT_PREFIX = "IN_FLIGHT:";
+
+    private static final RedisScript<Long> COMPARE_AND_DELETE_SCRIPT = script();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CheckoutIdempotencyProperties properties;
+
+    @Override
+    public Optional<Long> begin(String paymentId, String claimToken) {
+        long deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+
+        while (true) {
+            Attempt attempt = attempt(paymentId, claimToken);
+
+            if (!attempt.inFlight()) {
+                return Optional.ofNullable(attempt.orderId());
+            }
+
+            if (System.nanoTime() > deadline) {
+                throw inProgress();
+            }
+
+            sleep();
+        }
+    }
+
+    @Override
+    public Optional<Long> tryBegin(String paymentId, String claimToken) {
+        Attempt attempt = attempt(paymentId, claimToken);
+
+        if (attempt.inFlight()) {
+            throw inProgress();
+        }
+        return Optional.ofNullable(attempt.orderId());
+    }
+
+    @Override
+    public void complete(String paymentId, Long orderId) {
+        stringRedisTemplate.opsForValue()
+            .set(KEY_PREFIX + paymentId, String.valueOf(orderId), properties.getCompletedTtl());
+    }
+
+    @Override
+    public void abort(String paymentId, String claimToken) {
+        Long deleted = stringRedisTemplate.execute(COMPARE_AND_DELETE_SCRIPT,
+            List.of(KEY_PREFIX + paymentId), IN_FLIGHT_PREFIX + claimToken);
+        log.debug("Called - COMPARE_AND_DELETE_SCRIPT, response - deleted : {}", deleted);
+    }
+
+    /**
+     * 처리 권한 획득을 한 번 시도 (획득 / 완료된 주문 ID 확인 / 다른 요청이 처리 중)
+     */
+    private Attempt attempt(String paymentId, String claimToken) {
+        String key = KEY_PREFIX + paymentId;
+
+        Boolean acquired = stringRedisTemplate.opsForValue()
+            .setIfAbsent(key, IN_FLIGHT_PREFIX + claimToken, properties.getInFlightTtl());
+
+        if (Boolean.TRUE.equals(acquired)) {
+            return new Attempt(false, null);
+        }
+
+        String value = stringRedisTemplate.opsForValue().get(key);
+
+        // 처리 중이던 요청이 실패해 key 가 지워졌다면(null) 다시 획득을 시도
+        if (value != null && !value.startsWith(IN_FLIGHT_PREFIX)) {
+            log.debug("Checkout already completed - paymentId : {}, orderId : {}", paymentId,
+                value);
+            return new Attempt(false, Long.valueOf(value));
+        }
+
+        return new Attempt(true, null);
+    }
+
+    private OrderCheckoutInProgressException inProgress() {
+        return new OrderCheckoutInProgressException(OrderException.IN_PROGRESS.getStatus(),
+            OrderException.IN_PROGRESS.getMessage());
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(properties.getPollInterval().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inProgress();
+        }
+    }
+
+    private static RedisScript<Long> script() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource("redis/idempotency/compare-and-delete.lua"));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    private record Attempt(boolean inFlight, Long orderId) {
+
+    }
+}
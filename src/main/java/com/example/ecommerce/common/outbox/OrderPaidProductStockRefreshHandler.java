@@ -0,0 +1,49 @@
+package com.example.ecommerce.common.outbox;
+
+import com.example.ecommerce.common.cache.RedisProductStore;
+import com.example.ecommerce.common.enums.outbox.OutboxEventType;
+import com.example.ecommerce.dto.outbox.OrderPaidEvent;
+import com.example.ecommerce.entity.OutboxEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 완료로 재고가 바뀐 상품의 재고 수량을 단건 조회용 상품 hash 에 갱신 (체크아웃 요청 경로 밖에서 수행)
+ * 캐시 항목을 제거하지 않고 재고 필드만 DB 값으로 덮어쓰며, 목록/검색 캐시의 세대 번호는 올리지 않음
+ * (주문마다 세대 번호를 올리면 모든 노드의 목록/검색 캐시가 체크아웃마다 무효화되므로,
+ * 목록의 재고 수량은 캐시 TTL 동안 지연될 수 있는 표시용 값으로 두고 정확한 재고는 상품 상세/주문 시점에 확인)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderPaidProductStockRefreshHandler implements OutboxEventHandler {
+
+    private final RedisProductStore redisProductStore;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public OutboxEventType eventType() {
+        return OutboxEventType.ORDER_PAID;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        OrderPaidEvent orderPaidEvent = readPayload(event);
+
+        redisProductStore.refreshStockQuantities(orderPaidEvent.productsMap().keySet());
+
+        log.debug("Refreshed product stock quantities - orderId : {}, productIds : {}",
+            orderPaidEvent.orderId(), orderPaidEvent.productsMap().keySet());
+    }
+
+    private OrderPaidEvent readPayload(OutboxEvent event) {
+        try {
+            return objectMapper.readValue(event.getPayload(), OrderPaidEvent.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Invalid ORDER_PAID payload - id : " + event.getId(), ex);
+        }
+    }
+}
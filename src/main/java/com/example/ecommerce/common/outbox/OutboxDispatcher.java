@@ -0,0 +1,118 @@
+package com.example.ecommerce.common.outbox;
+
+import com.example.ecommerce.common.enums.outbox.OutboxEventType;
+import com.example.ecommerce.common.enums.outbox.OutboxStatus;
+import com.example.ecommerce.config.OutboxProperties;
+import com.example.ecommerce.entity.OutboxEvent;
+import com.example.ecommerce.repository.OutboxEventRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 아웃박스의 PENDING 이벤트를 배치로 가져와 제한된 스레드 풀에서 핸들러로 전달
+ * 1. 짧은 트랜잭션으로 SKIP LOCKED 조회 후 lease 설정 (다른 인스턴스와 중복 처리 방지)
+ * 2. 트랜잭션 밖에서 핸들러 실행
+ * 3. 결과를 한 트랜잭션으로 반영 (성공 : PUBLISHED, 실패 : 백오프 후 재시도)
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final Map<OutboxEventType, List<OutboxEventHandler>> handlersByType;
+    private final Executor outboxExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties outboxProperties;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+        List<OutboxEventHandler> handlers, @Qualifier("outboxExecutor") Executor outboxExecutor,
+        PlatformTransactionManager transactionManager, OutboxProperties outboxProperties) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlersByType = handlers.stream()
+            .collect(Collectors.groupingBy(OutboxEventHandler::eventType));
+        this.outboxExecutor = outboxExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.outboxProperties = outboxProperties;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.dispatch-interval-ms:500}")
+    public void dispatch() {
+        List<OutboxEvent> events = claimBatch();
+        if (events.isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<Boolean>> results = events.stream()
+            .map(event -> CompletableFuture.supplyAsync(() -> handle(event), outboxExecutor))
+            .toList();
+
+        List<Long> publishedIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+
+        for (int i = 0; i < events.size(); i++) {
+            if (results.get(i).join()) {
+                publishedIds.add(events.get(i).getId());
+            } else {
+                failedIds.add(events.get(i).getId());
+            }
+        }
+
+        recordResults(publishedIds, failedIds);
+        log.debug("OutboxDispatcher::dispatch - published : {}, failed : {}",
+            publishedIds.size(), failedIds.size());
+    }
+
+    private List<OutboxEvent> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> events = outboxEventRepository.findDispatchable(OutboxStatus.PENDING,
+                now, PageRequest.of(0, outboxProperties.getBatchSize()));
+
+            events.forEach(event -> event.claim(now.plus(outboxProperties.getLease())));
+            return events;
+        });
+    }
+
+    private boolean handle(OutboxEvent event) {
+        try {
+            for (OutboxEventHandler handler : handlersByType.getOrDefault(event.getEventType(),
+                List.of())) {
+                handler.handle(event);
+            }
+            return true;
+        } catch (RuntimeException ex) {
+            log.warn("Outbox event handling failed - id : {}, eventType : {}, attempts : {}",
+                event.getId(), event.getEventType(), event.getAttempts(), ex);
+            return false;
+        }
+    }
+
+    private void recordResults(List<Long> publishedIds, List<Long> failedIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!publishedIds.isEmpty()) {
+                outboxEventRepository.findAllById(publishedIds)
+                    .forEach(OutboxEvent::markPublished);
+            }
+
+            if (!failedIds.isEmpty()) {
+                LocalDateTime now = LocalDateTime.now();
+                for (OutboxEvent event : outboxEventRepository.findAllById(failedIds)) {
+                    event.markRetry(now.plus(outboxProperties.getRetryBackoff()
+                        .multipliedBy(event.getAttempts())), outboxProperties.getMaxAttempts());
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.ecommerce.common.outbox;
+
+import com.example.ecommerce.common.enums.outbox.OutboxEventType;
+import com.example.ecommerce.entity.OutboxEvent;
+import com.example.ecommerce.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 도메인 이벤트를 호출한 쪽의 트랜잭션 안에서 아웃박스 테이블에 기록
+ * 업무 데이터와 이벤트가 함께 커밋되거나 함께 롤백됨
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventAppender {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType eventType, Long aggregateId, Object payload) {
+        try {
+            outboxEventRepository.save(OutboxEvent.of(eventType, aggregateId,
+                objectMapper.writeValueAsString(payload)));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Outbox payload serialization failed - eventType : "
+                + eventType, ex);
+        }
+    }
+}
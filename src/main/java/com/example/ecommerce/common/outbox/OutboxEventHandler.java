@@ -0,0 +1,15 @@
+package com.example.ecommerce.common.outbox;
+
+import com.example.ecommerce.common.enums.outbox.OutboxEventType;
+import com.example.ecommerce.entity.OutboxEvent;
+
+/**
+ * 아웃박스 이벤트 후속 처리기
+ * 같은 이벤트가 두 번 이상 전달될 수 있으므로 (at-least-once) 멱등하게 구현해야 함
+ */
+public interface OutboxEventHandler {
+
+    OutboxEventType eventType();
+
+    void handle(OutboxEvent event);
+}
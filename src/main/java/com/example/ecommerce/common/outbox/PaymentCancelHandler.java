@@ -0,0 +1,62 @@
+package com.example.ecommerce.common.outbox;
+
+import com.example.ecommerce.api.port_one.PortOnePayment;
+import com.example.ecommerce.common.enums.outbox.OutboxEventType;
+import com.example.ecommerce.dto.outbox.PaymentCancelEvent;
+import com.example.ecommerce.entity.OutboxEvent;
+import com.example.ecommerce.repository.PaymentRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 처리 중 바로 취소하지 못한 결제(포트원 장애, 서킷 오픈 등)를 아웃박스 백오프로 다시 취소
+ * 재전달되어도 이미 취소된 결제는 건너뛰고, 그 사이 주문이 저장된 결제는 취소하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentCancelHandler implements OutboxEventHandler {
+
+    private static final String CANCELLED = "CANCELLED";
+
+    private final PortOnePayment portOnePayment;
+    private final PaymentRepository paymentRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public OutboxEventType eventType() {
+        return OutboxEventType.PAYMENT_CANCEL;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        PaymentCancelEvent cancelEvent = readValue(event);
+        String paymentId = cancelEvent.paymentId();
+
+        if (paymentRepository.existsById(paymentId)) {
+            log.warn("Payment is linked to an order, skip cancellation - paymentId : {}",
+                paymentId);
+            return;
+        }
+
+        if (CANCELLED.equals(portOnePayment.getPayment(paymentId).status())) {
+            log.debug("Payment already cancelled - paymentId : {}", paymentId);
+            return;
+        }
+
+        portOnePayment.cancelPayment(paymentId, cancelEvent.reason());
+        log.info("Payment cancelled from outbox - paymentId : {}", paymentId);
+    }
+
+    private PaymentCancelEvent readValue(OutboxEvent event) {
+        try {
+            return objectMapper.readValue(event.getPayload(), PaymentCancelEvent.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Invalid PAYMENT_CANCEL payload - id : "
+                + event.getId(), ex);
+        }
+    }
+}
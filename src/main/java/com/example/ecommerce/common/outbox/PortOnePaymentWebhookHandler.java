@@ -0,0 +1,106 @@
+package com.example.ecommerce.common.outbox;
+
+import com.example.ecommerce.api.port_one.PortOnePayment;
+import com.example.ecommerce.common.enums.outbox.OutboxEventType;
+import com.example.ecommerce.common.exception.order.OrderTotalPriceNotCorrectException;
+import com.example.ecommerce.common.exception.port_one.PortOnePaymentMismatchException;
+import com.example.ecommerce.common.exception.product.ProductNotFoundException;
+import com.example.ecommerce.common.exception.product.ProductOutOfStockException;
+import com.example.ecommerce.common.exception.user.UserNotFoundException;
+import com.example.ecommerce.dto.order.CreateOrderDto;
+import com.example.ecommerce.dto.outbox.PortOnePaymentWebhookEvent;
+import com.example.ecommerce.dto.port_one.PortOneGetPaymentResponseDto;
+import com.example.ecommerce.entity.OutboxEvent;
+import com.example.ecommerce.repository.PaymentRepository;
+import com.example.ecommerce.service.OrderService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포트원 결제 완료 웹훅으로 주문을 확정
+ * 웹훅 본문은 위조/순서 뒤바뀜이 있을 수 있으므로 결제 상태는 항상 포트원 API 로 다시 조회
+ * 결제 금액은 OrderService 에서 서버가 계산한 주문 총액과 비교하며,
+ * 결제의 customData 로 만든 주문이 검증을 통과하지 못하면(금액 불일치, 없는 상품 등) 재시도해도 성공할 수 없으므로 결제를 취소
+ * 그 밖의 실패(포트원 장애, 같은 결제 처리 중 등)는 아웃박스 백오프로 재시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PortOnePaymentWebhookHandler implements OutboxEventHandler {
+
+    private static final String PAID = "PAID";
+
+    private final PortOnePayment portOnePayment;
+    private final PaymentRepository paymentRepository;
+    private final OrderService orderService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public OutboxEventType eventType() {
+        return OutboxEventType.PORTONE_PAYMENT_WEBHOOK;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        PortOnePaymentWebhookEvent webhookEvent = readValue(event.getPayload(),
+            PortOnePaymentWebhookEvent.class, event);
+        String paymentId = webhookEvent.paymentId();
+
+        // 브라우저의 결제 검증 요청이나 이전 웹훅으로 이미 저장된 결제면 포트원 조회 없이 종료
+        if (paymentRepository.existsById(paymentId)) {
+            log.debug("Payment already finalized - paymentId : {}", paymentId);
+            return;
+        }
+
+        PortOneGetPaymentResponseDto paymentDto = portOnePayment.getPayment(paymentId);
+
+        // 취소/실패된 결제 (재고 부족으로 보상 취소된 결제의 재시도 포함)
+        if (!PAID.equals(paymentDto.status())) {
+            log.info("Payment is not paid, skip order creation - paymentId : {}, status : {}",
+                paymentId, paymentDto.status());
+            return;
+        }
+
+        // 주문 정보가 없으면 브라우저의 결제 검증 요청이 저장할 수도 있으므로 취소하지 않고 재시도/실패로 남김
+        if (paymentDto.customData() == null) {
+            throw new IllegalStateException("PortOne payment has no customData - paymentId : "
+                + paymentId);
+        }
+
+        CreateOrderDto createOrderDto = readValue(paymentDto.customData(), CreateOrderDto.class,
+            event);
+        Long orderId;
+
+        try {
+            orderId = orderService.createOrderFromPayment(paymentDto, createOrderDto);
+        } catch (ProductOutOfStockException ex) {
+            // 재고 부족은 OrderService 가 결제 취소(실패 시 취소 재시도 등록)까지 처리함
+            log.info("Order rejected, payment already compensated - paymentId : {}, cause : {}",
+                paymentId, ex.getMessage());
+            return;
+        } catch (PortOnePaymentMismatchException | UserNotFoundException
+                 | ProductNotFoundException | OrderTotalPriceNotCorrectException ex) {
+            log.warn("Order validation failed, cancelling payment - paymentId : {}, cause : {}",
+                paymentId, ex.getMessage());
+
+            // 취소 요청이 실패하면 예외가 전파되어 웹훅 이벤트가 재시도되고, 다음 시도에서 다시 검증 후 취소
+            portOnePayment.cancelPayment(paymentId, ex.getMessage());
+            return;
+        }
+
+        log.info("Order finalized from PortOne webhook - paymentId : {}, orderId : {}",
+            paymentId, orderId);
+    }
+
+    private <T> T readValue(String content, Class<T> type, OutboxEvent event) {
+        try {
+            return objectMapper.readValue(content, type);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Invalid PORTONE_PAYMENT_WEBHOOK payload - id : "
+                + event.getId(), ex);
+        }
+    }
+}
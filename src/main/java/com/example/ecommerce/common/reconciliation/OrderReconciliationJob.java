@@ -0,0 +1,279 @@
+package com.example.ecommerce.common.reconciliation;
+
+import com.example.ecommerce.api.port_one.PortOnePayment;
+import com.example.ecommerce.common.enums.order.OrderStatus;
+import com.example.ecommerce.common.exception.port_one.PortOneNotFoundPaymentException;
+import com.example.ecommerce.config.ReconciliationProperties;
+import com.example.ecommerce.entity.Payment;
+import com.example.ecommerce.entity.ReconciliationCheckpoint;
+import com.example.ecommerce.repository.OrderRepository;
+import com.example.ecommerce.repository.PaymentRepository;
+import com.example.ecommerce.repository.ReconciliationCheckpointRepository;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * PENDING/FAILED 상태로 남은 주문을 포트원 결제 상태와 대사
+ * 1. 체크포인트 이후의 주문 ID 를 keyset 청크로 조회
+ * 2. 제한된 스레드 풀 + 초당 호출 수 제한으로 포트원 결제 상태 조회
+ * 3. 변경할 상태별로 묶어 UPDATE 한 번씩 실행하고 체크포인트를 같은 트랜잭션으로 전진
+ * 포트원 장애 등으로 확인하지 못한 주문이 있으면 체크포인트를 그 주문 앞까지만 전진하고 이번 실행을 멈춤
+ * (다음 실행에서 그 주문부터 다시 확인)
+ */
+@Slf4j
+@Component
+public class OrderReconciliationJob {
+
+    public static final String JOB_NAME = "order-payment-reconciliation";
+
+    private static final List<OrderStatus> TARGET_STATUSES = List.of(OrderStatus.PENDING,
+        OrderStatus.FAILED);
+    private static final List<String> FAILED_PAYMENT_STATUSES = List.of("CANCELLED", "FAILED");
+
+    private final OrderRepository orderRepository;
+    private final PaymentRepository paymentRepository;
+    private final ReconciliationCheckpointRepository checkpointRepository;
+    private final PortOnePayment portOnePayment;
+    private final Executor reconciliationExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final ReconciliationProperties reconciliationProperties;
+    private final RateLimiter rateLimiter;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter scannedCounter;
+    private final Counter errorCounter;
+    private final AtomicLong checkpointGauge = new AtomicLong();
+
+    public OrderReconciliationJob(OrderRepository orderRepository,
+        PaymentRepository paymentRepository,
+        ReconciliationCheckpointRepository checkpointRepository, PortOnePayment portOnePayment,
+        @Qualifier("reconciliationExecutor") Executor reconciliationExecutor,
+        PlatformTransactionManager transactionManager,
+        ReconciliationProperties reconciliationProperties, MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.paymentRepository = paymentRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.portOnePayment = portOnePayment;
+        this.reconciliationExecutor = reconciliationExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reconciliationProperties = reconciliationProperties;
+        this.rateLimiter = RateLimiter.of(JOB_NAME, RateLimiterConfig.custom()
+            .limitForPeriod(reconciliationProperties.getPermitsPerSecond())
+            .limitRefreshPeriod(Duration.ofSeconds(1))
+            .timeoutDuration(Duration.ofMinutes(1))
+            .build());
+
+        this.meterRegistry = meterRegistry;
+        this.scannedCounter = meterRegistry.counter("reconciliation.orders.scanned");
+        this.errorCounter = meterRegistry.counter("reconciliation.orders.errors");
+        meterRegistry.gauge("reconciliation.checkpoint.order.id", checkpointGauge);
+    }
+
+    @Scheduled(fixedDelayString = "${reconciliation.interval-ms:60000}")
+    public void reconcile() {
+        if (!reconciliationProperties.isEnabled()) {
+            return;
+        }
+
+        Long lastOrderId = acquireCheckpoint();
+        if (lastOrderId == null) {
+            log.debug("OrderReconciliationJob::reconcile skipped - running on another instance");
+            return;
+        }
+
+        log.info("OrderReconciliationJob::reconcile execution started - lastOrderId : {}",
+            lastOrderId);
+        LocalDateTime createdBefore = LocalDateTime.now()
+            .minus(reconciliationProperties.getStaleAfter());
+        int chunkSize = reconciliationProperties.getChunkSize();
+
+        try {
+            while (true) {
+                List<Long> orderIds = orderRepository.findReconciliationTargetIds(TARGET_STATUSES,
+                    lastOrderId, createdBefore, PageRequest.of(0, chunkSize));
+
+                if (orderIds.isEmpty()) {
+                    break;
+                }
+
+                ChunkResult chunkResult = verifyChunk(orderIds, lastOrderId);
+                lastOrderId = chunkResult.checkpointOrderId();
+                applyChunk(chunkResult.transitions(), lastOrderId);
+
+                if (chunkResult.unresolved()) {
+                    log.info("OrderReconciliationJob::reconcile paused at unresolved order - lastOrderId : {}",
+                        lastOrderId);
+                    releaseCheckpoint(false);
+                    return;
+                }
+
+                if (orderIds.size() < chunkSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException ex) {
+            // 체크포인트는 마지막으로 커밋된 청크에 남아 있으므로 다음 실행에서 이어서 처리
+            releaseCheckpoint(false);
+            throw ex;
+        }
+
+        releaseCheckpoint(true);
+        log.info("OrderReconciliationJob::reconcile execution successfully ended.");
+    }
+
+    /**
+     * 체크포인트 행이 없으면 만들고 lease 를 획득 (다른 인스턴스가 실행 중이면 null)
+     */
+    private Long acquireCheckpoint() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+
+            if (!checkpointRepository.existsById(JOB_NAME)) {
+                checkpointRepository.saveAndFlush(ReconciliationCheckpoint.of(JOB_NAME));
+            }
+
+            if (checkpointRepository.acquireLease(JOB_NAME,
+                now.plus(reconciliationProperties.getLease()), now) == 0) {
+                return null;
+            }
+
+            return checkpointRepository.findById(JOB_NAME)
+                .map(ReconciliationCheckpoint::getLastOrderId)
+                .orElse(null);
+        });
+    }
+
+    /**
+     * 청크의 주문을 확인하고, 처음으로 확인하지 못한 주문 바로 앞의 주문 ID 를 체크포인트로 결정
+     */
+    private ChunkResult verifyChunk(List<Long> orderIds, Long lastOrderId) {
+        Map<Long, String> paymentIdsByOrderId = paymentRepository.findAllByOrderIdIn(orderIds)
+            .stream()
+            .collect(Collectors.toMap(Payment::getOrderId, Payment::getPaymentId));
+
+        List<CompletableFuture<Verification>> results = orderIds.stream()
+            .map(orderId -> CompletableFuture.supplyAsync(
+                () -> verify(orderId, paymentIdsByOrderId.get(orderId)), reconciliationExecutor))
+            .toList();
+
+        Map<OrderStatus, List<Long>> transitions = new EnumMap<>(OrderStatus.class);
+        Long checkpointOrderId = lastOrderId;
+        boolean unresolved = false;
+
+        for (int i = 0; i < orderIds.size(); i++) {
+            Verification verification = results.get(i).join();
+            if (verification.targetStatus() != null) {
+                transitions.computeIfAbsent(verification.targetStatus(),
+                    status -> new ArrayList<>()).add(orderIds.get(i));
+            }
+
+            unresolved |= verification.unresolved();
+            if (!unresolved) {
+                checkpointOrderId = orderIds.get(i);
+            }
+        }
+
+        scannedCounter.increment(orderIds.size());
+        return new ChunkResult(transitions, checkpointOrderId, unresolved);
+    }
+
+    /**
+     * 포트원 결제 상태로 주문의 다음 상태를 결정
+     * 결제가 아직 진행 중이면 판단을 보류하고, 포트원을 조회하지 못했으면 확인하지 못한 주문으로 표시
+     */
+    private Verification verify(Long orderId, String paymentId) {
+        // 결제 정보 없이 오래 남은 주문은 결제가 완료되지 않은 것으로 처리
+        if (paymentId == null) {
+            return Verification.of(OrderStatus.FAILED);
+        }
+
+        try {
+            RateLimiter.waitForPermission(rateLimiter);
+            String paymentStatus = portOnePayment.getPayment(paymentId).status();
+
+            if ("PAID".equals(paymentStatus)) {
+                return Verification.of(OrderStatus.PAID);
+            }
+            if (FAILED_PAYMENT_STATUSES.contains(paymentStatus)) {
+                return Verification.of(OrderStatus.FAILED);
+            }
+            // 결제 진행 중(가상계좌 발급 등)이면 상태를 바꾸지 않고 다음 전체 대사에서 재확인
+            return Verification.HOLD;
+        } catch (PortOneNotFoundPaymentException ex) {
+            return Verification.of(OrderStatus.FAILED);
+        } catch (RuntimeException ex) {
+            // 포트원 장애/호출 제한 대기 초과 등은 상태를 바꾸지 않고 체크포인트를 이 주문 앞에 멈춤
+            log.warn("Order reconciliation failed - orderId : {}, paymentId : {}, cause : {}",
+                orderId, paymentId, ex.getMessage());
+            errorCounter.increment();
+            return Verification.UNRESOLVED;
+        }
+    }
+
+    private void applyChunk(Map<OrderStatus, List<Long>> transitions, Long lastOrderId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            transitions.forEach((targetStatus, orderIds) -> {
+                int updated = orderRepository.updateOrderStatuses(orderIds, targetStatus,
+                    TARGET_STATUSES);
+                meterRegistry.counter("reconciliation.orders.transitioned",
+                    "status", targetStatus.name()).increment(updated);
+            });
+
+            checkpointRepository.findById(JOB_NAME).ifPresent(checkpoint -> checkpoint.advance(
+                lastOrderId, LocalDateTime.now().plus(reconciliationProperties.getLease())));
+        });
+
+        checkpointGauge.set(lastOrderId);
+        log.debug("OrderReconciliationJob::applyChunk - lastOrderId : {}, transitions : {}",
+            lastOrderId, transitions);
+    }
+
+    private void releaseCheckpoint(boolean completed) {
+        transactionTemplate.executeWithoutResult(status ->
+            checkpointRepository.findById(JOB_NAME).ifPresent(checkpoint -> {
+                if (completed) {
+                    checkpoint.complete();
+                } else {
+                    checkpoint.release();
+                }
+            }));
+
+        if (completed) {
+            checkpointGauge.set(0);
+        }
+    }
+
+    // targetStatus : 변경할 주문 상태 (null 이면 그대로 둠), unresolved : 포트원을 조회하지 못함
+    private record Verification(OrderStatus targetStatus, boolean unresolved) {
+
+        private static final Verification HOLD = new Verification(null, false);
+        private static final Verification UNRESOLVED = new Verification(null, true);
+
+        private static Verification of(OrderStatus targetStatus) {
+            return new Verification(targetStatus, false);
+        }
+    }
+
+    private record ChunkResult(Map<OrderStatus, List<Long>> transitions, Long checkpointOrderId,
+                               boolean unresolved) {
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.ecommerce.common.search;
+
+import com.example.ecommerce.common.enums.product.Category;
+import com.example.ecommerce.common.enums.product.Size;
+import com.example.ecommerce.entity.Product;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 카테고리/사이즈/쇼핑몰 노출 여부 비트맵 색인
+ * 상품마다 0 부터 시작하는 순번(ordinal)을 부여하고, enum 값/플래그별 BitSet 의 해당 비트를 설정
+ * 필터 조합은 같은 종류끼리 OR, 종류 간 AND 로 long 단위 비트 연산만 수행
+ * 삭제된 상품의 순번은 재사용해 비트맵이 계속 커지지 않도록 함
+ * 동기화는 호출 측(ProductSearchIndex)의 락에 맡김
+ */
+class ProductFilterBitmapIndex {
+
+    private final Map<Long, Integer> ordinalById = new HashMap<>();
+    private long[] idByOrdinal = new long[1024];
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private int nextOrdinal = 0;
+
+    private final BitSet live = new BitSet();
+    private final BitSet[] categories = bitmaps(Category.values().length);
+    private final BitSet[] sizes = bitmaps(Size.values().length);
+    private final BitSet shopDisplayable = new BitSet();
+
+    void add(Product product) {
+        int ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+        if (ordinal >= idByOrdinal.length) {
+            idByOrdinal = Arrays.copyOf(idByOrdinal, idByOrdinal.length * 2);
+        }
+
+        ordinalById.put(product.getId(), ordinal);
+        idByOrdinal[ordinal] = product.getId();
+        live.set(ordinal);
+
+        if (product.getCategory() != null) {
+            categories[product.getCategory().ordinal()].set(ordinal);
+        }
+        if (product.getSize() != null) {
+            sizes[product.getSize().ordinal()].set(ordinal);
+        }
+        if (Boolean.TRUE.equals(product.getShopDisplayable())) {
+            shopDisplayable.set(ordinal);
+        }
+    }
+
+    void remove(Long productId) {
+        Integer ordinal = ordinalById.remove(productId);
+        if (ordinal == null) {
+            return;
+        }
+
+        live.clear(ordinal);
+        for (BitSet bitmap : categories) {
+            bitmap.clear(ordinal);
+        }
+        for (BitSet bitmap : sizes) {
+            bitmap.clear(ordinal);
+        }
+        shopDisplayable.clear(ordinal);
+        freeOrdinals.push(ordinal);
+    }
+
+    /**
+     * 필터를 만족하는 상품 순번 비트맵 (비어 있는 조건은 전체 허용)
+     */
+    BitSet filter(Collection<Category> categoryFilter, Collection<Size> sizeFilter,
+        boolean shopDisplayableOnly) {
+        BitSet result = (BitSet) live.clone();
+
+        if (!categoryFilter.isEmpty()) {
+            result.and(union(categories, categoryFilter.stream().mapToInt(Enum::ordinal)
+                .toArray()));
+        }
+        if (!sizeFilter.isEmpty()) {
+            result.and(union(sizes, sizeFilter.stream().mapToInt(Enum::ordinal).toArray()));
+        }
+        if (shopDisplayableOnly) {
+            result.and(shopDisplayable);
+        }
+        return result;
+    }
+
+    boolean matches(BitSet filter, Long productId) {
+        Integer ordinal = ordinalById.get(productId);
+        return ordinal != null && filter.get(ordinal);
+    }
+
+    long idOf(int ordinal) {
+        return idByOrdinal[ordinal];
+    }
+
+    private BitSet union(BitSet[] bitmaps, int[] ordinals) {
+        BitSet union = new BitSet();
+        for (int ordinal : ordinals) {
+            union.or(bitmaps[ordinal]);
+        }
+        return union;
+    }
+
+    private static BitSet[] bitmaps(int count) {
+        BitSet[] bitmaps = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            bitmaps[i] = new BitSet();
+        }
+        return bitmaps;
+    }
+}
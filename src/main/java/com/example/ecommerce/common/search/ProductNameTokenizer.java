@@ -0,0 +1,93 @@
+package com.example.ecommerce.common.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 상품명 토큰화
+ * 1. NFC 정규화 + 소문자 변환 (자모가 분리된 입력도 완성형 음절로 맞춤)
+ * 2. 한글 음절과 영문/숫자가 바뀌는 지점, 그 외 문자(공백/기호)에서 단어를 분리 ("나이키air" -> "나이키", "air")
+ * 3. 단어를 문자 n-gram 으로 분해 (색인 : 1-gram + 2-gram, 검색 : 한 글자 단어는 1-gram, 나머지는 2-gram)
+ * 형태소 분석 없이도 "셔츠" 로 "티셔츠" 를 찾을 수 있도록 n-gram 을 사용
+ */
+public final class ProductNameTokenizer {
+
+    private static final int OTHER = 0;
+    private static final int HANGUL = 1;
+    private static final int LETTER_OR_DIGIT = 2;
+
+    private ProductNameTokenizer() {
+    }
+
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC)
+            .toLowerCase(Locale.ROOT);
+
+        StringBuilder word = new StringBuilder();
+        int currentType = OTHER;
+
+        for (int codePoint : normalized.codePoints().toArray()) {
+            int type = typeOf(codePoint);
+
+            if (type != currentType && word.length() > 0) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+            if (type != OTHER) {
+                word.appendCodePoint(codePoint);
+            }
+            currentType = type;
+        }
+
+        if (word.length() > 0) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+
+    public static Set<String> indexGrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            grams.addAll(grams(word, 1));
+            grams.addAll(grams(word, 2));
+        }
+        return grams;
+    }
+
+    public static Set<String> queryGrams(List<String> words) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words) {
+            grams.addAll(grams(word, word.codePointCount(0, word.length()) == 1 ? 1 : 2));
+        }
+        return grams;
+    }
+
+    private static List<String> grams(String word, int n) {
+        int[] codePoints = word.codePoints().toArray();
+        List<String> grams = new ArrayList<>();
+
+        for (int i = 0; i + n <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, n));
+        }
+        return grams;
+    }
+
+    private static int typeOf(int codePoint) {
+        if (Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL) {
+            return HANGUL;
+        }
+        if (Character.isLetterOrDigit(codePoint)) {
+            return LETTER_OR_DIGIT;
+        }
+        return OTHER;
+    }
+}
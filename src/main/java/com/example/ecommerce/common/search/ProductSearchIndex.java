@@ -0,0 +1,265 @@
+package com.example.ecommerce.common.search;
+
+import com.example.ecommerce.common.enums.product.Category;
+import com.example.ecommerce.common.enums.product.Size;
+import com.example.ecommerce.config.ProductSearchIndexProperties;
+import com.example.ecommerce.dto.PageableDto;
+import com.example.ecommerce.entity.Product;
+import com.example.ecommerce.repository.ProductRepository;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품명 역색인 (애플리케이션 메모리)
+ * - n-gram -> 상품 ID 정렬 집합(posting list), 카테고리/사이즈/노출 여부 -> 비트맵 (ProductFilterBitmapIndex)
+ * - 검색 : 가장 짧은 posting list 를 기준으로 교집합 후 필터 비트맵으로 거르고, 상품명에 검색어가 실제로 포함되는지 확인
+ * - 시작 시 ProductRepository 에서 청크 단위로 색인하고, 이후 상품 변경은 ProductSearchIndexSynchronizer 가 반영
+ * 색인이 준비되지 않았거나 비활성화된 경우 empty 를 반환하고 호출 측은 MySQL 검색으로 대체
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    private final ProductRepository productRepository;
+    private final ProductSearchIndexProperties properties;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<Long> changedDuringRebuild = new HashSet<>();
+
+    private volatile State state = new State();
+    private volatile boolean ready = false;
+    private boolean rebuilding = false;
+
+    public ProductSearchIndex(ProductRepository productRepository,
+        ProductSearchIndexProperties properties) {
+        this.productRepository = productRepository;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        log.info("ProductSearchIndex::rebuild execution started.");
+        setRebuilding(true);
+
+        State rebuilt = new State();
+        long lastId = 0L;
+        Slice<Product> chunk;
+
+        do {
+            chunk = productRepository.findByIdGreaterThan(lastId,
+                PageRequest.of(0, properties.getBuildChunkSize(), Sort.by("id")));
+            chunk.forEach(rebuilt::add);
+
+            if (chunk.hasContent()) {
+                lastId = chunk.getContent().get(chunk.getNumberOfElements() - 1).getId();
+            }
+        } while (chunk.hasNext());
+
+        Set<Long> changedIds;
+        lock.writeLock().lock();
+        try {
+            state = rebuilt;
+            rebuilding = false;
+            changedIds = new HashSet<>(changedDuringRebuild);
+            changedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // 색인 도중 변경된 상품은 최신 값으로 다시 반영
+        changedIds.forEach(id -> productRepository.findById(id)
+            .ifPresentOrElse(this::index, () -> remove(id)));
+
+        ready = true;
+        log.info("ProductSearchIndex::rebuild execution successfully ended - products : {}",
+            rebuilt.documents.size());
+    }
+
+    public void index(Product product) {
+        lock.writeLock().lock();
+        try {
+            state.remove(product.getId());
+            state.add(product);
+            markChanged(product.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(productId);
+            markChanged(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 결과 상품 ID 를 id 오름차순으로 페이징 (전체 건수 포함)
+     */
+    public Optional<PageableDto<Long>> search(String keyword, Category category, Size productSize,
+        String entryPoint, Pageable pageable) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        List<Long> productIds = match(keyword, category, productSize, entryPoint);
+
+        int fromIndex = (int) Math.min(pageable.getOffset(), productIds.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), productIds.size());
+
+        return Optional.of(new PageableDto<>(
+            new ArrayList<>(productIds.subList(fromIndex, toIndex)),
+            toIndex >= productIds.size(), pageable.getPageNumber() + 1, pageable.getPageSize(),
+            null, (long) productIds.size()));
+    }
+
+    public OptionalLong count(String keyword, Category category, Size productSize,
+        String entryPoint) {
+        if (!ready) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(match(keyword, category, productSize, entryPoint).size());
+    }
+
+    /**
+     * 1. 필터(카테고리/사이즈/노출 여부)는 비트맵 AND 로 먼저 계산
+     * 2. 검색어가 없으면 비트맵의 상품이 곧 결과, 있으면 가장 짧은 posting list 부터 교집합 후 비트맵으로 거름
+     */
+    private List<Long> match(String keyword, Category category, Size productSize,
+        String entryPoint) {
+        List<String> words = ProductNameTokenizer.words(keyword);
+
+        lock.readLock().lock();
+        try {
+            BitSet filter = state.filters.filter(
+                category == null ? List.of() : List.of(category),
+                productSize == null ? List.of() : List.of(productSize),
+                "shop".equals(entryPoint));
+
+            Set<String> grams = ProductNameTokenizer.queryGrams(words);
+            if (grams.isEmpty()) {
+                return filter.stream()
+                    .mapToObj(state.filters::idOf)
+                    .sorted()
+                    .toList();
+            }
+
+            List<NavigableSet<Long>> postings = new ArrayList<>();
+            for (String gram : grams) {
+                postings.add(state.postings.getOrDefault(gram, new TreeSet<>()));
+            }
+
+            return intersect(postings).stream()
+                .filter(id -> state.filters.matches(filter, id))
+                .filter(id -> containsAll(state.documents.get(id), words))
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 가장 작은 집합을 순회하며 나머지 집합에 모두 포함된 ID 만 남김 (순회 순서 = id 오름차순)
+     */
+    private List<Long> intersect(List<NavigableSet<Long>> sets) {
+        sets.sort(Comparator.comparingInt(Set::size));
+        NavigableSet<Long> smallest = sets.get(0);
+        List<NavigableSet<Long>> others = sets.subList(1, sets.size());
+
+        List<Long> result = new ArrayList<>();
+        for (Long id : smallest) {
+            if (others.stream().allMatch(set -> set.contains(id))) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    // n-gram 이 모두 포함되어도 순서가 다를 수 있으므로 단어 단위로 포함 여부를 확인
+    private boolean containsAll(String normalizedName, List<String> words) {
+        return normalizedName != null && words.stream().allMatch(normalizedName::contains);
+    }
+
+    private void setRebuilding(boolean rebuilding) {
+        lock.writeLock().lock();
+        try {
+            this.rebuilding = rebuilding;
+            changedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void markChanged(Long productId) {
+        if (rebuilding) {
+            changedDuringRebuild.add(productId);
+        }
+    }
+
+    /**
+     * 색인 데이터 (재구성 시 새 State 를 만든 뒤 교체)
+     */
+    private static class State {
+
+        // 상품 ID -> 정규화된 상품명 (단어를 공백으로 연결)
+        private final TreeMap<Long, String> documents = new TreeMap<>();
+        private final Map<Long, Set<String>> gramsByProductId = new HashMap<>();
+        private final Map<String, NavigableSet<Long>> postings = new HashMap<>();
+        private final ProductFilterBitmapIndex filters = new ProductFilterBitmapIndex();
+
+        private void add(Product product) {
+            Long id = product.getId();
+            Set<String> grams = ProductNameTokenizer.indexGrams(product.getName());
+
+            documents.put(id, String.join(" ", ProductNameTokenizer.words(product.getName())));
+            gramsByProductId.put(id, grams);
+            grams.forEach(gram -> postings.computeIfAbsent(gram, key -> new TreeSet<>()).add(id));
+
+            filters.add(product);
+        }
+
+        private void remove(Long id) {
+            if (documents.remove(id) == null) {
+                return;
+            }
+
+            gramsByProductId.remove(id).forEach(gram -> {
+                NavigableSet<Long> posting = postings.get(gram);
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            });
+
+            filters.remove(id);
+        }
+    }
+}
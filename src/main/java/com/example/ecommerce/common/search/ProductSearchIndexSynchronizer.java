@@ -0,0 +1,104 @@
+package com.example.ecommerce.common.search;
+
+import com.example.ecommerce.common.cache.ProductCacheGeneration;
+import com.example.ecommerce.config.ProductSearchIndexProperties;
+import com.example.ecommerce.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상품 변경을 모든 노드의 역색인과 상품 목록 캐시 세대에 반영
+ * 커밋 이후 자신의 색인을 DB 의 최신 값으로 갱신하고, 세대를 올리면서 상품 ID 를 Redis pub/sub 으로 알림
+ * 메시지는 "{노드 식별자}:{상품 ID}:{세대}" 형식이며 세대 순서대로 발행됨 (ProductCacheGeneration.bumpAndPublish)
+ * 수신한 노드는 색인을 갱신한 뒤에 세대를 올리므로, 새 세대 key 로 변경 전 색인의 검색 결과가 캐싱되지 않음
+ * (리스너 컨테이너는 메시지를 한 스레드에서 순서대로 처리, 자신이 보낸 메시지는 색인 갱신 없이 세대만 올림)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexSynchronizer implements MessageListener {
+
+    private final String origin = UUID.randomUUID().toString();
+
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductRepository productRepository;
+    private final ProductCacheGeneration productCacheGeneration;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ProductSearchIndexProperties properties;
+
+    @PostConstruct
+    void subscribe() {
+        if (properties.isEnabled()) {
+            redisMessageListenerContainer.addMessageListener(this,
+                new ChannelTopic(properties.getSyncChannel()));
+        }
+    }
+
+    public void productChanged(Long productId) {
+        if (!properties.isEnabled()) {
+            productCacheGeneration.bump();
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(productId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(productId);
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+
+        if (parts.length != 3) {
+            return;
+        }
+
+        try {
+            if (!origin.equals(parts[0])) {
+                reload(Long.valueOf(parts[1]));
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Failed to sync product search index - message : {}, cause : {}",
+                String.join(":", parts), ex.getMessage());
+        }
+
+        productCacheGeneration.advanceTo(Long.parseLong(parts[2]));
+    }
+
+    private void apply(Long productId) {
+        reload(productId);
+
+        // 전송에 실패해도 요청은 실패시키지 않음 (다른 노드는 다음 재시작 시 재색인, 세대는 localTtl 이후 다시 읽음)
+        try {
+            productCacheGeneration.bumpAndPublish(properties.getSyncChannel(),
+                origin + ":" + productId);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to publish product search index change - productId : {}, cause : {}",
+                productId, ex.getMessage());
+        }
+    }
+
+    private void reload(Long productId) {
+        productRepository.findById(productId)
+            .ifPresentOrElse(productSearchIndex::index, () -> productSearchIndex.remove(productId));
+        log.debug("Product search index synced - productId : {}", productId);
+    }
+}
@@ -1,14 +1,115 @@
 package com.example.ecommerce.config;
 
+import com.example.ecommerce.api.port_one.PortOneClientProperties;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class AppConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public PoolingHttpClientConnectionManager portOneConnectionManager(
+        PortOneClientProperties properties) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(properties.getMaxTotal())
+            .setMaxConnPerRoute(properties.getMaxPerRoute())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                .setSocketTimeout(Timeout.of(properties.getSocketTimeout()))
+                .setValidateAfterInactivity(TimeValue.of(properties.getValidateAfterInactivity()))
+                .setTimeToLive(TimeValue.of(properties.getTimeToLive()))
+                .build())
+            .build();
     }
-}
\ No newline at end of file
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient portOneHttpClient(
+        PoolingHttpClientConnectionManager portOneConnectionManager,
+        PortOneClientProperties properties) {
+        return HttpClients.custom()
+            .setConnectionManager(portOneConnectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                .setResponseTimeout(Timeout.of(properties.getResponseTimeout()))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.of(properties.getIdleTimeout()))
+            .build();
+    }
+
+    @Bean
+    public PoolingAsyncClientConnectionManager portOneAsyncConnectionManager(
+        PortOneClientProperties properties) {
+        return PoolingAsyncClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(properties.getMaxTotal())
+            .setMaxConnPerRoute(properties.getMaxPerRoute())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                .setSocketTimeout(Timeout.of(properties.getSocketTimeout()))
+                .setValidateAfterInactivity(TimeValue.of(properties.getValidateAfterInactivity()))
+                .setTimeToLive(TimeValue.of(properties.getTimeToLive()))
+                .build())
+            .build();
+    }
+
+    // 응답 대기 중에는 소수의 I/O 리액터 스레드만 사용하는 비동기 클라이언트
+    @Bean(destroyMethod = "close")
+    public CloseableHttpAsyncClient portOneAsyncHttpClient(
+        PoolingAsyncClientConnectionManager portOneAsyncConnectionManager,
+        PortOneClientProperties properties) {
+        CloseableHttpAsyncClient client = HttpAsyncClients.custom()
+            .setConnectionManager(portOneAsyncConnectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                .setResponseTimeout(Timeout.of(properties.getResponseTimeout()))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.of(properties.getIdleTimeout()))
+            .build();
+        client.start();
+        return client;
+    }
+
+    /**
+     * RestTemplateBuilder 로 생성해 http.client.requests 지연 시간 메트릭이 자동으로 기록되도록 함
+     */
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder,
+        CloseableHttpClient portOneHttpClient) {
+        return restTemplateBuilder
+            .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(portOneHttpClient))
+            .build();
+    }
+
+    // 커넥션 풀 사용량 (leased / available / pending / max) 게이지
+    @Bean
+    public MeterBinder portOneConnectionPoolMetrics(
+        PoolingHttpClientConnectionManager portOneConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(portOneConnectionManager,
+            "portone");
+    }
+
+    @Bean
+    public MeterBinder portOneAsyncConnectionPoolMetrics(
+        PoolingAsyncClientConnectionManager portOneAsyncConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(portOneAsyncConnectionManager,
+            "portone-async");
+    }
+}
@@ -7,6 +7,7 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @Configuration
 public class AwsS3Config {
@@ -16,6 +17,9 @@ public class AwsS3Config {
     @Value("${cloud.aws.credentials.secretKey}")
     private String secretKey;
 
+    @Value("${cloud.aws.region.static}")
+    private String region;
+
     @Bean
     public S3Client s3Client() {
         return S3Client.builder()
@@ -27,4 +31,17 @@ public class AwsS3Config {
                 )
                 .build();
     }
+
+    // 요청마다 새로 만들지 않도록 하나의 presigner 를 공유 (종료 시 close)
+    @Bean
+    public S3Presigner s3Presigner() {
+        return S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(
+                        StaticCredentialsProvider.create(
+                                AwsBasicCredentials.create(accessKey, secretKey)
+                        )
+                )
+                .build();
+    }
 }
@@ -0,0 +1,21 @@
+package com.example.ecommerce.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class CheckoutAsyncConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor checkoutExecutor(CheckoutAsyncProperties checkoutAsyncProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(checkoutAsyncProperties.getPoolSize());
+        executor.setMaxPoolSize(checkoutAsyncProperties.getPoolSize());
+        executor.setQueueCapacity(checkoutAsyncProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("checkout-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
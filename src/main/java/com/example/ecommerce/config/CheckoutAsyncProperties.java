@@ -0,0 +1,19 @@
+package com.example.ecommerce.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 비동기 주문 생성(verifyPaymentAndCreateOrderAsync)의 DB/Redis 작업 실행 스레드 풀 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "checkout.async")
+public class CheckoutAsyncProperties {
+
+    private int poolSize = 16;
+
+    // 대기열이 가득 차면 요청을 거절 (I/O 스레드가 블로킹 작업을 직접 실행하지 않도록)
+    private int queueCapacity = 1000;
+}
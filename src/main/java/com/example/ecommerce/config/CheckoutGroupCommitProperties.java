@@ -0,0 +1,33 @@
+package com.example.ecommerce.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 동시에 들어온 주문 저장을 모아 하나의 트랜잭션으로 커밋하는 그룹 커밋 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "checkout.group-commit")
+public class CheckoutGroupCommitProperties {
+
+    // 그룹 커밋 사용 여부 (비활성화 시 주문마다 개별 트랜잭션으로 커밋)
+    private boolean enabled = false;
+
+    // 첫 주문이 들어온 뒤 다른 주문을 기다리는 최대 시간
+    private Duration window = Duration.ofMillis(5);
+
+    // 한 트랜잭션으로 묶을 최대 주문 수
+    private int maxBatchSize = 32;
+
+    // 대기열에 쌓일 수 있는 최대 주문 수 (가득 차면 개별 커밋으로 처리)
+    private int queueCapacity = 1000;
+
+    // 배치를 커밋하는 스레드 수
+    private int flusherThreads = 2;
+
+    // 요청 스레드가 커밋 결과를 기다리는 최대 시간 (초과 시 503 응답, 결제 취소는 아웃박스에서 주문 저장 여부를 확인한 뒤 수행)
+    private Duration resultTimeout = Duration.ofSeconds(10);
+}
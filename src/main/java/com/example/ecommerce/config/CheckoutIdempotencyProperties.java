@@ -0,0 +1,30 @@
+package com.example.ecommerce.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 결제 ID 기반 주문 멱등성 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "checkout.idempotency")
+public class CheckoutIdempotencyProperties {
+
+    // redis : 여러 노드 간 공유, local : 단일 인스턴스용 메모리 저장소
+    private String mode = "redis";
+
+    // 처리 중 표시 유지 시간 (노드가 중간에 죽어도 이 시간이 지나면 재처리 가능)
+    private Duration inFlightTtl = Duration.ofSeconds(30);
+
+    // 완료된 주문 ID 보관 시간
+    private Duration completedTtl = Duration.ofHours(24);
+
+    // 같은 결제가 처리 중일 때 완료를 기다리는 최대 시간
+    private Duration waitTimeout = Duration.ofSeconds(5);
+
+    // 처리 중인 결제의 완료 여부 확인 간격
+    private Duration pollInterval = Duration.ofMillis(50);
+}
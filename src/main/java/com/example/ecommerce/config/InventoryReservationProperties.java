@@ -0,0 +1,27 @@
+package com.example.ecommerce.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 플래시 세일 상품의 Redis 재고 선점 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "inventory.reservation")
+public class InventoryReservationProperties {
+
+    // Redis 재고 선점 사용 여부 (비활성화 시 모든 상품의 재고를 DB 에서 차감)
+    private boolean enabled = false;
+
+    // 결제 확정/실패 없이 남아 있는 예약을 자동 해제하기까지의 시간
+    private Duration ttl = Duration.ofMinutes(10);
+
+    // 주문 저장 직전에 예약 만료 시각을 연장할 시간 (주문 쓰기 트랜잭션/그룹 커밋 대기보다 충분히 길게)
+    private Duration commitTimeout = Duration.ofMinutes(1);
+
+    // 만료 예약 해제 시 한 번에 처리할 예약 수
+    private int expiredBatchSize = 100;
+}
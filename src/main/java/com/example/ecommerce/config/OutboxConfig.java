@@ -0,0 +1,24 @@
+package com.example.ecommerce.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor outboxExecutor(OutboxProperties outboxProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(outboxProperties.getExecutorPoolSize());
+        executor.setMaxPoolSize(outboxProperties.getExecutorPoolSize());
+        executor.setQueueCapacity(outboxProperties.getExecutorQueueCapacity());
+        executor.setThreadNamePrefix("outbox-");
+        // 대기열이 가득 차면 디스패처 스레드가 직접 실행해 자연스럽게 속도를 조절 (이벤트 유실 없음)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
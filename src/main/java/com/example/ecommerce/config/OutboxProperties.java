@@ -0,0 +1,31 @@
+package com.example.ecommerce.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 아웃박스 이벤트 디스패처 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+    // 한 번에 가져와 처리할 이벤트 수
+    private int batchSize = 100;
+
+    // 처리 중인 이벤트를 다른 디스패처가 가져가지 못하게 막는 시간 (초과 시 재전달)
+    private Duration lease = Duration.ofSeconds(30);
+
+    // 핸들러 실패 시 다음 재시도까지의 기본 대기 시간 (시도 횟수만큼 선형 증가)
+    private Duration retryBackoff = Duration.ofSeconds(5);
+
+    // 최대 시도 횟수 (초과 시 FAILED 로 남겨 수동 확인)
+    private int maxAttempts = 10;
+
+    // 핸들러 실행 스레드 수와 대기열 크기 (대기열이 가득 차면 디스패처 스레드에서 직접 실행)
+    private int executorPoolSize = 4;
+    private int executorQueueCapacity = 200;
+}
@@ -0,0 +1,23 @@
+package com.example.ecommerce.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 상품명 역색인(애플리케이션 메모리) 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "search.product-index")
+public class ProductSearchIndexProperties {
+
+    // 역색인 사용 여부 (비활성화 시 모든 검색을 MySQL 로 처리)
+    private boolean enabled = true;
+
+    // 시작 시 색인할 때 한 번에 읽을 상품 수
+    private int buildChunkSize = 1000;
+
+    // 다른 노드의 상품 변경을 색인에 반영하기 위한 Redis pub/sub 채널
+    private String syncChannel = "search:product-index";
+}
@@ -0,0 +1,24 @@
+package com.example.ecommerce.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ReconciliationConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor reconciliationExecutor(
+        ReconciliationProperties reconciliationProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(reconciliationProperties.getParallelism());
+        executor.setMaxPoolSize(reconciliationProperties.getParallelism());
+        executor.setQueueCapacity(reconciliationProperties.getChunkSize());
+        executor.setThreadNamePrefix("reconciliation-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
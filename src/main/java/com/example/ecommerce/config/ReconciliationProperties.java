@@ -0,0 +1,32 @@
+package com.example.ecommerce.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * PENDING/FAILED 주문 결제 대사 작업 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reconciliation")
+public class ReconciliationProperties {
+
+    private boolean enabled = true;
+
+    // 한 청크(keyset 페이지)에서 처리할 주문 수
+    private int chunkSize = 200;
+
+    // 포트원 동시 조회 수 (포트원 벌크헤드 상한보다 작게 유지해 체크아웃 요청 몫을 남김)
+    private int parallelism = 4;
+
+    // 초당 포트원 조회 수 상한
+    private int permitsPerSecond = 20;
+
+    // 체크아웃이 진행 중일 수 있는 최근 주문은 제외
+    private Duration staleAfter = Duration.ofMinutes(5);
+
+    // 실행 중인 인스턴스가 죽었을 때 다른 인스턴스가 이어받기까지의 시간 (청크마다 갱신)
+    private Duration lease = Duration.ofMinutes(5);
+}
@@ -1,7 +1,9 @@
 package com.example.ecommerce.config;
 
-import java.time.Duration;
-import org.springframework.cache.CacheManager;
+import com.example.ecommerce.common.cache.TwoLevelCacheManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
@@ -9,9 +11,13 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 public class RedisConfig {
@@ -21,17 +27,50 @@ public class RedisConfig {
         return new LettuceConnectionFactory("localhost", 6379);
     }
     
+    // L1(로컬 메모리) + L2(Redis) 2단계 캐시
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory cf) {
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory cf,
+        TwoLevelCacheProperties twoLevelCacheProperties, StringRedisTemplate stringRedisTemplate,
+        ObjectMapper objectMapper, MeterRegistry meterRegistry) {
         RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
             .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(
                 new StringRedisSerializer()))
             .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
                 new GenericJackson2JsonRedisSerializer())) // Value Serializer 변경
-            .entryTtl(Duration.ofMinutes(30L)); // 캐시 수명 30분
+            .entryTtl(twoLevelCacheProperties.getRemoteTtl()); // 캐시 수명 (기본 30분)
 
-        return RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(cf)
+        RedisCacheManager redisCacheManager = RedisCacheManager.RedisCacheManagerBuilder
+            .fromConnectionFactory(cf)
             .cacheDefaults(redisCacheConfiguration).build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoLevelCacheManager(redisCacheManager, twoLevelCacheProperties,
+            stringRedisTemplate, objectMapper, meterRegistry);
+    }
+
+    // Redis pub/sub 수신 (캐시 무효화를 수신해 L1 에서 제거, 그 외 리스너는 각 컴포넌트에서 등록)
+    // 메시지를 한 스레드에서 받은 순서대로 처리 (역색인 동기화 메시지는 세대 순서대로 반영되어야 함)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+        RedisConnectionFactory cf, TwoLevelCacheManager cacheManager,
+        TwoLevelCacheProperties twoLevelCacheProperties,
+        @Qualifier("redisListenerExecutor") ThreadPoolTaskExecutor redisListenerExecutor) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(cf);
+        container.setTaskExecutor(redisListenerExecutor);
+        container.addMessageListener(cacheManager,
+            new ChannelTopic(twoLevelCacheProperties.getInvalidationChannel()));
+        return container;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor redisListenerExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("redis-listener-");
+        executor.initialize();
+        return executor;
     }
 
     @Bean
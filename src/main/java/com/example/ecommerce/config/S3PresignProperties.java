@@ -0,0 +1,24 @@
+package com.example.ecommerce.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * S3 presigned URL 발급/캐싱 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cloud.aws.s3.presign")
+public class S3PresignProperties {
+
+    // presigned URL 유효 시간
+    private Duration signatureDuration = Duration.ofMinutes(60);
+
+    // 만료 직전의 URL 을 내려주지 않도록, 유효 시간에서 이만큼 앞당겨 캐시에서 제거
+    private Duration safetyMargin = Duration.ofMinutes(5);
+
+    // 캐시에 보관할 최대 URL 수 (fileKey 기준)
+    private long cacheMaxSize = 10000;
+}
@@ -0,0 +1,27 @@
+package com.example.ecommerce.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 2단계 캐시 설정 (L1 : 애플리케이션 메모리, L2 : Redis)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.two-level")
+public class TwoLevelCacheProperties {
+
+    // 캐시 이름별 L1 최대 항목 수
+    private long localMaximumSize = 10000;
+
+    // L1 항목 수명 (다른 노드의 무효화 메시지를 놓쳐도 이 시간 이후에는 L2 값을 다시 읽음)
+    private Duration localTtl = Duration.ofSeconds(10);
+
+    // L2 항목 수명
+    private Duration remoteTtl = Duration.ofMinutes(30);
+
+    // 노드 간 L1 무효화 메시지를 주고받는 Redis pub/sub 채널
+    private String invalidationChannel = "cache:invalidation";
+}
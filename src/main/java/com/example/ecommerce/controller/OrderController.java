@@ -4,6 +4,7 @@ import com.example.ecommerce.dto.PageableDto;
 import com.example.ecommerce.dto.order.CreateOrderDto;
 import com.example.ecommerce.dto.order.OrderDto;
 import com.example.ecommerce.service.OrderService;
+import java.util.concurrent.CompletableFuture;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
@@ -24,6 +25,13 @@ public class OrderController {
         return new ResponseEntity<>(orderId, HttpStatus.CREATED);
     }
 
+    // 포트원 결제 조회를 기다리는 동안 요청 스레드를 반납하는 비동기 주문 생성
+    @PostMapping("/verify/{paymentId}/async")
+    public CompletableFuture<ResponseEntity<Long>> verifyPaymentAndCreateOrderAsync(@PathVariable String paymentId, @RequestBody CreateOrderDto createOrderDto){
+        return orderService.verifyPaymentAndCreateOrderAsync(paymentId, createOrderDto)
+                .thenApply(orderId -> new ResponseEntity<>(orderId, HttpStatus.CREATED));
+    }
+
     @GetMapping
     public ResponseEntity<PageableDto<OrderDto>> getAllOrders(Pageable pageable){
         PageableDto<OrderDto> pageableOrderDto = orderService.getAllOrders(pageable);
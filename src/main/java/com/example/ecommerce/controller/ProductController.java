@@ -47,10 +47,32 @@ public class ProductController {
         @RequestParam(required = false) Category category,
         @RequestParam(required = false) Size productSize,
         @RequestParam(required = false) String entryPoint,
+        @RequestParam(defaultValue = "false") boolean withTotalCount,
         Pageable pageable
     ) {
         PageableDto<ProductDto> productDtoPageableDto = productService.searchProducts(keyword,
             category, productSize, pageable, entryPoint);
+
+        // 전체 건수는 요청한 경우에만 별도로 조회 (캐싱된 COUNT)
+        if (withTotalCount) {
+            productDtoPageableDto = productDtoPageableDto.withTotalElements(
+                productService.countSearchProducts(keyword, category, productSize, entryPoint));
+        }
+        return new ResponseEntity<>(productDtoPageableDto, HttpStatus.OK);
+    }
+
+    // 커서 검색 : 첫 페이지는 cursor 없이, 이후에는 응답의 nextCursor 를 전달 (sort=id 또는 unitPrice)
+    @GetMapping("/search/cursor")
+    public ResponseEntity<PageableDto<ProductDto>> searchProductsByCursor(
+        @RequestParam(required = false) String keyword,
+        @RequestParam(required = false) Category category,
+        @RequestParam(required = false) Size productSize,
+        @RequestParam(required = false) String entryPoint,
+        @RequestParam(required = false) String cursor,
+        Pageable pageable
+    ) {
+        PageableDto<ProductDto> productDtoPageableDto = productService.searchProductsByCursor(
+            keyword, category, productSize, entryPoint, cursor, pageable);
         return new ResponseEntity<>(productDtoPageableDto, HttpStatus.OK);
     }
 
@@ -89,4 +111,16 @@ public class ProductController {
         return ResponseEntity.ok("id = " + id + "인 상품이 성공적으로 삭제되었습니다.");
     }
 
+    @PostMapping("{id}/flash-sale")
+    public ResponseEntity<String> enableFlashSale(@PathVariable Long id) {
+        productService.enableFlashSale(id);
+        return ResponseEntity.ok("id = " + id + "인 상품이 플래시 세일 대상으로 지정되었습니다.");
+    }
+
+    @DeleteMapping("{id}/flash-sale")
+    public ResponseEntity<String> disableFlashSale(@PathVariable Long id) {
+        productService.disableFlashSale(id);
+        return ResponseEntity.ok("id = " + id + "인 상품이 플래시 세일 대상에서 제외되었습니다.");
+    }
+
 }
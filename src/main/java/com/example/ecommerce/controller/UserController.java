@@ -1,7 +1,10 @@
 package com.example.ecommerce.controller;
 
+import com.example.ecommerce.dto.CursorPageDto;
+import com.example.ecommerce.dto.order.OrderDto;
 import com.example.ecommerce.dto.user.LoginUserDto;
 import com.example.ecommerce.dto.user.RegisterUserDto;
+import com.example.ecommerce.service.OrderService;
 import com.example.ecommerce.service.UserService;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserService userService;
+    private final OrderService orderService;
 
     @PostMapping("/register")
     public ResponseEntity<Long> register(@RequestBody RegisterUserDto dto){
@@ -34,6 +38,14 @@ public class UserController {
     }
 
 
+    @GetMapping("/{id}/orders")
+    public ResponseEntity<CursorPageDto<OrderDto>> getUserOrders(@PathVariable Long id,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size) {
+        CursorPageDto<OrderDto> userOrders = orderService.getUserOrders(id, cursor, size);
+        return new ResponseEntity<>(userOrders, HttpStatus.OK);
+    }
+
     @GetMapping("/me")
     public Object getUser(HttpServletRequest request, HttpServletResponse response) {
         HttpSession session = request.getSession(false); // 새로운 세션 자동 생성 방지
@@ -0,0 +1,29 @@
+package com.example.ecommerce.controller;
+
+import com.example.ecommerce.service.WebhookService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/webhooks")
+public class WebhookController {
+
+    private final WebhookService webhookService;
+
+    // 서명 검증에 원문이 필요하므로 본문을 문자열 그대로 받음
+    @PostMapping("/port-one")
+    public ResponseEntity<Void> receivePortOneWebhook(
+        @RequestHeader(value = "webhook-id", required = false) String webhookId,
+        @RequestHeader(value = "webhook-timestamp", required = false) String webhookTimestamp,
+        @RequestHeader(value = "webhook-signature", required = false) String webhookSignature,
+        @RequestBody String body) {
+        webhookService.receivePortOneWebhook(webhookId, webhookTimestamp, webhookSignature, body);
+        return ResponseEntity.ok().build();
+    }
+}
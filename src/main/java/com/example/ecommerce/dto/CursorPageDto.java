@@ -0,0 +1,15 @@
+package com.example.ecommerce.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record CursorPageDto<T>(
+        List<T> data,
+        String nextCursor,
+        boolean hasNext,
+        int size
+) {
+
+}
@@ -1,18 +1,40 @@
 package com.example.ecommerce.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
 
+/**
+ * 페이지 응답
+ * 커서 검색에서는 page 를 사용하지 않고(0), 다음 페이지 조회에 쓸 nextCursor 를 전달 (마지막 페이지면 null)
+ * totalElements 는 전체 건수를 요청한 경우에만 포함
+ */
 @Builder
 public record PageableDto<T>(
         List<T> data,
         boolean last,
         int page,
-        int size
+        int size,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String nextCursor,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Long totalElements
 ) {
 
+    public PageableDto(List<T> data, boolean last, int page, int size) {
+        this(data, last, page, size, null, null);
+    }
+
+    public PageableDto(List<T> data, boolean last, int page, int size, String nextCursor) {
+        this(data, last, page, size, nextCursor, null);
+    }
+
+    public PageableDto<T> withTotalElements(long totalElements) {
+        return new PageableDto<>(data, last, page, size, nextCursor, totalElements);
+    }
+
     public static <T> PageableDto<T> toDto(Page<T> page) {
         return PageableDto.<T>builder()
                 .data(page.getContent())
@@ -0,0 +1,23 @@
+package com.example.ecommerce.dto.order;
+
+import com.example.ecommerce.dto.port_one.PortOneGetPaymentResponseDto;
+import com.example.ecommerce.entity.Product;
+import com.example.ecommerce.entity.User;
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+
+/**
+ * 검증(사용자, 상품, 결제)이 끝난 뒤 쓰기 트랜잭션으로 넘기는 주문 정보
+ */
+@Builder
+public record CreatePaidOrderDto(
+    User user,
+    Integer totalPrice,
+    List<Product> products,
+    Map<Long, Integer> productsMap, // <productId : quantity>
+    Map<Long, Integer> stockProductsMap, // DB 에서 재고를 차감할 상품 (Redis 재고 선점 상품 제외)
+    PortOneGetPaymentResponseDto paymentDto
+) {
+
+}
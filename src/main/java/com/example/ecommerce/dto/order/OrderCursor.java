@@ -0,0 +1,45 @@
+package com.example.ecommerce.dto.order;
+
+import com.example.ecommerce.common.exception.order.OrderException;
+import com.example.ecommerce.common.exception.order.OrderInvalidCursorException;
+import com.example.ecommerce.entity.Order;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 주문 내역 keyset 페이지네이션의 마지막 위치 (createdAt, orderId)
+ * 클라이언트에는 내부 구조를 알 수 없는 Base64 문자열로만 전달
+ */
+public record OrderCursor(
+        LocalDateTime createdAt,
+        Long orderId
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static OrderCursor from(Order order) {
+        return new OrderCursor(order.getCreatedAt(), order.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + orderId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.indexOf(DELIMITER);
+
+            return new OrderCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException ex) {
+            throw new OrderInvalidCursorException(OrderException.INVALID_CURSOR.getStatus(),
+                    OrderException.INVALID_CURSOR.getMessage());
+        }
+    }
+}
@@ -7,16 +7,19 @@ import com.example.ecommerce.dto.user.UserDto;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Builder
 public record OrderDto(
+        Long orderId,
         @JsonProperty("user")
         UserDto userDto,
         Integer totalPrice,
         @JsonProperty("orderedItems")
         List<OrderItemDto> orderItemsDto,
-        OrderStatus orderStatus
+        OrderStatus orderStatus,
+        LocalDateTime createdAt
 ) {
 
 }
@@ -0,0 +1,16 @@
+package com.example.ecommerce.dto.outbox;
+
+import lombok.Builder;
+
+import java.util.Map;
+
+@Builder
+public record OrderPaidEvent(
+        Long orderId,
+        Long userId,
+        String paymentId,
+        Integer totalPrice,
+        Map<Long, Integer> productsMap
+) {
+
+}
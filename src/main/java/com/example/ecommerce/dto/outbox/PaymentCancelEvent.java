@@ -0,0 +1,11 @@
+package com.example.ecommerce.dto.outbox;
+
+import lombok.Builder;
+
+@Builder
+public record PaymentCancelEvent(
+        String paymentId,
+        String reason
+) {
+
+}
@@ -0,0 +1,11 @@
+package com.example.ecommerce.dto.outbox;
+
+import lombok.Builder;
+
+@Builder
+public record PortOnePaymentWebhookEvent(
+        String webhookId,
+        String paymentId
+) {
+
+}
@@ -14,12 +14,18 @@ public record PortOneGetPaymentResponseDto(
         String merchantId,
         PaymentMethod method,
         LocalDateTime paidAt,
-        List<PortOneProduct> products
+        PaymentAmount amount,
+        List<PortOneProduct> products,
+        String customData // 결제 요청 시 프론트엔드가 담은 주문 정보 (CreateOrderDto JSON, 웹훅 주문 생성에 사용)
 ) {
 
     public record PaymentMethod(String type, String provider) {
     }
 
+    // 포트원에 실제로 결제된 금액 (total : 총 결제 금액)
+    public record PaymentAmount(long total) {
+    }
+
     public static Payment toEntity(PortOneGetPaymentResponseDto dto, Long orderId){
         return Payment.builder()
                 .paymentId(dto.id())
@@ -0,0 +1,20 @@
+package com.example.ecommerce.dto.port_one;
+
+import lombok.Builder;
+
+/**
+ * 포트원 V2 웹훅 본문
+ * type : Transaction.Paid, Transaction.Cancelled 등
+ */
+@Builder
+public record PortOneWebhookDto(
+        String type,
+        String timestamp,
+        Data data
+) {
+
+    public static final String TRANSACTION_PAID = "Transaction.Paid";
+
+    public record Data(String paymentId, String storeId, String transactionId) {
+    }
+}
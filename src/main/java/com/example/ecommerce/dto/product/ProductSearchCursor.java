@@ -0,0 +1,59 @@
+package com.example.ecommerce.dto.product;
+
+import com.example.ecommerce.common.enums.product.ProductSortKey;
+import com.example.ecommerce.common.exception.product.ProductException;
+import com.example.ecommerce.common.exception.product.ProductInvalidCursorException;
+import com.example.ecommerce.entity.Product;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 커서 검색에서 마지막으로 조회한 상품의 (정렬 값, id)
+ * 클라이언트에는 "정렬 기준:방향:정렬 값:id" 를 Base64 URL-safe 로 인코딩해 전달
+ */
+public record ProductSearchCursor(
+    ProductSortKey sortKey,
+    Sort.Direction direction,
+    long sortValue,
+    long id
+) {
+
+    public static ProductSearchCursor of(ProductSortKey sortKey, Sort.Direction direction,
+        Product product) {
+        return new ProductSearchCursor(sortKey, direction, sortKey.valueOf(product),
+            product.getId());
+    }
+
+    /**
+     * 요청 정렬과 다른 정렬로 발급된 커서는 사용할 수 없음
+     */
+    public static ProductSearchCursor decode(String cursor, ProductSortKey sortKey,
+        Sort.Direction direction) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor),
+                StandardCharsets.UTF_8).split(":");
+
+            if (parts.length != 4 || !sortKey.name().equals(parts[0])
+                || !direction.name().equals(parts[1])) {
+                throw invalidCursor();
+            }
+
+            return new ProductSearchCursor(sortKey, direction, Long.parseLong(parts[2]),
+                Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException ex) {
+            throw invalidCursor();
+        }
+    }
+
+    public String encode() {
+        String raw = sortKey.name() + ":" + direction.name() + ":" + sortValue + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ProductInvalidCursorException invalidCursor() {
+        return new ProductInvalidCursorException(ProductException.INVALID_CURSOR.getStatus(),
+            ProductException.INVALID_CURSOR.getMessage());
+    }
+}
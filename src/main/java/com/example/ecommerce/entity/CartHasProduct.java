@@ -12,7 +12,10 @@ import lombok.*;
 public class CartHasProduct extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "cart_has_product_id_generator")
+    @TableGenerator(name = "cart_has_product_id_generator", table = "id_generators",
+        pkColumnName = "sequence_name", valueColumnName = "next_val",
+        pkColumnValue = "cart_has_product", allocationSize = 50)
     private Long cartHasProductId;
 
     @ManyToOne
@@ -10,6 +10,7 @@ import lombok.*;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.CascadeType;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -17,16 +18,26 @@ import java.util.List;
 
 @Getter
 @Entity(name = "orders")
+@Table(name = "orders", indexes = {
+    // 사용자별 주문 내역 keyset 페이지네이션 (user_id, created_at, id)
+    @Index(name = "idx_orders_user_id_created_at_id", columnList = "user_id, created_at, id"),
+    // 결제 대사 작업의 상태별 keyset 스캔 (order_status, id)
+    @Index(name = "idx_orders_order_status_id", columnList = "order_status, id")
+})
+@EntityListeners(AuditingEntityListener.class)
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "orders_id_generator")
+    @TableGenerator(name = "orders_id_generator", table = "id_generators",
+        pkColumnName = "sequence_name", valueColumnName = "next_val",
+        pkColumnValue = "orders", allocationSize = 50)
     private Long id;
 
-    @OneToOne
+    @ManyToOne
     @JoinColumn(name = "userId")
     private User user;
 
@@ -53,10 +64,12 @@ public class Order{
 
     public static OrderDto toDto(Order order){
         return OrderDto.builder()
+                .orderId(order.getId())
                 .userDto(UserDto.toDto(order.getUser()))
                 .totalPrice(order.getTotalPrice())
                 .orderItemsDto(OrderItemDto.toDto(order.getOrderItems()))
                 .orderStatus(order.getOrderStatus())
+                .createdAt(order.getCreatedAt())
                 .build();
     }
 }
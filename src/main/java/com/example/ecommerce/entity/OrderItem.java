@@ -13,7 +13,10 @@ import lombok.*;
 public class OrderItem extends BaseEntity{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_items_id_generator")
+    @TableGenerator(name = "order_items_id_generator", table = "id_generators",
+        pkColumnName = "sequence_name", valueColumnName = "next_val",
+        pkColumnValue = "order_items", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -21,7 +24,8 @@ public class OrderItem extends BaseEntity{
     @JoinColumn(name = "orderId")
     private Order order;
 
-    @OneToOne
+    // 한 상품이 여러 주문에 담길 수 있으므로 N:1 (1:1 이면 product_id 에 unique 제약이 생김)
+    @ManyToOne
     @JoinColumn(name = "productId")
     private Product product;
 
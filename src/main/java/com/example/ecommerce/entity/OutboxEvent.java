@@ -0,0 +1,93 @@
+package com.example.ecommerce.entity;
+
+import com.example.ecommerce.common.enums.outbox.OutboxEventType;
+import com.example.ecommerce.common.enums.outbox.OutboxStatus;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 이벤트를 업무 데이터와 같은 트랜잭션으로 저장하는 아웃박스 테이블
+ * OutboxDispatcher 가 PENDING 이벤트를 읽어 핸들러로 전달 (at-least-once)
+ */
+@Getter
+@Entity(name = "outbox_events")
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_events_status_next_attempt_at", columnList = "status, next_attempt_at")
+})
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "outbox_events_id_generator")
+    @TableGenerator(name = "outbox_events_id_generator", table = "id_generators",
+        pkColumnName = "sequence_name", valueColumnName = "next_val",
+        pkColumnValue = "outbox_events", allocationSize = 50)
+    private Long id;
+
+    @NotNull
+    @Enumerated(value = EnumType.STRING)
+    private OutboxEventType eventType;
+
+    // 주문이 아직 없는 이벤트(포트원 웹훅 수신 등)는 null, 식별자는 payload 에 담음
+    private Long aggregateId;
+
+    @NotNull
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    @Builder.Default
+    @NotNull
+    @Enumerated(value = EnumType.STRING)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Builder.Default
+    @NotNull
+    private Integer attempts = 0;
+
+    @NotNull
+    private LocalDateTime nextAttemptAt;
+
+    @NotNull
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+
+    public static OutboxEvent of(OutboxEventType eventType, Long aggregateId, String payload) {
+        LocalDateTime now = LocalDateTime.now();
+
+        return OutboxEvent.builder()
+            .eventType(eventType)
+            .aggregateId(aggregateId)
+            .payload(payload)
+            .nextAttemptAt(now)
+            .createdAt(now)
+            .build();
+    }
+
+    /**
+     * 처리 중인 이벤트를 다른 디스패처가 다시 가져가지 않도록 lease 시간만큼 다음 시도 시각을 미룸
+     * 처리 도중 인스턴스가 죽으면 lease 가 끝난 뒤 재전달됨
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void markPublished() {
+        this.status = OutboxStatus.PUBLISHED;
+        this.publishedAt = LocalDateTime.now();
+    }
+
+    public void markRetry(LocalDateTime nextAttemptAt, int maxAttempts) {
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+            return;
+        }
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
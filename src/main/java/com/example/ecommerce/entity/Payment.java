@@ -2,6 +2,8 @@ package com.example.ecommerce.entity;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
@@ -9,6 +11,10 @@ import java.time.LocalDateTime;
 
 @Getter
 @Entity(name="payments")
+@Table(name = "payments", indexes = {
+    // 주문 ID 로 결제 조회 (결제 대사)
+    @Index(name = "idx_payments_order_id", columnList = "order_id")
+})
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
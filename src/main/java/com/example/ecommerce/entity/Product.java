@@ -12,7 +12,10 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
 import lombok.AccessLevel;
@@ -24,6 +27,12 @@ import lombok.ToString;
 
 @Getter
 @Entity(name = "products")
+@Table(name = "products", indexes = {
+    // 쇼핑몰 상품 목록 (shop_displayable = true) 을 id 순으로 페이징
+    @Index(name = "idx_products_shop_displayable_id", columnList = "shop_displayable, id"),
+    // 가격순 커서 검색 : WHERE (unit_price, id) > (?, ?) ORDER BY unit_price, id
+    @Index(name = "idx_products_unit_price_id", columnList = "unit_price, id")
+})
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -31,7 +40,10 @@ import lombok.ToString;
 public class Product extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "products_id_generator")
+    @TableGenerator(name = "products_id_generator", table = "id_generators",
+        pkColumnName = "sequence_name", valueColumnName = "next_val",
+        pkColumnValue = "products", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -0,0 +1,59 @@
+package com.example.ecommerce.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 대사(reconciliation) 작업의 진행 위치
+ * 청크가 끝날 때마다 마지막 주문 ID 를 기록해 서버가 재시작되어도 이어서 처리
+ * leaseUntil 이 남아 있는 동안에는 다른 인스턴스가 같은 작업을 시작하지 않음
+ */
+@Getter
+@Entity(name = "reconciliation_checkpoints")
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReconciliationCheckpoint {
+
+    @Id
+    private String jobName;
+
+    @NotNull
+    private Long lastOrderId;
+
+    private LocalDateTime leaseUntil;
+
+    @NotNull
+    private LocalDateTime updatedAt;
+
+    public static ReconciliationCheckpoint of(String jobName) {
+        return ReconciliationCheckpoint.builder()
+            .jobName(jobName)
+            .lastOrderId(0L)
+            .updatedAt(LocalDateTime.now())
+            .build();
+    }
+
+    public void advance(Long lastOrderId, LocalDateTime leaseUntil) {
+        this.lastOrderId = lastOrderId;
+        this.leaseUntil = leaseUntil;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 끝까지 훑었으면 다음 실행은 처음부터 다시 시작
+     */
+    public void complete() {
+        this.lastOrderId = 0L;
+        release();
+    }
+
+    public void release() {
+        this.leaseUntil = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -5,6 +5,7 @@ import com.example.ecommerce.common.enums.product.Category;
 import com.example.ecommerce.common.enums.product.Size;
 import com.example.ecommerce.dto.product.ProductDto;
 import java.io.Serializable;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -33,6 +34,24 @@ public class RedisProduct implements Serializable {
     private Boolean shopDisplayable;
     private String fileName;
     private String fileKey;
+    private LocalDateTime createdAt;
+
+    public static RedisProduct from(Product product) {
+        return RedisProduct.builder()
+            .id(product.getId())
+            .name(product.getName())
+            .description(product.getDescription())
+            .unitPrice(product.getUnitPrice())
+            .stockQuantity(product.getStockQuantity())
+            .category(product.getCategory())
+            .size(product.getSize())
+            .avgRating(product.getAvgRating())
+            .shopDisplayable(product.getShopDisplayable())
+            .fileName(product.getFileName())
+            .fileKey(product.getFileKey())
+            .createdAt(product.getCreatedAt())
+            .build();
+    }
 
     public ProductDto toDto(String fileUrl) {
         return ProductDto.builder()
@@ -46,6 +65,7 @@ public class RedisProduct implements Serializable {
             .shopDisplayable(this.shopDisplayable)
             .fileName(this.fileName)
             .fileUrl(fileUrl)
+            .createdAt(this.createdAt)
             .build();
     }
 }
@@ -14,7 +14,10 @@ import lombok.*;
 public class Review extends BaseEntity{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "reviews_id_generator")
+    @TableGenerator(name = "reviews_id_generator", table = "id_generators",
+        pkColumnName = "sequence_name", valueColumnName = "next_val",
+        pkColumnValue = "reviews", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -0,0 +1,33 @@
+package com.example.ecommerce.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * DB 재고에 반영한 Redis 판매 수량 스냅샷 기록
+ * 재고 차감과 같은 트랜잭션에 저장되므로, 반영 후 스냅샷 삭제 전에 중단되어도 같은 스냅샷을 두 번 반영하지 않음
+ */
+@Getter
+@Entity(name = "stock_delta_snapshots")
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockDeltaSnapshot {
+
+    @Id
+    private String snapshotId;
+
+    @NotNull
+    private LocalDateTime appliedAt;
+
+    public static StockDeltaSnapshot of(String snapshotId) {
+        return StockDeltaSnapshot.builder()
+            .snapshotId(snapshotId)
+            .appliedAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -1,7 +1,30 @@
 package com.example.ecommerce.repository;
 
+import com.example.ecommerce.common.enums.order.OrderStatus;
 import com.example.ecommerce.entity.Order;
+import com.example.ecommerce.repository.custom.OrderRepositoryCustom;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
+
+    // 결제 대사 대상 주문 ID 를 id 순 keyset 으로 조회 (idx_orders_order_status_id)
+    @Query("SELECT o.id FROM orders o WHERE o.orderStatus IN :statuses AND o.id > :lastOrderId "
+        + "AND o.createdAt < :createdBefore ORDER BY o.id")
+    List<Long> findReconciliationTargetIds(@Param("statuses") Collection<OrderStatus> statuses,
+        @Param("lastOrderId") Long lastOrderId, @Param("createdBefore") LocalDateTime createdBefore,
+        Pageable pageable);
+
+    // 주문 상태를 한 번의 UPDATE 로 변경 (이미 같은 상태이거나 대상 상태가 아닌 주문은 제외)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE orders o SET o.orderStatus = :status WHERE o.id IN :ids "
+        + "AND o.orderStatus IN :fromStatuses AND o.orderStatus <> :status")
+    int updateOrderStatuses(@Param("ids") Collection<Long> ids, @Param("status") OrderStatus status,
+        @Param("fromStatuses") Collection<OrderStatus> fromStatuses);
 }
@@ -0,0 +1,24 @@
+package com.example.ecommerce.repository;
+
+import com.example.ecommerce.common.enums.outbox.OutboxStatus;
+import com.example.ecommerce.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // lock.timeout = -2 : SELECT ... FOR UPDATE SKIP LOCKED (여러 인스턴스의 디스패처가 서로 다른 이벤트를 가져감)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM outbox_events e WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.id")
+    List<OutboxEvent> findDispatchable(@Param("status") OutboxStatus status,
+        @Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -1,7 +1,11 @@
 package com.example.ecommerce.repository;
 
 import com.example.ecommerce.entity.Payment;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface PaymentRepository extends JpaRepository<Payment, String> {
+
+    List<Payment> findAllByOrderIdIn(Collection<Long> orderIds);
 }
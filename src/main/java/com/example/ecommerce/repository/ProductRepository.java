@@ -2,8 +2,16 @@ package com.example.ecommerce.repository;
 
 import com.example.ecommerce.entity.Product;
 import com.example.ecommerce.repository.custom.ProductRepositoryCustom;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
-}
 
+    // 쇼핑몰 노출 상품만 DB 에서 페이징 (idx_products_shop_displayable_id)
+    Page<Product> findAllByShopDisplayableTrue(Pageable pageable);
+
+    // 상품 검색 역색인 구성 시 id 순으로 청크 조회 (COUNT 쿼리 없음)
+    Slice<Product> findByIdGreaterThan(Long id, Pageable pageable);
+}
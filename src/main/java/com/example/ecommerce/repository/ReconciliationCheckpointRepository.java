@@ -0,0 +1,19 @@
+package com.example.ecommerce.repository;
+
+import com.example.ecommerce.entity.ReconciliationCheckpoint;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReconciliationCheckpointRepository extends
+    JpaRepository<ReconciliationCheckpoint, String> {
+
+    // lease 가 없거나 만료된 경우에만 획득 (1 : 획득, 0 : 다른 인스턴스가 실행 중)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE reconciliation_checkpoints c SET c.leaseUntil = :leaseUntil "
+        + "WHERE c.jobName = :jobName AND (c.leaseUntil IS NULL OR c.leaseUntil < :now)")
+    int acquireLease(@Param("jobName") String jobName, @Param("leaseUntil") LocalDateTime leaseUntil,
+        @Param("now") LocalDateTime now);
+}
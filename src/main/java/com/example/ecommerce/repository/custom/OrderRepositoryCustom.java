@@ -0,0 +1,14 @@
+package com.example.ecommerce.repository.custom;
+
+import com.example.ecommerce.entity.Order;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface OrderRepositoryCustom {
+    Page<Order> findAllWithOrderItems(Pageable pageable);
+
+    List<Order> findUserOrderHistory(Long userId, LocalDateTime cursorCreatedAt, Long cursorOrderId,
+        int limit);
+}
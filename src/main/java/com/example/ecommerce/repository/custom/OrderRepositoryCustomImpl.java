@@ -0,0 +1,123 @@
+package com.example.ecommerce.repository.custom;
+
+import static com.example.ecommerce.entity.QOrder.order;
+import static com.example.ecommerce.entity.QOrderItem.orderItem;
+import static com.example.ecommerce.entity.QProduct.product;
+import static com.example.ecommerce.entity.QUser.user;
+
+import com.example.ecommerce.entity.Order;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+@RequiredArgsConstructor
+@Repository
+public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 주문 목록 조회 시 사용자, 주문 아이템, 상품을 한 번에 불러와 N+1 을 방지
+     * 컬렉션 fetch join 과 limit 을 함께 쓰면 메모리에서 페이징되므로
+     * 1. 해당 페이지의 주문 ID 조회, 2. ID 로 fetch join 조회, 3. count 조회의 고정된 쿼리 수로 처리
+     */
+    @Override
+    public Page<Order> findAllWithOrderItems(Pageable pageable) {
+        JPAQuery<Long> idQuery = queryFactory
+            .select(order.id)
+            .from(order)
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize());
+
+        getOrderSpecifiers(pageable.getSort()).forEach(idQuery::orderBy);
+        List<Long> orderIds = idQuery.fetch();
+
+        List<Order> orders = fetchWithOrderItems(orderIds);
+
+        JPAQuery<Long> countQuery = queryFactory
+            .select(order.count())
+            .from(order);
+
+        return PageableExecutionUtils.getPage(orders, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 사용자별 주문 내역을 (createdAt, id) 내림차순 keyset 으로 조회
+     * OFFSET 없이 (user_id, created_at, id) 인덱스에서 커서 위치부터 읽으므로 페이지 깊이와 무관하게 일정한 비용
+     */
+    @Override
+    public List<Order> findUserOrderHistory(Long userId, LocalDateTime cursorCreatedAt,
+        Long cursorOrderId, int limit) {
+        BooleanBuilder condition = new BooleanBuilder(order.user.id.eq(userId));
+
+        if (cursorCreatedAt != null && cursorOrderId != null) {
+            condition.and(order.createdAt.lt(cursorCreatedAt)
+                .or(order.createdAt.eq(cursorCreatedAt).and(order.id.lt(cursorOrderId))));
+        }
+
+        List<Long> orderIds = queryFactory
+            .select(order.id)
+            .from(order)
+            .where(condition)
+            .orderBy(order.createdAt.desc(), order.id.desc())
+            .limit(limit)
+            .fetch();
+
+        return fetchWithOrderItems(orderIds);
+    }
+
+    /**
+     * 주문 ID 목록으로 사용자, 주문 아이템, 상품을 fetch join 해서 조회하고 ID 목록의 순서를 유지
+     */
+    private List<Order> fetchWithOrderItems(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Order> orders = queryFactory
+            .selectFrom(order)
+            .distinct()
+            .join(order.user, user).fetchJoin()
+            .leftJoin(order.orderItems, orderItem).fetchJoin()
+            .leftJoin(orderItem.product, product).fetchJoin()
+            .where(order.id.in(orderIds))
+            .fetch();
+
+        // IN 조회 결과는 순서가 보장되지 않으므로 ID 목록의 순서로 맞춤
+        orders.sort(Comparator.comparingInt(o -> orderIds.indexOf(o.getId())));
+        return orders;
+    }
+
+    private List<OrderSpecifier<?>> getOrderSpecifiers(Sort sort) {
+        List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
+        PathBuilder<Order> pathBuilder = new PathBuilder<>(Order.class, order.getMetadata());
+
+        for (Sort.Order sortOrder : sort) {
+            com.querydsl.core.types.Order direction = sortOrder.isAscending()
+                ? com.querydsl.core.types.Order.ASC
+                : com.querydsl.core.types.Order.DESC;
+
+            orderSpecifiers.add(new OrderSpecifier<>(direction,
+                pathBuilder.getComparable(sortOrder.getProperty(), Comparable.class)));
+        }
+
+        // 정렬 조건이 없으면 기존 findAll 과 같이 ID 순으로 조회
+        if (orderSpecifiers.isEmpty()) {
+            orderSpecifiers.add(order.id.asc());
+        }
+
+        return orderSpecifiers;
+    }
+}
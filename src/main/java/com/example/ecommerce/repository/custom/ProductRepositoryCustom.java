@@ -1,11 +1,26 @@
 package com.example.ecommerce.repository.custom;
 
 import com.example.ecommerce.common.enums.product.Category;
+import com.example.ecommerce.common.enums.product.ProductSortKey;
 import com.example.ecommerce.common.enums.product.Size;
 import com.example.ecommerce.dto.PageableDto;
+import com.example.ecommerce.dto.product.ProductSearchCursor;
 import com.example.ecommerce.entity.Product;
+import java.util.List;
+import java.util.Map;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 public interface ProductRepositoryCustom {
     PageableDto<Product> searchProducts(String keyword, Category category, Size productSize, Pageable pageable, String entryPoint);
+
+    long countProducts(String keyword, Category category, Size productSize, String entryPoint);
+
+    PageableDto<Product> searchProductsByCursor(String keyword, Category category, Size productSize,
+        String entryPoint, ProductSortKey sortKey, Sort.Direction direction,
+        ProductSearchCursor cursor, int size);
+
+    List<Long> decreaseStockQuantities(Map<Long, Integer> quantitiesByProductId);
+
+    boolean applyStockDeltas(String snapshotId, Map<Long, Integer> soldQuantitiesByProductId);
 }
\ No newline at end of file
@@ -1,78 +1,179 @@
 package com.example.ecommerce.repository.custom;
 
 import com.example.ecommerce.common.enums.product.Category;
+import com.example.ecommerce.common.enums.product.ProductSortKey;
 import com.example.ecommerce.common.enums.product.Size;
+import com.example.ecommerce.common.search.ProductNameTokenizer;
 import com.example.ecommerce.dto.PageableDto;
+import com.example.ecommerce.dto.product.ProductSearchCursor;
 import com.example.ecommerce.entity.Product;
+import com.example.ecommerce.entity.StockDeltaSnapshot;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
 import org.springframework.context.annotation.Primary;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Primary
 @Repository
 public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
 
+    private static final String DECREASE_STOCK_QUERY =
+        "UPDATE products SET stock_quantity = stock_quantity - ? WHERE id = ? AND stock_quantity >= ?";
+    private static final String APPLY_STOCK_DELTA_QUERY =
+        "UPDATE products SET stock_quantity = stock_quantity - ? WHERE id = ?";
+    private static final String DELETE_APPLIED_SNAPSHOTS_QUERY =
+        "DELETE FROM stock_delta_snapshots WHERE applied_at < :applied_before";
+    private static final Duration APPLIED_SNAPSHOT_RETENTION = Duration.ofDays(7);
+
     private final EntityManager entityManager;
 
     /**
-     * 검색 시, Full-Text 인덱스 활용을 위한 네이티브 쿼리 작성
+     * 역색인(ProductSearchIndex)이 준비되지 않았을 때 쓰는 검색으로, 역색인과 같은 결과를 같은 순서로 반환
+     * 검색어를 ProductNameTokenizer 로 단어로 나눠 모든 단어가 상품명에 포함된 상품을 id 오름차순으로 조회
+     * COUNT 쿼리 없이 size + 1 건을 조회해 마지막 페이지 여부를 판단 (전체 건수는 countProducts)
      */
     @Override
     public PageableDto<Product> searchProducts(String keyword, Category category, Size productSize,
         Pageable pageable, String entryPoint) {
 
-        boolean hasKeyword = keyword != null && !keyword.trim().isEmpty();
-        boolean isSingleCharacter = hasKeyword && keyword.trim().length() == 1;
+        List<String> words = ProductNameTokenizer.words(keyword);
 
-        // 쿼리 문자열 생성 (SELECT 또는 COUNT)
-        String selectQuery = buildQuery(hasKeyword, isSingleCharacter, category, productSize,
-            entryPoint, false);
-        String countQuery = buildQuery(hasKeyword, isSingleCharacter, category, productSize,
-            entryPoint, true);
+        String selectQuery = buildQuery(words, category, productSize, entryPoint, false);
 
-        // 네이티브 쿼리 생성
         Query query = entityManager.createNativeQuery(selectQuery, Product.class);
-        Query countResultQuery = entityManager.createNativeQuery(countQuery);
+        setParameters(query, words, category, productSize, pageable);
+
+        List<Product> products = new ArrayList<>(query.getResultList());
+        boolean last = products.size() <= pageable.getPageSize();
+        if (!last) {
+            products.remove(pageable.getPageSize());
+        }
+
+        return new PageableDto<>(products, last, pageable.getPageNumber() + 1,
+            pageable.getPageSize());
+    }
+
+    @Override
+    public long countProducts(String keyword, Category category, Size productSize,
+        String entryPoint) {
+
+        List<String> words = ProductNameTokenizer.words(keyword);
+
+        Query countQuery = entityManager.createNativeQuery(buildQuery(words, category,
+            productSize, entryPoint, true));
+        setParameters(countQuery, words, category, productSize, null);
+
+        return ((Number) countQuery.getSingleResult()).longValue();
+    }
+
+    /**
+     * 커서(keyset) 방식 검색 : OFFSET 대신 마지막으로 조회한 (정렬 값, id) 이후의 행부터 조회
+     * (정렬 컬럼, id) 인덱스를 따라 읽으므로 깊은 페이지도 앞쪽 페이지와 비용이 같음
+     * size + 1 건을 조회해 다음 페이지 존재 여부를 판단
+     */
+    @Override
+    public PageableDto<Product> searchProductsByCursor(String keyword, Category category,
+        Size productSize, String entryPoint, ProductSortKey sortKey, Sort.Direction direction,
+        ProductSearchCursor cursor, int size) {
+
+        List<String> words = ProductNameTokenizer.words(keyword);
+
+        StringBuilder queryBuilder = new StringBuilder("SELECT * FROM products WHERE ");
+        appendConditions(queryBuilder, words, category, productSize, entryPoint);
+
+        String comparison = direction.isAscending() ? ">" : "<";
+        if (cursor != null) {
+            if (sortKey == ProductSortKey.ID) {
+                queryBuilder.append(" AND id ").append(comparison).append(" :cursor_id");
+            } else {
+                queryBuilder.append(" AND (").append(sortKey.getColumn()).append(", id) ")
+                    .append(comparison).append(" (:cursor_value, :cursor_id)");
+            }
+        }
+
+        queryBuilder.append(" ORDER BY ");
+        if (sortKey != ProductSortKey.ID) {
+            queryBuilder.append(sortKey.getColumn()).append(" ").append(direction.name())
+                .append(", ");
+        }
+        queryBuilder.append("id ").append(direction.name()).append(" LIMIT :size");
+
+        Query query = entityManager.createNativeQuery(queryBuilder.toString(), Product.class);
+        setParameters(query, words, category, productSize, null);
+        if (cursor != null) {
+            if (sortKey != ProductSortKey.ID) {
+                query.setParameter("cursor_value", cursor.sortValue());
+            }
+            query.setParameter("cursor_id", cursor.id());
+        }
+        query.setParameter("size", size + 1);
 
-        // 공통 파라미터 설정
-        setParameters(query, keyword, isSingleCharacter, category, productSize, pageable);
-        setParameters(countResultQuery, keyword, isSingleCharacter, category, productSize, null);
+        List<Product> products = new ArrayList<>(query.getResultList());
+        boolean last = products.size() <= size;
+        if (!last) {
+            products.remove(size);
+        }
 
-        // 결과 조회 및 페이징 처리
-        List<Product> products = query.getResultList();
-        long totalElements = ((Number) countResultQuery.getSingleResult()).longValue();
+        String nextCursor = last ? null : ProductSearchCursor.of(sortKey, direction,
+            products.get(products.size() - 1)).encode();
 
-        Page<Product> pageableProducts = new PageImpl<>(products, pageable, totalElements);
-        return PageableDto.toDto(pageableProducts);
+        return new PageableDto<>(products, last, 0, size, nextCursor);
     }
 
     /**
      * 쿼리를 동적으로 생성하는 메서드
      */
-    private String buildQuery(boolean hasKeyword, boolean isSingleCharacter, Category category,
-        Size productSize, String entryPoint, boolean isCountQuery) {
+    private String buildQuery(List<String> words, Category category, Size productSize,
+        String entryPoint, boolean isCountQuery) {
 
         StringBuilder queryBuilder = new StringBuilder(isCountQuery
             ? "SELECT COUNT(*) FROM products WHERE "
             : "SELECT * FROM products WHERE ");
 
-        if (hasKeyword) {
-            if (isSingleCharacter) {
-                queryBuilder.append("name LIKE :keyword");
-            } else {
-                queryBuilder.append("MATCH(name) AGAINST (:keyword IN BOOLEAN MODE)");
-            }
+        appendConditions(queryBuilder, words, category, productSize, entryPoint);
+
+        if (!isCountQuery) {
+            queryBuilder.append(" ORDER BY id ASC LIMIT :offset, :size");
+        }
+
+        return queryBuilder.toString();
+    }
+
+    /**
+     * 검색어/필터 조건 (offset 검색, 커서 검색 공통)
+     * 두 글자 이상 단어는 Full-Text(ngram) 인덱스로 후보를 좁히고, 후보 행만 단어별 LIKE 로 다시 확인해
+     * 역색인과 같이 모든 단어가 상품명에 부분 문자열로 포함된 상품만 남김 (AND)
+     * 한 글자 단어는 ngram 토큰(2글자)으로 찾을 수 없으므로 LIKE 로만 확인 (기존 한 글자 검색과 동일)
+     */
+    private void appendConditions(StringBuilder queryBuilder, List<String> words,
+        Category category, Size productSize, String entryPoint) {
+        if (fullTextKeyword(words) != null) {
+            queryBuilder.append("MATCH(name) AGAINST (:full_text_keyword IN BOOLEAN MODE)");
         } else {
             queryBuilder.append("1=1"); // 검색어가 없을 경우 기본 조건 유지
         }
 
+        for (int i = 0; i < words.size(); i++) {
+            queryBuilder.append(" AND LOWER(name) LIKE :keyword").append(i);
+        }
+
         if (category != null) {
             queryBuilder.append(" AND category = :category");
         }
@@ -82,25 +183,34 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
         if ("shop".equals(entryPoint)) {
             queryBuilder.append(" AND shop_displayable = 1");
         }
+    }
 
-        if (!isCountQuery) {
-            queryBuilder.append(" LIMIT :offset, :size");
-        }
+    /**
+     * 두 글자 이상 단어를 모두 포함해야 하는 BOOLEAN MODE 검색어 ("+반팔 +셔츠")
+     * ngram 파서는 BOOLEAN MODE 의 각 단어를 ngram 구문으로 검색하므로 "셔츠" 로 "티셔츠" 도 찾음
+     * 두 글자 이상 단어가 없으면 null
+     */
+    private String fullTextKeyword(List<String> words) {
+        List<String> terms = words.stream()
+            .filter(word -> word.codePointCount(0, word.length()) > 1)
+            .map(word -> "+" + word)
+            .toList();
 
-        return queryBuilder.toString();
+        return terms.isEmpty() ? null : String.join(" ", terms);
     }
 
     /**
      * 공통적으로 파라미터를 설정하는 메서드
      */
-    private void setParameters(Query query, String keyword, boolean isSingleCharacter,
-        Category category, Size productSize, Pageable pageable) {
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            if (isSingleCharacter) {
-                query.setParameter("keyword", "%" + keyword + "%"); // LIKE 검색
-            } else {
-                query.setParameter("keyword", keyword); // MATCH 검색
-            }
+    private void setParameters(Query query, List<String> words, Category category,
+        Size productSize, Pageable pageable) {
+        // 단어는 한글/영문/숫자로만 이루어지므로 LIKE 와일드카드(%, _)나 BOOLEAN MODE 연산자를 이스케이프할 필요 없음
+        String fullTextKeyword = fullTextKeyword(words);
+        if (fullTextKeyword != null) {
+            query.setParameter("full_text_keyword", fullTextKeyword);
+        }
+        for (int i = 0; i < words.size(); i++) {
+            query.setParameter("keyword" + i, "%" + words.get(i) + "%");
         }
         if (category != null) {
             query.setParameter("category", category.name());
@@ -110,9 +220,108 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
         }
         if (pageable != null) {
             query.setParameter("offset", Math.toIntExact(pageable.getOffset()));
-            query.setParameter("size", pageable.getPageSize());
+            query.setParameter("size", pageable.getPageSize() + 1); // 다음 페이지 확인용 1건 추가
         }
     }
 
+    /**
+     * 주문 상품들의 재고를 조건부 UPDATE 배치로 차감
+     * 재고가 부족해 차감되지 않은 상품 ID 목록을 반환 (모두 성공 시 빈 리스트)
+     */
+    @Override
+    @Transactional
+    public List<Long> decreaseStockQuantities(Map<Long, Integer> quantitiesByProductId) {
+        return executeStockBatch(DECREASE_STOCK_QUERY, quantitiesByProductId, true);
+    }
+
+    /**
+     * Redis 재고 선점 원장에서 확정된 판매 수량 스냅샷을 DB 재고에 일괄 반영
+     * 재고 검증은 이미 Redis 에서 끝났으므로 조건 없이 차감 (음수가 되면 호출 측에서 불일치로 보고)
+     * 스냅샷 ID 를 차감과 같은 트랜잭션에 기록해, 이미 반영한 스냅샷이면 반영하지 않고 false 를 반환
+     */
+    @Override
+    @Transactional
+    public boolean applyStockDeltas(String snapshotId,
+        Map<Long, Integer> soldQuantitiesByProductId) {
+        if (entityManager.find(StockDeltaSnapshot.class, snapshotId) != null) {
+            return false;
+        }
+
+        entityManager.persist(StockDeltaSnapshot.of(snapshotId));
+        executeStockBatch(APPLY_STOCK_DELTA_QUERY, soldQuantitiesByProductId, false);
+
+        entityManager.createNativeQuery(DELETE_APPLIED_SNAPSHOTS_QUERY)
+            .setParameter("applied_before",
+                LocalDateTime.now().minus(APPLIED_SNAPSHOT_RETENTION))
+            .executeUpdate();
 
+        return true;
+    }
+
+    /**
+     * 상품 ID 오름차순으로 정렬한 뒤 하나의 JDBC 배치로 재고 UPDATE 실행
+     * 정렬로 동시 주문 간 row lock 획득 순서를 고정 (데드락 방지)
+     * 현재 트랜잭션의 커넥션을 그대로 사용하므로, 호출 측 트랜잭션이 롤백되면 차감도 함께 롤백됨
+     * 드라이버가 배치 결과로 SUCCESS_NO_INFO 를 반환하면 (rewriteBatchedStatements 등) 상품별 차감 여부를
+     * 알 수 없으므로 savepoint 까지 되돌린 뒤 문장 단위로 다시 실행해 영향받은 row 수를 확인
+     */
+    private List<Long> executeStockBatch(String sql, Map<Long, Integer> quantitiesByProductId,
+        boolean conditional) {
+        List<Map.Entry<Long, Integer>> lines = new ArrayList<>(
+            new TreeMap<>(quantitiesByProductId).entrySet());
+
+        if (lines.isEmpty()) {
+            return List.of();
+        }
+
+        Session session = entityManager.unwrap(Session.class);
+
+        return session.doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                Savepoint savepoint = connection.getAutoCommit() ? null
+                    : connection.setSavepoint();
+
+                for (Map.Entry<Long, Integer> line : lines) {
+                    bind(statement, line, conditional);
+                    statement.addBatch();
+                }
+
+                int[] updatedCounts = statement.executeBatch();
+
+                if (Arrays.stream(updatedCounts)
+                    .anyMatch(count -> count == Statement.SUCCESS_NO_INFO)) {
+                    if (savepoint == null) {
+                        throw new IllegalStateException(
+                            "Stock batch returned SUCCESS_NO_INFO outside of a transaction");
+                    }
+
+                    connection.rollback(savepoint);
+                    updatedCounts = new int[lines.size()];
+                    for (int i = 0; i < lines.size(); i++) {
+                        bind(statement, lines.get(i), conditional);
+                        updatedCounts[i] = statement.executeUpdate();
+                    }
+                }
+
+                List<Long> notUpdatedProductIds = new ArrayList<>();
+                for (int i = 0; i < updatedCounts.length; i++) {
+                    // 영향받은 row 가 1건이 아니면 재고 부족(또는 존재하지 않는 상품)
+                    if (updatedCounts[i] != 1) {
+                        notUpdatedProductIds.add(lines.get(i).getKey());
+                    }
+                }
+
+                return notUpdatedProductIds;
+            }
+        });
+    }
+
+    private void bind(PreparedStatement statement, Map.Entry<Long, Integer> line,
+        boolean conditional) throws SQLException {
+        statement.setInt(1, line.getValue());
+        statement.setLong(2, line.getKey());
+        if (conditional) {
+            statement.setInt(3, line.getValue());
+        }
+    }
 }
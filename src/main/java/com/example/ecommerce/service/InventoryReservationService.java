@@ -0,0 +1,384 @@
+package com.example.ecommerce.service;
+
+import com.example.ecommerce.common.cache.RedisProductStore;
+import com.example.ecommerce.common.exception.product.ProductException;
+import com.example.ecommerce.common.exception.product.ProductNotFoundException;
+import com.example.ecommerce.common.exception.product.ProductOutOfStockException;
+import com.example.ecommerce.config.InventoryReservationProperties;
+import com.example.ecommerce.entity.Product;
+import com.example.ecommerce.repository.ProductRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 플래시 세일 상품의 재고를 Redis 에 복제해 두고 Lua 스크립트로 원자적으로 선점/확정/해제
+ * - 선점(reserve) : 주문 시 재고 차감 후 예약 기록
+ * - 보류(hold) : 주문 저장 직전에 예약 만료 시각을 연장 (이미 만료 해제된 예약이면 주문 저장 전에 실패)
+ * - 확정(confirm) : 주문 저장 성공 시 판매 수량을 DB 미반영 hash 에 누적
+ * - 해제(release) : 결제/주문 실패 또는 TTL 만료 시 재고 복구
+ * 누적된 판매 수량은 reconcileStockDeltas 가 주기적으로 DB 재고에 일괄 반영
+ * 모든 key 는 동일한 hash tag({inventory})를 사용해 클러스터 환경에서도 같은 슬롯에 위치
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryReservationService {
+
+    private static final String STOCK_KEY_PREFIX = "{inventory}:stock:";
+    private static final String RESERVATION_KEY_PREFIX = "{inventory}:reservation:";
+    private static final String RESERVATION_EXPIRY_KEY = "{inventory}:reservations";
+    private static final String STOCK_DELTA_KEY = "{inventory}:deltas";
+    private static final String STOCK_DELTA_SNAPSHOT_KEY = "{inventory}:deltas:snapshot";
+    private static final String STOCK_DELTA_SNAPSHOT_ID_KEY = "{inventory}:deltas:snapshot-id";
+    private static final String RECONCILE_LOCK_KEY = "{inventory}:reconcile-lock";
+    private static final Duration RECONCILE_LOCK_TTL = Duration.ofSeconds(30);
+    private static final Duration RECONCILE_LOCK_RETRY_INTERVAL = Duration.ofMillis(50);
+
+    private static final RedisScript<List> RESERVE_SCRIPT = script("reserve.lua", List.class);
+    private static final RedisScript<Long> HOLD_SCRIPT = script("hold.lua", Long.class);
+    private static final RedisScript<List> CONFIRM_SCRIPT = script("confirm.lua", List.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT = script("release.lua", Long.class);
+    private static final RedisScript<List> DRAIN_DELTAS_SCRIPT = script("drain-deltas.lua",
+        List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ProductRepository productRepository;
+    private final InventoryReservationProperties properties;
+    private final RedisProductStore redisProductStore;
+
+    /**
+     * 주문 상품 중 플래시 세일 대상 상품의 재고를 선점
+     * 재고가 부족하면 아무것도 차감하지 않고 ProductOutOfStockException 을 던짐
+     *
+     * @return Redis 에서 재고를 선점한 상품 <productId : quantity> (DB 재고 차감 대상에서 제외해야 함)
+     */
+    public Map<Long, Integer> reserve(String reservationId, Map<Long, Integer> productsMap) {
+        if (!properties.isEnabled() || productsMap.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+
+        keys.add(RESERVATION_KEY_PREFIX + reservationId);
+        keys.add(RESERVATION_EXPIRY_KEY);
+        args.add(reservationId);
+        args.add(String.valueOf(System.currentTimeMillis() + properties.getTtl().toMillis()));
+
+        for (Map.Entry<Long, Integer> line : new TreeMap<>(productsMap).entrySet()) {
+            keys.add(STOCK_KEY_PREFIX + line.getKey());
+            args.add(String.valueOf(line.getKey()));
+            args.add(String.valueOf(line.getValue()));
+        }
+
+        List<?> result = stringRedisTemplate.execute(RESERVE_SCRIPT, keys, args.toArray());
+        log.debug("Called - RESERVE_SCRIPT, response - result : {}", result);
+
+        if (result == null || result.isEmpty() || "OUT_OF_STOCK".equals(result.get(0))) {
+            throw new ProductOutOfStockException(
+                ProductException.OUT_OF_STOCK.getStatus(),
+                ProductException.OUT_OF_STOCK.getMessage()
+            );
+        }
+
+        Map<Long, Integer> reservedProductsMap = new HashMap<>();
+        for (Object productId : result.subList(1, result.size())) {
+            Long id = Long.valueOf(String.valueOf(productId));
+            reservedProductsMap.put(id, productsMap.get(id));
+        }
+
+        return reservedProductsMap;
+    }
+
+    /**
+     * 주문 저장 직전에 예약이 만료 해제되지 않도록 만료 시각을 연장
+     * 결제 조회가 길어지는 동안 이미 만료 해제되어 재고가 복구되었다면 주문을 저장하지 않도록 예외를 던짐
+     */
+    public void hold(String reservationId, Map<Long, Integer> reservedProductsMap) {
+        if (!properties.isEnabled() || reservedProductsMap.isEmpty()) {
+            return;
+        }
+
+        Long held = stringRedisTemplate.execute(HOLD_SCRIPT,
+            List.of(RESERVATION_KEY_PREFIX + reservationId, RESERVATION_EXPIRY_KEY),
+            reservationId,
+            String.valueOf(System.currentTimeMillis() + properties.getCommitTimeout().toMillis()));
+        log.debug("Called - HOLD_SCRIPT, response - held : {}", held);
+
+        if (!Long.valueOf(1L).equals(held)) {
+            throw new ProductOutOfStockException(
+                ProductException.RESERVATION_EXPIRED.getStatus(),
+                ProductException.RESERVATION_EXPIRED.getMessage()
+            );
+        }
+    }
+
+    /**
+     * 주문 저장이 끝난 예약을 확정
+     * 저장이 commitTimeout 보다 오래 걸려 예약이 이미 해제되었다면, 주문 상품 수량으로 재고 차감과 판매 수량 누적을 다시 수행
+     */
+    public void confirm(String reservationId, Map<Long, Integer> reservedProductsMap) {
+        if (!properties.isEnabled() || reservedProductsMap.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>();
+        args.add(reservationId);
+        args.add(STOCK_KEY_PREFIX);
+        for (Map.Entry<Long, Integer> line : new TreeMap<>(reservedProductsMap).entrySet()) {
+            args.add(String.valueOf(line.getKey()));
+            args.add(String.valueOf(line.getValue()));
+        }
+
+        List<?> result = stringRedisTemplate.execute(CONFIRM_SCRIPT,
+            List.of(RESERVATION_KEY_PREFIX + reservationId, RESERVATION_EXPIRY_KEY,
+                STOCK_DELTA_KEY),
+            args.toArray());
+        log.debug("Called - CONFIRM_SCRIPT, response - result : {}", result);
+
+        if (result != null && !result.isEmpty() && "0".equals(String.valueOf(result.get(0)))) {
+            log.warn("Reservation released before confirm, sale re-applied - reservationId : {}",
+                reservationId);
+
+            if (result.size() > 1) {
+                log.error("Flash sale stock oversold - reservationId : {}, productIds : {}",
+                    reservationId, result.subList(1, result.size()));
+            }
+        }
+    }
+
+    /**
+     * 결제 또는 주문 저장에 실패한 예약을 해제하고 재고를 복구
+     */
+    public void release(String reservationId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Long released = stringRedisTemplate.execute(RELEASE_SCRIPT,
+            List.of(RESERVATION_KEY_PREFIX + reservationId, RESERVATION_EXPIRY_KEY),
+            reservationId, STOCK_KEY_PREFIX);
+        log.debug("Called - RELEASE_SCRIPT, response - released : {}", released);
+    }
+
+    /**
+     * 상품을 플래시 세일 대상으로 지정하고 현재 DB 재고를 Redis 로 복제
+     * 반영 락을 잡고 이전 플래시 세일에서 아직 반영되지 않은 판매 수량을 모두 DB 에 반영한 뒤 복제
+     * (락 없이 복제하면 다른 노드가 반영 중인 차감이 빠진 재고가 Redis 에 복제됨)
+     */
+    public void enableFlashSale(Long productId) {
+        String lockToken = lockReconcile();
+
+        try {
+            drainStockDeltas();
+
+            Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ProductNotFoundException(
+                    ProductException.NOTFOUND.getStatus(), ProductException.NOTFOUND.getMessage()));
+
+            Boolean enabled = stringRedisTemplate.opsForValue()
+                .setIfAbsent(STOCK_KEY_PREFIX + productId,
+                    String.valueOf(product.getStockQuantity()));
+            log.info("Flash sale enabled - productId : {}, stockQuantity : {}, newlyEnabled : {}",
+                productId, product.getStockQuantity(), enabled);
+        } finally {
+            unlockReconcile(lockToken);
+        }
+    }
+
+    /**
+     * 플래시 세일 대상에서 제외 (이후 재고는 다시 DB 에서 차감)
+     * 반영 락을 잡고 확정된 판매 수량을 모두 DB 에 반영한 뒤 Redis 재고를 삭제해, DB 차감 경로가 판매된 재고를 다시 팔지 않도록 함
+     * 진행 중인 예약은 확정 시 DB 미반영 hash 를 통해 다음 반영 주기에 반영됨
+     */
+    public void disableFlashSale(Long productId) {
+        String lockToken = lockReconcile();
+
+        try {
+            drainStockDeltas();
+
+            stringRedisTemplate.delete(STOCK_KEY_PREFIX + productId);
+            log.info("Flash sale disabled - productId : {}", productId);
+        } finally {
+            unlockReconcile(lockToken);
+        }
+    }
+
+    /**
+     * TTL 이 지난 예약을 해제 (결제 확정/실패 처리가 누락된 예약의 재고 복구)
+     */
+    @Scheduled(fixedDelayString = "${inventory.reservation.release-interval-ms:1000}")
+    public void releaseExpiredReservations() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Set<String> expiredReservationIds = stringRedisTemplate.opsForZSet()
+            .rangeByScore(RESERVATION_EXPIRY_KEY, 0, System.currentTimeMillis(), 0,
+                properties.getExpiredBatchSize());
+
+        if (expiredReservationIds == null || expiredReservationIds.isEmpty()) {
+            return;
+        }
+
+        // 조회 이후 hold 로 만료 시각이 연장된 예약(주문 저장 중)은 스크립트에서 해제하지 않음
+        String now = String.valueOf(System.currentTimeMillis());
+        for (String reservationId : expiredReservationIds) {
+            Long released = stringRedisTemplate.execute(RELEASE_SCRIPT,
+                List.of(RESERVATION_KEY_PREFIX + reservationId, RESERVATION_EXPIRY_KEY),
+                reservationId, STOCK_KEY_PREFIX, now);
+            log.debug("Called - RELEASE_SCRIPT, response - released : {}", released);
+        }
+
+        log.info("Expired reservations released - count : {}", expiredReservationIds.size());
+    }
+
+    /**
+     * 확정된 판매 수량을 DB 재고(Product.stockQuantity)에 일괄 반영
+     * 반영 도중 실패하면 스냅샷이 남아 다음 주기에 다시 반영됨
+     * 스냅샷 ID 를 DB 재고 차감과 같은 트랜잭션에 기록하므로, 반영 후 스냅샷 삭제 전에 중단되어도 중복 반영되지 않음
+     */
+    @Scheduled(fixedDelayString = "${inventory.reservation.reconcile-interval-ms:5000}")
+    public void reconcileStockDeltas() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        // 여러 노드가 같은 스냅샷을 동시에 반영하지 않도록 반영 구간을 락으로 보호
+        String lockToken = tryLockReconcile();
+        if (lockToken == null) {
+            return;
+        }
+
+        try {
+            applyDrainedStockDeltas();
+        } finally {
+            unlockReconcile(lockToken);
+        }
+    }
+
+    /**
+     * 이전 반영에 실패해 남아 있는 스냅샷과 지금까지 누적된 판매 수량을 모두 DB 에 반영 (반영 락 안에서 호출)
+     * 스냅샷이 남아 있으면 한 번의 drain 은 스냅샷만 반영하므로 최대 두 번 반영
+     */
+    private void drainStockDeltas() {
+        if (applyDrainedStockDeltas()) {
+            applyDrainedStockDeltas();
+        }
+    }
+
+    /**
+     * @return 반영할 스냅샷이 있었는지 여부
+     */
+    private boolean applyDrainedStockDeltas() {
+        List<?> deltas = stringRedisTemplate.execute(DRAIN_DELTAS_SCRIPT,
+            List.of(STOCK_DELTA_KEY, STOCK_DELTA_SNAPSHOT_KEY, STOCK_DELTA_SNAPSHOT_ID_KEY),
+            UUID.randomUUID().toString());
+
+        if (deltas == null || deltas.isEmpty()) {
+            return false;
+        }
+
+        String snapshotId = String.valueOf(deltas.get(0));
+        Map<Long, Integer> soldQuantitiesByProductId = new HashMap<>();
+        for (int i = 1; i < deltas.size(); i += 2) {
+            soldQuantitiesByProductId.put(Long.valueOf(String.valueOf(deltas.get(i))),
+                Integer.valueOf(String.valueOf(deltas.get(i + 1))));
+        }
+
+        boolean applied = productRepository.applyStockDeltas(snapshotId,
+            soldQuantitiesByProductId);
+        stringRedisTemplate.delete(List.of(STOCK_DELTA_SNAPSHOT_KEY, STOCK_DELTA_SNAPSHOT_ID_KEY));
+
+        if (!applied) {
+            log.warn("Stock delta snapshot already applied, skipped - snapshotId : {}",
+                snapshotId);
+            return true;
+        }
+
+        redisProductStore.refreshStockQuantities(soldQuantitiesByProductId.keySet());
+        reportStockDrift(soldQuantitiesByProductId.keySet());
+
+        log.info("Stock deltas reconciled - snapshotId : {}, deltas : {}", snapshotId,
+            soldQuantitiesByProductId);
+        return true;
+    }
+
+    /**
+     * @return 락을 잡았으면 락 토큰, 다른 노드가 반영 중이면 null
+     */
+    private String tryLockReconcile() {
+        String lockToken = UUID.randomUUID().toString();
+        Boolean locked = stringRedisTemplate.opsForValue()
+            .setIfAbsent(RECONCILE_LOCK_KEY, lockToken, RECONCILE_LOCK_TTL);
+
+        return Boolean.TRUE.equals(locked) ? lockToken : null;
+    }
+
+    /**
+     * 플래시 세일 지정/해제는 건너뛸 수 없으므로, 다른 노드의 반영이 끝날 때까지 (최대 락 TTL 동안) 기다림
+     */
+    private String lockReconcile() {
+        long deadline = System.nanoTime() + RECONCILE_LOCK_TTL.toNanos();
+
+        String lockToken;
+        while ((lockToken = tryLockReconcile()) == null) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Inventory reconcile lock not acquired");
+            }
+
+            try {
+                Thread.sleep(RECONCILE_LOCK_RETRY_INTERVAL.toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for reconcile lock",
+                    ex);
+            }
+        }
+        return lockToken;
+    }
+
+    private void unlockReconcile(String lockToken) {
+        if (lockToken.equals(stringRedisTemplate.opsForValue().get(RECONCILE_LOCK_KEY))) {
+            stringRedisTemplate.delete(RECONCILE_LOCK_KEY);
+        }
+    }
+
+    /**
+     * 판매 수량을 반영한 뒤 DB 재고가 음수가 된 상품은 Redis 재고와 DB 재고가 어긋난 것이므로 에러로 보고
+     * (0 으로 보정하면 불일치가 가려지므로 값을 그대로 둠)
+     */
+    private void reportStockDrift(Collection<Long> productIds) {
+        List<Long> driftedProductIds = productRepository.findAllById(productIds).stream()
+            .filter(product -> product.getStockQuantity() < 0)
+            .map(Product::getId)
+            .toList();
+
+        if (!driftedProductIds.isEmpty()) {
+            log.error("Stock drift detected, DB stock became negative - productIds : {}",
+                driftedProductIds);
+        }
+    }
+
+    private static <T> RedisScript<T> script(String fileName, Class<T> resultType) {
+        DefaultRedisScript<T> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource("redis/inventory/" + fileName));
+        script.setResultType(resultType);
+        return script;
+    }
+}
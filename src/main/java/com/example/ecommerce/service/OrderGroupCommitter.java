@@ -0,0 +1,208 @@
+package com.example.ecommerce.service;
+
+import com.example.ecommerce.common.exception.order.OrderCheckoutUnavailableException;
+import com.example.ecommerce.common.exception.order.OrderException;
+import com.example.ecommerce.config.CheckoutGroupCommitProperties;
+import com.example.ecommerce.dto.order.CreatePaidOrderDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 검증이 끝난 주문 저장을 짧은 시간 동안 모아 하나의 트랜잭션으로 커밋 (그룹 커밋)
+ * 주문마다 발생하던 커밋(fsync) 비용을 배치 단위로 나누고, INSERT 도 JDBC 배치로 묶임
+ * 재고 row lock 은 배치 트랜잭션의 마지막에 상품 id 오름차순으로만 획득해 배치 간 교착 상태를 막고 lock 보유 시간을 줄임
+ * 배치 중 하나라도 실패하면 해당 배치를 주문별 개별 트랜잭션으로 다시 커밋해 각 요청이 자신의 결과를 받도록 함
+ * 요청 스레드는 결제가 완료된 상태로 기다리므로, 종료/인터럽트/지연 시에도 대기열에 들어간 주문은 모두 결과를 받음
+ */
+@Slf4j
+@Component
+public class OrderGroupCommitter {
+
+    // 대기열이 비어 있을 때 종료 여부를 확인하는 간격
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final OrderWriteService orderWriteService;
+    private final CheckoutGroupCommitProperties properties;
+    private final BlockingQueue<PendingOrder> pendingOrders;
+    private final List<Thread> flushers = new ArrayList<>();
+
+    private volatile boolean running;
+
+    public OrderGroupCommitter(OrderWriteService orderWriteService,
+        CheckoutGroupCommitProperties properties) {
+        this.orderWriteService = orderWriteService;
+        this.properties = properties;
+        this.pendingOrders = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        running = true;
+        for (int i = 0; i < properties.getFlusherThreads(); i++) {
+            Thread flusher = new Thread(this::flushLoop, "checkout-group-commit-" + i);
+            flusher.setDaemon(true);
+            flusher.start();
+            flushers.add(flusher);
+        }
+    }
+
+    /**
+     * 커밋 중인 배치가 끊기지 않도록 flusher 를 인터럽트하지 않고, 진행 중인 배치가 끝날 때까지 기다린 뒤
+     * 대기열에 남은 주문을 개별 커밋으로 처리 (이후 들어오는 주문은 대기열에 넣지 않음)
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+
+        for (Thread flusher : flushers) {
+            try {
+                flusher.join(properties.getResultTimeout().toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        List<PendingOrder> remaining = new ArrayList<>();
+        pendingOrders.drainTo(remaining);
+        commitIndividually(remaining);
+    }
+
+    public Long createPaidOrder(CreatePaidOrderDto createPaidOrderDto) {
+        if (!running) {
+            return orderWriteService.createPaidOrder(createPaidOrderDto);
+        }
+
+        PendingOrder pendingOrder = new PendingOrder(createPaidOrderDto, new CompletableFuture<>());
+
+        // 대기열이 가득 찬 경우 기다리지 않고 개별 커밋
+        if (!pendingOrders.offer(pendingOrder)) {
+            return orderWriteService.createPaidOrder(createPaidOrderDto);
+        }
+
+        // stop() 이 대기열을 비운 뒤에 넣은 주문은 꺼낼 스레드가 없으므로 직접 꺼내 개별 커밋
+        if (!running && pendingOrders.remove(pendingOrder)) {
+            return orderWriteService.createPaidOrder(createPaidOrderDto);
+        }
+
+        return awaitResult(pendingOrder);
+    }
+
+    private Long awaitResult(PendingOrder pendingOrder) {
+        try {
+            return pendingOrder.result()
+                .get(properties.getResultTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            // 아직 flusher 가 꺼내지 않았다면 대기열에서 빼 직접 커밋
+            if (pendingOrders.remove(pendingOrder)) {
+                return orderWriteService.createPaidOrder(pendingOrder.dto());
+            }
+            log.error("Group commit result timed out - paymentId : {}",
+                pendingOrder.dto().paymentDto().id());
+            throw unavailable();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            pendingOrders.remove(pendingOrder);
+            throw unavailable();
+        }
+    }
+
+    private void flushLoop() {
+        List<PendingOrder> batch = new ArrayList<>();
+
+        try {
+            while (running) {
+                PendingOrder first = pendingOrders.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + properties.getWindow().toNanos();
+                while (batch.size() < properties.getMaxBatchSize()) {
+                    long remainingNanos = deadline - System.nanoTime();
+                    if (remainingNanos <= 0) {
+                        break;
+                    }
+
+                    PendingOrder next = pendingOrders.poll(remainingNanos, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                List<PendingOrder> collected = batch;
+                batch = new ArrayList<>();
+                commit(collected);
+            }
+        } catch (InterruptedException ex) {
+            // 배치를 모으는 중에 인터럽트되면 이미 꺼낸 주문을 아래에서 개별 커밋
+            // (인터럽트 상태가 남아 있으면 DB 작업이 실패할 수 있으므로 복구하지 않고, 스레드는 커밋 후 종료됨)
+            log.warn("Group commit flusher interrupted - pendingOrders : {}", batch.size());
+        } finally {
+            commitIndividually(batch);
+        }
+    }
+
+    private void commit(List<PendingOrder> batch) {
+        if (batch.size() == 1) {
+            commitIndividually(batch);
+            return;
+        }
+
+        try {
+            // 배치 전체의 재고 차감을 합산해 상품 id 순서로 한 번에 수행하므로, flusher 스레드 간 lock 순서가 일관됨
+            List<Long> orderIds = orderWriteService.createPaidOrders(batch.stream()
+                .map(PendingOrder::dto)
+                .toList());
+
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(orderIds.get(i));
+            }
+            log.debug("Group commit succeeded - batchSize : {}", batch.size());
+        } catch (RuntimeException ex) {
+            log.warn("Group commit failed, retrying individually - batchSize : {}, cause : {}",
+                batch.size(), ex.getMessage());
+            commitIndividually(batch);
+        }
+    }
+
+    private void commitIndividually(List<PendingOrder> batch) {
+        for (PendingOrder pendingOrder : batch) {
+            try {
+                pendingOrder.result()
+                    .complete(orderWriteService.createPaidOrder(pendingOrder.dto()));
+            } catch (RuntimeException ex) {
+                pendingOrder.result().completeExceptionally(ex);
+            }
+        }
+    }
+
+    private OrderCheckoutUnavailableException unavailable() {
+        return new OrderCheckoutUnavailableException(OrderException.UNAVAILABLE.getStatus(),
+            OrderException.UNAVAILABLE.getMessage());
+    }
+
+    private record PendingOrder(CreatePaidOrderDto dto, CompletableFuture<Long> result) {
+    }
+}
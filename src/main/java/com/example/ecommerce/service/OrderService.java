@@ -1,13 +1,19 @@
 package com.example.ecommerce.service;
 
+import com.example.ecommerce.dto.CursorPageDto;
 import com.example.ecommerce.dto.PageableDto;
 import com.example.ecommerce.dto.order.CreateOrderDto;
 import com.example.ecommerce.dto.order.OrderDto;
+import com.example.ecommerce.dto.port_one.PortOneGetPaymentResponseDto;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.data.domain.Pageable;
 
 public interface OrderService {
     Long verifyPaymentAndCreateOrder(String paymentId, CreateOrderDto createOrderDto);
+    CompletableFuture<Long> verifyPaymentAndCreateOrderAsync(String paymentId, CreateOrderDto createOrderDto);
+    Long createOrderFromPayment(PortOneGetPaymentResponseDto paymentDto, CreateOrderDto createOrderDto);
     PageableDto<OrderDto> getAllOrders(Pageable pageable);
+    CursorPageDto<OrderDto> getUserOrders(Long userId, String cursor, int size);
     OrderDto getOrder(Long id);
     void deleteOrder(Long id);
 }
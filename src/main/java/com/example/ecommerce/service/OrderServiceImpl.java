@@ -1,37 +1,55 @@
 package com.example.ecommerce.service;
 
+import com.example.ecommerce.api.port_one.PortOneAsyncPayment;
 import com.example.ecommerce.api.port_one.PortOnePayment;
-import com.example.ecommerce.common.enums.order.OrderStatus;
+import com.example.ecommerce.common.idempotency.CheckoutIdempotencyStore;
+import com.example.ecommerce.common.exception.order.OrderCheckoutUnavailableException;
 import com.example.ecommerce.common.exception.order.OrderException;
 import com.example.ecommerce.common.exception.order.OrderNotFoundException;
 import com.example.ecommerce.common.exception.order.OrderTotalPriceNotCorrectException;
+import com.example.ecommerce.common.exception.port_one.PortOneException;
+import com.example.ecommerce.common.exception.port_one.PortOnePaymentMismatchException;
 import com.example.ecommerce.common.exception.product.ProductException;
 import com.example.ecommerce.common.exception.product.ProductNotFoundException;
 import com.example.ecommerce.common.exception.product.ProductOutOfStockException;
 import com.example.ecommerce.common.exception.user.UserException;
 import com.example.ecommerce.common.exception.user.UserNotFoundException;
+import com.example.ecommerce.dto.CursorPageDto;
 import com.example.ecommerce.dto.PageableDto;
 import com.example.ecommerce.dto.order.CreateOrderDto;
+import com.example.ecommerce.dto.order.CreatePaidOrderDto;
+import com.example.ecommerce.dto.order.OrderCursor;
 import com.example.ecommerce.dto.order.OrderDto;
 import com.example.ecommerce.dto.port_one.PortOneGetPaymentResponseDto;
 import com.example.ecommerce.entity.Order;
-import com.example.ecommerce.entity.OrderItem;
 import com.example.ecommerce.entity.Payment;
 import com.example.ecommerce.entity.Product;
 import com.example.ecommerce.entity.User;
-import com.example.ecommerce.repository.OrderItemRepository;
 import com.example.ecommerce.repository.OrderRepository;
 import com.example.ecommerce.repository.PaymentRepository;
 import com.example.ecommerce.repository.ProductRepository;
 import com.example.ecommerce.repository.UserRepository;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -40,63 +58,314 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class OrderServiceImpl implements OrderService {
 
+    private static final int MAX_ORDER_HISTORY_SIZE = 100;
+    private static final String PAID = "PAID";
+
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
-    private final OrderItemRepository orderItemRepository;
-
+    private final OrderGroupCommitter orderGroupCommitter;
+    private final OrderWriteService orderWriteService;
+    private final InventoryReservationService inventoryReservationService;
+    private final PaymentRepository paymentRepository;
+    private final CheckoutIdempotencyStore checkoutIdempotencyStore;
 
     private final PortOnePayment portOnePayment;
-    private final PaymentRepository paymentRepository;
+    private final PortOneAsyncPayment portOneAsyncPayment;
+
+    @Qualifier("checkoutExecutor")
+    private final Executor checkoutExecutor;
 
+    /**
+     * 1. 사용자 및 상품 검증, 2. 포트원 결제 검증은 트랜잭션 없이 수행하고
+     * 3. 주문/주문 아이템/재고/결제 정보 저장만 짧은 쓰기 트랜잭션(OrderWriteService, 그룹 커밋 시 OrderGroupCommitter)으로 처리
+     * 외부 API 호출 동안 DB 커넥션을 점유하지 않기 위함
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long verifyPaymentAndCreateOrder(String paymentId, CreateOrderDto createOrderDto) {
         log.info("OrderService::verifyPaymentAndCreateOrder execution started.");
 
+        Long orderId = createOrderOnce(paymentId, () -> createOrder(paymentId, createOrderDto));
+
+        log.info("OrderService::verifyPaymentAndCreateOrder execution successfully ended.");
+        return orderId;
+    }
+
+    /**
+     * 포트원 웹훅으로 결제 완료가 확인된 주문 생성 (웹훅 워커에서 호출)
+     * 브라우저의 결제 검증 요청과 같은 결제 ID 로 경합해도 멱등성 기록과 payments 행으로 한 번만 저장됨
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Long createOrderFromPayment(PortOneGetPaymentResponseDto paymentDto,
+        CreateOrderDto createOrderDto) {
+        log.info("OrderService::createOrderFromPayment execution started.");
+
+        String paymentId = paymentDto.id();
+        Long orderId = createOrderOnce(paymentId, () -> saveOrder(paymentId, createOrderDto,
+            prepareOrder(paymentId, createOrderDto), paymentDto));
+
+        log.info("OrderService::createOrderFromPayment execution successfully ended.");
+        return orderId;
+    }
+
+    private Long createOrderOnce(String paymentId, Supplier<Long> orderCreator) {
+        // 같은 결제 ID 의 재시도 요청이면 검증, 결제 조회, 저장 없이 기존 주문 ID 를 바로 반환
+        String claimToken = UUID.randomUUID().toString();
+        Optional<Long> existingOrderId = checkoutIdempotencyStore.begin(paymentId, claimToken);
+        if (existingOrderId.isPresent()) {
+            log.info("OrderService::createOrderOnce already completed - orderId : {}",
+                existingOrderId.get());
+            return existingOrderId.get();
+        }
+
+        Long orderId;
+
+        try {
+            // 멱등성 기록이 만료된 뒤의 재시도라도 이미 저장된 결제라면 기존 주문 ID 를 반환
+            orderId = paymentRepository.findById(paymentId)
+                .map(Payment::getOrderId)
+                .orElseGet(orderCreator);
+        } catch (RuntimeException ex) {
+            checkoutIdempotencyStore.abort(paymentId, claimToken);
+            throw ex;
+        }
+
+        checkoutIdempotencyStore.complete(paymentId, orderId);
+
+        return orderId;
+    }
+
+    private Long createOrder(String paymentId, CreateOrderDto createOrderDto) {
+        PreparedOrder preparedOrder = prepareOrder(paymentId, createOrderDto);
+
+        // 포트원으로부터 결제 정보를 불러옴
+        PortOneGetPaymentResponseDto paymentDto;
+
+        try {
+            paymentDto = portOnePayment.getPayment(paymentId);
+            log.debug("Called - portOnePayment.getPayment(paymentId), response - paymentDto : {}",
+                paymentDto);
+        } catch (RuntimeException ex) {
+            inventoryReservationService.release(paymentId);
+            throw ex;
+        }
+
+        return saveOrder(paymentId, createOrderDto, preparedOrder, paymentDto);
+    }
+
+    /**
+     * 포트원 결제 조회를 기다리는 동안 요청 스레드를 점유하지 않는 주문 생성
+     * DB/Redis 작업은 checkoutExecutor 에서, 결제 조회는 비동기 HTTP 클라이언트의 I/O 스레드에서 처리
+     * 같은 결제가 처리 중이면 checkoutExecutor 스레드를 붙잡고 기다리지 않고 바로 409 로 응답
+     * checkoutExecutor 가 포화되면 결제 조회 전 단계에서만 503 으로 거절
+     * (결제 조회 이후에는 결제와 재고 선점이 남아 있으므로 거절하지 않고 결제 조회를 완료한 스레드에서 이어서 처리)
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<Long> verifyPaymentAndCreateOrderAsync(String paymentId,
+        CreateOrderDto createOrderDto) {
+        log.info("OrderService::verifyPaymentAndCreateOrderAsync execution started.");
+
+        String claimToken = UUID.randomUUID().toString();
+
+        return supplyBeforePayment(() -> checkoutIdempotencyStore.tryBegin(paymentId, claimToken))
+            .thenCompose(existingOrderId -> existingOrderId
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> createOrderAsync(paymentId, createOrderDto)
+                    .whenComplete((orderId, ex) -> {
+                        if (ex != null) {
+                            checkoutIdempotencyStore.abort(paymentId, claimToken);
+                            return;
+                        }
+                        checkoutIdempotencyStore.complete(paymentId, orderId);
+                        log.info("OrderService::verifyPaymentAndCreateOrderAsync execution successfully ended.");
+                    })));
+    }
+
+    private CompletableFuture<Long> createOrderAsync(String paymentId,
+        CreateOrderDto createOrderDto) {
+        return supplyBeforePayment(() -> paymentRepository.findById(paymentId)
+                .map(Payment::getOrderId))
+            .thenCompose(savedOrderId -> savedOrderId
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> {
+                    PreparedOrder preparedOrder = prepareOrder(paymentId, createOrderDto);
+
+                    return portOneAsyncPayment.getPayment(paymentId)
+                        .whenCompleteAsync((paymentDto, ex) -> {
+                            if (ex != null) {
+                                inventoryReservationService.release(paymentId);
+                            }
+                        }, this::executeAfterPayment)
+                        .thenApplyAsync(paymentDto -> saveOrder(paymentId, createOrderDto,
+                            preparedOrder, paymentDto), this::executeAfterPayment);
+                }));
+    }
+
+    private <T> CompletableFuture<T> supplyBeforePayment(Supplier<T> supplier) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, checkoutExecutor);
+        } catch (RejectedExecutionException ex) {
+            log.warn("Checkout rejected, executor saturated - cause : {}", ex.getMessage());
+            return CompletableFuture.failedFuture(new OrderCheckoutUnavailableException(
+                OrderException.BUSY.getStatus(), OrderException.BUSY.getMessage()));
+        }
+    }
+
+    private void executeAfterPayment(Runnable task) {
+        try {
+            checkoutExecutor.execute(task);
+        } catch (RejectedExecutionException ex) {
+            log.warn("Checkout executor saturated, continue on caller thread - cause : {}",
+                ex.getMessage());
+            task.run();
+        }
+    }
+
+    /**
+     * 사용자/상품 검증 및 플래시 세일 상품 재고 선점 (결제 조회 전 단계)
+     */
+    private PreparedOrder prepareOrder(String paymentId, CreateOrderDto createOrderDto) {
         User user = validateUser(createOrderDto.userId());
         log.debug("Called - validateUser(createOrderDto.userId()), response - user : {}",
             user);
 
-        Order order = Order.builder()
-            .user(user)
-            .totalPrice(createOrderDto.totalPrice())
-            .build();
-        log.debug("Called - Order.builder(), response - order : {}",
-            order);
-
         // 제품 유효성 및 가격 체크
         List<Product> products = validateProductsAndCalculateTotalPrice(createOrderDto);
         log.debug("Called - validateProductsAndCalculateTotalPrice, response - products : {}",
             products);
 
-        // 포트원으로부터 결제 정보를 불러옴
-        PortOneGetPaymentResponseDto paymentDto = portOnePayment.getPayment(paymentId);
-        log.debug("Called - portOnePayment.getPayment(paymentId), response - paymentDto : {}",
-            paymentDto);
+        // 플래시 세일 상품은 Redis 에서 재고를 선점 (결제 ID 를 예약 ID 로 사용)
+        Map<Long, Integer> reservedProductsMap;
+
+        try {
+            reservedProductsMap = inventoryReservationService.reserve(paymentId,
+                createOrderDto.productsMap());
+        } catch (ProductOutOfStockException ex) {
+            // 결제 취소는 결제 조회로 이 주문의 결제임을 확인한 뒤 saveOrder 에서 수행
+            log.debug("Reservation failed - paymentId : {}, cause : {}", paymentId,
+                ex.getMessage());
+            return new PreparedOrder(user, products, Map.of(), ex);
+        }
+        log.debug("Called - inventoryReservationService.reserve, response - reservedProductsMap : {}",
+            reservedProductsMap);
 
-        // 결제 정보 존재할 시 주문 상태 업데이트 및 저장
-        order.fromCurrentOrderStatusTo(OrderStatus.PAID);
-        log.debug("Called - order.fromCurrentOrderStatusTo(OrderStatus.PAID), response : NONE");
+        return new PreparedOrder(user, products, reservedProductsMap, null);
+    }
 
-        Long orderId = orderRepository.save(order).getId();
-        log.debug("Called - orderRepository.save(order).getId(), response - orderId : {}", orderId);
+    /**
+     * 결제 검증이 끝난 주문 저장 (저장 실패 시 재고 선점 해제 및 결제 취소)
+     * 결제 정보가 주문과 일치하지 않으면 다른 주문의 결제일 수 있으므로 취소하지 않고 실패
+     */
+    private Long saveOrder(String paymentId, CreateOrderDto createOrderDto,
+        PreparedOrder preparedOrder, PortOneGetPaymentResponseDto paymentDto) {
+        try {
+            verifyPayment(paymentId, createOrderDto, paymentDto);
+        } catch (RuntimeException ex) {
+            inventoryReservationService.release(paymentId);
+            throw ex;
+        }
 
-        // 주문 아이템 생성 및 벌크 저장
-        saveOrderItems(order, products, createOrderDto.productsMap());
-        log.debug(
-            "Called - saveOrderItems(order, products, createOrderDto.productsMap()), response : NONE");
+        // 이 주문의 결제임을 확인했으므로 재고 선점 실패 시 결제를 취소
+        if (preparedOrder.reservationFailure() != null) {
+            compensatePayment(paymentId, preparedOrder.reservationFailure());
+            throw preparedOrder.reservationFailure();
+        }
 
-        Payment payment = PortOneGetPaymentResponseDto.toEntity(paymentDto, orderId);
-        log.debug(
-            "Called - PortOneGetPaymentResponseDto.toEntity(paymentDto, orderId), response - payment : {}",
-            payment);
+        // 선점하지 않은 상품만 DB 에서 재고 차감
+        Map<Long, Integer> stockProductsMap = new HashMap<>(createOrderDto.productsMap());
+        stockProductsMap.keySet().removeAll(preparedOrder.reservedProductsMap().keySet());
 
-        paymentRepository.save(payment);
-        log.debug("Called - paymentRepository.save(payment), response : NONE");
+        CreatePaidOrderDto createPaidOrderDto = CreatePaidOrderDto.builder()
+            .user(preparedOrder.user())
+            .totalPrice(createOrderDto.totalPrice())
+            .products(preparedOrder.products())
+            .productsMap(createOrderDto.productsMap())
+            .stockProductsMap(stockProductsMap)
+            .paymentDto(paymentDto)
+            .build();
 
-        log.info("OrderService::verifyPaymentAndCreateOrder execution successfully ended.");
-        return order.getId();
+        Long orderId;
+
+        try {
+            // 주문 저장 중에 선점 재고가 만료 해제되지 않도록 예약을 붙잡음 (이미 해제되었으면 저장하지 않고 실패)
+            inventoryReservationService.hold(paymentId, preparedOrder.reservedProductsMap());
+
+            orderId = orderGroupCommitter.createPaidOrder(createPaidOrderDto);
+            log.debug("Called - orderGroupCommitter.createPaidOrder(createPaidOrderDto), response - orderId : {}",
+                orderId);
+        } catch (RuntimeException ex) {
+            inventoryReservationService.release(paymentId);
+
+            // 다른 요청이 같은 결제로 먼저 주문을 저장했다면 결제를 취소하지 않고 그 주문 ID 를 반환
+            Optional<Long> savedOrderId = paymentRepository.findById(paymentId)
+                .map(Payment::getOrderId);
+            if (ex instanceof DataIntegrityViolationException && savedOrderId.isPresent()) {
+                return savedOrderId.get();
+            }
+
+            // 그룹 커밋 결과를 기다리다 시간이 초과되었다면 주문이 뒤늦게 저장될 수 있으므로,
+            // 주문 저장 여부를 확인한 뒤 취소하는 아웃박스로만 결제 취소를 요청
+            if (ex instanceof OrderCheckoutUnavailableException) {
+                queuePaymentCancel(paymentId, ex);
+                throw ex;
+            }
+
+            // 결제는 완료되었으나 주문 저장에 실패한 경우 결제를 취소 (보상 트랜잭션)
+            compensatePayment(paymentId, ex);
+            throw ex;
+        }
+
+        inventoryReservationService.confirm(paymentId, preparedOrder.reservedProductsMap());
+
+        return orderId;
+    }
+
+    /**
+     * 포트원 결제가 요청한 결제 ID, 완료 상태, 주문 총액과 모두 일치하는지 확인
+     */
+    private void verifyPayment(String paymentId, CreateOrderDto createOrderDto,
+        PortOneGetPaymentResponseDto paymentDto) {
+        boolean matched = paymentId.equals(paymentDto.id())
+            && PAID.equals(paymentDto.status())
+            && paymentDto.amount() != null
+            && paymentDto.amount().total() == createOrderDto.totalPrice();
+
+        if (!matched) {
+            log.warn("Payment does not match order - paymentId : {}, status : {}, amount : {}, totalPrice : {}",
+                paymentId, paymentDto.status(), paymentDto.amount(), createOrderDto.totalPrice());
+
+            throw new PortOnePaymentMismatchException(
+                PortOneException.MISMATCH.getStatus(),
+                PortOneException.MISMATCH.getMessage()
+            );
+        }
+    }
+
+    private void compensatePayment(String paymentId, RuntimeException cause) {
+        log.warn("Order write failed after payment. Cancelling payment - paymentId : {}, cause : {}",
+            paymentId, cause.getMessage());
+
+        try {
+            portOnePayment.cancelPayment(paymentId, cause.getMessage());
+        } catch (RuntimeException ex) {
+            // 포트원 장애나 서킷 오픈으로 바로 취소하지 못하면 아웃박스에 기록해 백오프로 재시도
+            log.warn("Payment cancellation failed, queued for retry - paymentId : {}, cause : {}",
+                paymentId, ex.getMessage());
+            queuePaymentCancel(paymentId, cause);
+        }
+    }
+
+    private void queuePaymentCancel(String paymentId, RuntimeException cause) {
+        try {
+            orderWriteService.requestPaymentCancel(paymentId, cause.getMessage());
+        } catch (RuntimeException outboxEx) {
+            // 아웃박스 기록까지 실패하면 수동 확인이 필요하므로 에러 로그를 남기고 원래 예외를 그대로 전달
+            log.error("Payment cancellation request failed - paymentId : {}", paymentId,
+                outboxEx);
+        }
     }
 
     private User validateUser(Long userId) {
@@ -111,19 +380,30 @@ public class OrderServiceImpl implements OrderService {
         int totalPrice = createOrderDto.totalPrice();
         List<Product> products = new ArrayList<>();
 
-        for (Map.Entry<Long, Integer> entry : createOrderDto.productsMap().entrySet()) {
-            Long productId = entry.getKey();
-            Integer quantity = entry.getValue();
+        // 주문 상품을 ID 순으로 정렬해 IN 쿼리 한 번으로 조회 (이후 재고 차감도 같은 순서로 잠금)
+        Map<Long, Integer> sortedProductsMap = new TreeMap<>(createOrderDto.productsMap());
+        Map<Long, Product> productsById = productRepository.findAllById(sortedProductsMap.keySet())
+            .stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        // 존재하지 않는 상품 ID 는 한 번에 모아서 알려줌
+        List<Long> notFoundProductIds = sortedProductsMap.keySet().stream()
+            .filter(productId -> !productsById.containsKey(productId))
+            .toList();
+
+        if (!notFoundProductIds.isEmpty()) {
+            throw new ProductNotFoundException(
+                ProductException.NOTFOUND.getStatus(),
+                ProductException.NOTFOUND.getMessage() + " productIds : " + notFoundProductIds
+            );
+        }
 
-            Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new ProductNotFoundException(
-                    ProductException.NOTFOUND.getStatus(),
-                    ProductException.NOTFOUND.getMessage())
-                );
+        for (Map.Entry<Long, Integer> entry : sortedProductsMap.entrySet()) {
+            Product product = productsById.get(entry.getKey());
 
             products.add(product);
 
-            totalPrice -= product.getUnitPrice() * quantity;
+            totalPrice -= product.getUnitPrice() * entry.getValue();
         }
 
         if (totalPrice != 0) {
@@ -136,43 +416,43 @@ public class OrderServiceImpl implements OrderService {
         return products;
     }
 
-    private void saveOrderItems(Order order, List<Product> products,
-        Map<Long, Integer> productsMap) {
-        List<OrderItem> orderItems = new ArrayList<>();
-
-        for (Product product : products) {
-            Integer quantity = productsMap.get(product.getId());
-
-            // 재고 체크
-            if ((product.getStockQuantity() - quantity) <= 0) {
-                throw new ProductOutOfStockException(
-                    ProductException.OUT_OF_STOCK.getStatus(),
-                    ProductException.OUT_OF_STOCK.getMessage()
-                );
-            }
-
-            product.updateStockQuantity(product.getStockQuantity() - quantity);
-
-            OrderItem orderItem = OrderItem.builder()
-                .order(order)
-                .product(product)
-                .quantity(quantity)
-                .price(product.getUnitPrice() * quantity)
-                .build();
-
-            orderItems.add(orderItem);
-        }
-
-        orderItemRepository.saveAll(orderItems);  // 벌크 저장으로 성능 최적화
-    }
-
     @Override
     public PageableDto<OrderDto> getAllOrders(Pageable pageable) {
-        Page<Order> pageableOrders = orderRepository.findAll(pageable);
+        // 사용자/주문 아이템/상품을 fetch join 으로 함께 조회해 페이지 크기와 무관한 쿼리 수 유지
+        Page<Order> pageableOrders = orderRepository.findAllWithOrderItems(pageable);
 
         return PageableDto.toDto(pageableOrders.map(Order::toDto));
     }
 
+    @Override
+    public CursorPageDto<OrderDto> getUserOrders(Long userId, String cursor, int size) {
+        validateUser(userId);
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_ORDER_HISTORY_SIZE);
+        OrderCursor orderCursor = (cursor == null || cursor.isBlank())
+            ? null
+            : OrderCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부를 count 쿼리 없이 알기 위해 한 건 더 조회
+        List<Order> orders = orderRepository.findUserOrderHistory(userId,
+            orderCursor == null ? null : orderCursor.createdAt(),
+            orderCursor == null ? null : orderCursor.orderId(),
+            pageSize + 1);
+
+        boolean hasNext = orders.size() > pageSize;
+        List<Order> pageOrders = hasNext ? orders.subList(0, pageSize) : orders;
+        String nextCursor = hasNext
+            ? OrderCursor.from(pageOrders.get(pageOrders.size() - 1)).encode()
+            : null;
+
+        return CursorPageDto.<OrderDto>builder()
+            .data(pageOrders.stream().map(Order::toDto).toList())
+            .nextCursor(nextCursor)
+            .hasNext(hasNext)
+            .size(pageSize)
+            .build();
+    }
+
     @Override
     public OrderDto getOrder(Long id) {
         Order order = orderRepository.findById(id)
@@ -192,4 +472,9 @@ public class OrderServiceImpl implements OrderService {
         orderRepository.delete(order);
     }
 
+    // reservationFailure : 재고 선점 실패 (결제 검증 후 결제 취소와 함께 던짐)
+    private record PreparedOrder(User user, List<Product> products,
+                                 Map<Long, Integer> reservedProductsMap,
+                                 ProductOutOfStockException reservationFailure) {
+    }
 }
@@ -0,0 +1,177 @@
+package com.example.ecommerce.service;
+
+import com.example.ecommerce.common.enums.order.OrderStatus;
+import com.example.ecommerce.common.enums.outbox.OutboxEventType;
+import com.example.ecommerce.common.exception.product.ProductException;
+import com.example.ecommerce.common.exception.product.ProductOutOfStockException;
+import com.example.ecommerce.common.outbox.OutboxEventAppender;
+import com.example.ecommerce.dto.order.CreatePaidOrderDto;
+import com.example.ecommerce.dto.outbox.OrderPaidEvent;
+import com.example.ecommerce.dto.outbox.PaymentCancelEvent;
+import com.example.ecommerce.dto.port_one.PortOneGetPaymentResponseDto;
+import com.example.ecommerce.entity.Order;
+import com.example.ecommerce.entity.OrderItem;
+import com.example.ecommerce.entity.Payment;
+import com.example.ecommerce.entity.Product;
+import com.example.ecommerce.repository.OrderItemRepository;
+import com.example.ecommerce.repository.OrderRepository;
+import com.example.ecommerce.repository.PaymentRepository;
+import com.example.ecommerce.repository.ProductRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 결제 검증이 끝난 주문을 하나의 짧은 쓰기 트랜잭션으로 저장 (주문, 주문 아이템, 결제 정보, 재고 차감)
+ * 외부 API 호출은 이 트랜잭션 밖(OrderServiceImpl)에서 끝나 있어야 함
+ */
+@Service
+@AllArgsConstructor
+@Slf4j
+public class OrderWriteService {
+
+    private final OrderRepository orderRepository;
+    private final ProductRepository productRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final PaymentRepository paymentRepository;
+    private final OutboxEventAppender outboxEventAppender;
+
+    @Transactional
+    public Long createPaidOrder(CreatePaidOrderDto createPaidOrderDto) {
+        log.info("OrderWriteService::createPaidOrder execution started.");
+
+        Long orderId = saveOrder(createPaidOrderDto);
+
+        // 재고 차감은 row lock 보유 시간을 줄이기 위해 트랜잭션의 마지막에 수행
+        decreaseStockQuantities(createPaidOrderDto.stockProductsMap());
+        log.debug("Called - decreaseStockQuantities(stockProductsMap), response : NONE");
+
+        log.info("OrderWriteService::createPaidOrder execution successfully ended.");
+        return orderId;
+    }
+
+    /**
+     * 여러 주문을 하나의 트랜잭션으로 저장 (그룹 커밋)
+     * 주문별로 재고를 차감하면 배치 안에서 상품 id 순서가 뒤섞여 다른 배치와 교착 상태가 생길 수 있으므로,
+     * 배치 전체의 차감 수량을 상품별로 합산해 트랜잭션 마지막에 상품 id 오름차순으로 한 번만 차감
+     */
+    @Transactional
+    public List<Long> createPaidOrders(List<CreatePaidOrderDto> createPaidOrderDtos) {
+        log.info("OrderWriteService::createPaidOrders execution started.");
+
+        List<Long> orderIds = new ArrayList<>();
+        Map<Long, Integer> stockProductsMap = new TreeMap<>();
+
+        for (CreatePaidOrderDto createPaidOrderDto : createPaidOrderDtos) {
+            orderIds.add(saveOrder(createPaidOrderDto));
+            createPaidOrderDto.stockProductsMap()
+                .forEach((productId, quantity) -> stockProductsMap.merge(productId, quantity,
+                    Integer::sum));
+        }
+        log.debug("Called - saveOrder(createPaidOrderDto), response - orderIds : {}", orderIds);
+
+        // 합산 수량 기준으로 재고가 부족하면 배치 전체를 롤백하고, 호출 측에서 주문별 개별 커밋으로 재시도
+        decreaseStockQuantities(stockProductsMap);
+        log.debug("Called - decreaseStockQuantities(stockProductsMap), response : NONE");
+
+        log.info("OrderWriteService::createPaidOrders execution successfully ended.");
+        return orderIds;
+    }
+
+    /**
+     * 바로 취소하지 못한 결제를 아웃박스에 기록해 PaymentCancelHandler 가 백오프로 재시도하도록 함
+     */
+    @Transactional
+    public void requestPaymentCancel(String paymentId, String reason) {
+        outboxEventAppender.append(OutboxEventType.PAYMENT_CANCEL, null,
+            PaymentCancelEvent.builder()
+                .paymentId(paymentId)
+                .reason(reason)
+                .build());
+        log.debug("Called - outboxEventAppender.append(PAYMENT_CANCEL, null, event), response : NONE");
+    }
+
+    // 주문, 주문 아이템, 결제 정보, 아웃박스 이벤트 저장 (재고 차감 제외)
+    private Long saveOrder(CreatePaidOrderDto createPaidOrderDto) {
+        Order order = Order.builder()
+            .user(createPaidOrderDto.user())
+            .totalPrice(createPaidOrderDto.totalPrice())
+            .build();
+
+        // 결제 검증이 끝난 주문이므로 PAID 상태로 저장
+        order.fromCurrentOrderStatusTo(OrderStatus.PAID);
+        log.debug("Called - order.fromCurrentOrderStatusTo(OrderStatus.PAID), response : NONE");
+
+        Long orderId = orderRepository.save(order).getId();
+        log.debug("Called - orderRepository.save(order).getId(), response - orderId : {}", orderId);
+
+        // 주문 아이템 생성 및 벌크 저장
+        saveOrderItems(order, createPaidOrderDto.products(), createPaidOrderDto.productsMap());
+        log.debug(
+            "Called - saveOrderItems(order, products, productsMap), response : NONE");
+
+        Payment payment = PortOneGetPaymentResponseDto.toEntity(createPaidOrderDto.paymentDto(),
+            orderId);
+        log.debug(
+            "Called - PortOneGetPaymentResponseDto.toEntity(paymentDto, orderId), response - payment : {}",
+            payment);
+
+        paymentRepository.save(payment);
+        log.debug("Called - paymentRepository.save(payment), response : NONE");
+
+        // 캐시 무효화 등 후속 처리는 같은 트랜잭션으로 아웃박스에 기록하고 OutboxDispatcher 가 비동기로 처리
+        // 재고 차감(row lock) 이전에 기록해 lock 보유 구간에 INSERT 가 끼지 않도록 함
+        outboxEventAppender.append(OutboxEventType.ORDER_PAID, orderId, OrderPaidEvent.builder()
+            .orderId(orderId)
+            .userId(createPaidOrderDto.user().getId())
+            .paymentId(payment.getPaymentId())
+            .totalPrice(createPaidOrderDto.totalPrice())
+            .productsMap(createPaidOrderDto.productsMap())
+            .build());
+        log.debug("Called - outboxEventAppender.append(ORDER_PAID, orderId, event), response : NONE");
+
+        return orderId;
+    }
+
+    private void saveOrderItems(Order order, List<Product> products,
+        Map<Long, Integer> productsMap) {
+        List<OrderItem> orderItems = new ArrayList<>();
+
+        for (Product product : products) {
+            Integer quantity = productsMap.get(product.getId());
+
+            OrderItem orderItem = OrderItem.builder()
+                .order(order)
+                .product(product)
+                .quantity(quantity)
+                .price(product.getUnitPrice() * quantity)
+                .build();
+
+            orderItems.add(orderItem);
+        }
+
+        orderItemRepository.saveAll(orderItems);  // 벌크 저장으로 성능 최적화
+    }
+
+    /**
+     * 조건부 UPDATE(stock_quantity >= ?) 배치로 재고를 차감
+     * 한 상품이라도 재고가 부족하면 예외를 던져 주문 트랜잭션 전체를 롤백
+     */
+    private void decreaseStockQuantities(Map<Long, Integer> productsMap) {
+        List<Long> outOfStockProductIds = productRepository.decreaseStockQuantities(productsMap);
+
+        if (!outOfStockProductIds.isEmpty()) {
+            log.debug("Out of stock - productIds : {}", outOfStockProductIds);
+
+            throw new ProductOutOfStockException(
+                ProductException.OUT_OF_STOCK.getStatus(),
+                ProductException.OUT_OF_STOCK.getMessage()
+            );
+        }
+    }
+}
@@ -16,6 +16,12 @@ public interface ProductService {
     PageableDto<ProductDto> searchProducts(String keyword, Category category, Size productSize,
         Pageable pageable, String entryPoint);
 
+    long countSearchProducts(String keyword, Category category, Size productSize,
+        String entryPoint);
+
+    PageableDto<ProductDto> searchProductsByCursor(String keyword, Category category,
+        Size productSize, String entryPoint, String cursor, Pageable pageable);
+
     PageableDto<ProductDto> getAllProducts(Pageable pageable);
 
     PageableDto<ProductDto> getShopDisplayableProducts(Pageable pageable);
@@ -25,4 +31,8 @@ public interface ProductService {
     ProductDto updateProduct(Long id, ProductDto productDto, MultipartFile file);
 
     void deleteProduct(Long id);
+
+    void enableFlashSale(Long id);
+
+    void disableFlashSale(Long id);
 }
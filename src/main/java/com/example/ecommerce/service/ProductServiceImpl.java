@@ -1,28 +1,39 @@
 package com.example.ecommerce.service;
 
+import com.example.ecommerce.common.cache.RedisProductStore;
 import com.example.ecommerce.common.enums.product.Category;
+import com.example.ecommerce.common.enums.product.ProductSortKey;
 import com.example.ecommerce.common.enums.product.Size;
 import com.example.ecommerce.common.exception.file.FileContentTypeMismatchException;
 import com.example.ecommerce.common.exception.file.FileException;
 import com.example.ecommerce.common.exception.file.FileIsEmptyException;
 import com.example.ecommerce.common.exception.product.ProductException;
 import com.example.ecommerce.common.exception.product.ProductNotFoundException;
+import com.example.ecommerce.common.search.ProductSearchIndex;
+import com.example.ecommerce.common.search.ProductSearchIndexSynchronizer;
 import com.example.ecommerce.dto.PageableDto;
 import com.example.ecommerce.dto.product.CreateProductDto;
 import com.example.ecommerce.dto.product.ProductDto;
+import com.example.ecommerce.dto.product.ProductSearchCursor;
 import com.example.ecommerce.entity.Product;
+import com.example.ecommerce.entity.RedisProduct;
 import com.example.ecommerce.repository.ProductRepository;
 import com.example.ecommerce.repository.custom.ProductRepositoryCustom;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheConfig;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -38,15 +49,13 @@ public class ProductServiceImpl implements ProductService {
     private final ProductRepository productRepository;
     private final ProductRepositoryCustom productRepositoryCustom;
     private final S3Service s3Service;
+    private final InventoryReservationService inventoryReservationService;
+    private final RedisProductStore redisProductStore;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSearchIndexSynchronizer productSearchIndexSynchronizer;
 
     @Transactional
     @Override
-    // 캐싱 무효화 : 다음 조회 시 최신 데이터를 가져오도록 함
-    @Caching(evict = {
-        @CacheEvict(key = "'all'"),
-        @CacheEvict(key = "'shopDisplayable'"),
-        @CacheEvict(allEntries = true) // 검색 결과 캐시 모두 무효화
-    })
     public ProductDto createProduct(CreateProductDto createProductDto, MultipartFile file) {
         log.info("ProductService::createProduct execution started.");
 
@@ -70,19 +79,26 @@ public class ProductServiceImpl implements ProductService {
         productDto = Product.toDto(result);
         log.debug("Called - Product.toDto(result),  converter parameter : ({})", productDto);
 
+        // 목록/검색 캐시 무효화 : 역색인을 반영한 뒤 세대 번호만 올리고, 개별 상품(getProduct) 캐시는 유지
+        productSearchIndexSynchronizer.productChanged(result.getId());
+
         log.info("ProductService::createProduct execution successfully ended.");
 
         return productDto;
     }
 
     @Override
-    @Cacheable(key = "'search:' + #keyword + ':' + #category + ':' + #productSize + ':' + #pageable.pageNumber + ':' + #entryPoint")
+    @Cacheable(keyGenerator = "productListKeyGenerator")
     public PageableDto<ProductDto> searchProducts(String keyword, Category category,
         Size productSize, Pageable pageable, String entryPoint) {
         log.info("ProductService::searchProducts execution started.");
 
-        PageableDto<Product> productDtoPageableDto = productRepositoryCustom.searchProducts(keyword,
-            category, productSize, pageable, entryPoint);
+        // 역색인으로 상품 ID 를 찾고 PK 로 조회, 색인이 준비되지 않았으면 MySQL 검색으로 대체
+        PageableDto<Product> productDtoPageableDto = productSearchIndex.search(keyword, category,
+                productSize, entryPoint, pageable)
+            .map(this::findProductsInOrder)
+            .orElseGet(() -> productRepositoryCustom.searchProducts(keyword, category,
+                productSize, pageable, entryPoint));
         log.debug(
             "Called - productRepositoryCustom.searchProducts(keyword, category, productSize, pageable, entryPoint(), response : productDtoPageableDto : {}",
             productDtoPageableDto);
@@ -107,8 +123,65 @@ public class ProductServiceImpl implements ProductService {
         return returnedProductDtoPageableDto;
     }
 
+    /**
+     * 검색 결과 전체 건수 (요청한 클라이언트에만 제공)
+     * 목록 캐시와 같은 세대 번호 key 로 캐싱되어 상품이 바뀌기 전까지 COUNT 쿼리를 반복하지 않음
+     */
+    @Override
+    @Cacheable(keyGenerator = "productListKeyGenerator")
+    public long countSearchProducts(String keyword, Category category, Size productSize,
+        String entryPoint) {
+        log.info("ProductService::countSearchProducts execution started.");
+
+        long totalElements = productSearchIndex.count(keyword, category, productSize, entryPoint)
+            .orElseGet(() -> productRepositoryCustom.countProducts(keyword, category,
+                productSize, entryPoint));
+        log.debug(
+            "Called - productRepositoryCustom.countProducts(keyword, category, productSize, entryPoint), response - totalElements : {}",
+            totalElements);
+
+        log.info("ProductService::countSearchProducts execution successfully ended.");
+
+        return totalElements;
+    }
+
+    /**
+     * 커서 검색 : pageable 의 page 는 무시하고 size 와 정렬 기준(id, unitPrice)만 사용
+     */
+    @Override
+    @Cacheable(keyGenerator = "productListKeyGenerator")
+    public PageableDto<ProductDto> searchProductsByCursor(String keyword, Category category,
+        Size productSize, String entryPoint, String cursor, Pageable pageable) {
+        log.info("ProductService::searchProductsByCursor execution started.");
+
+        ProductSortKey sortKey = ProductSortKey.from(pageable.getSort());
+        Sort.Direction direction = Optional.ofNullable(
+                pageable.getSort().getOrderFor(sortKey.getProperty()))
+            .map(Sort.Order::getDirection)
+            .orElse(Sort.Direction.ASC);
+
+        ProductSearchCursor searchCursor = cursor == null || cursor.isBlank() ? null
+            : ProductSearchCursor.decode(cursor, sortKey, direction);
+        log.debug("Called - ProductSearchCursor.decode(cursor, sortKey, direction), response - searchCursor : {}",
+            searchCursor);
+
+        PageableDto<Product> productPageableDto = productRepositoryCustom.searchProductsByCursor(
+            keyword, category, productSize, entryPoint, sortKey, direction, searchCursor,
+            pageable.getPageSize());
+        log.debug(
+            "Called - productRepositoryCustom.searchProductsByCursor(...), response - productPageableDto : {}",
+            productPageableDto);
+
+        List<ProductDto> productDtoList = convertToProductDtoList(productPageableDto.data());
+
+        log.info("ProductService::searchProductsByCursor execution successfully ended.");
+
+        return new PageableDto<>(productDtoList, productPageableDto.last(),
+            productPageableDto.page(), productPageableDto.size(), productPageableDto.nextCursor());
+    }
+
     @Override
-    @Cacheable(key = "'all'")
+    @Cacheable(keyGenerator = "productListKeyGenerator")
     public PageableDto<ProductDto> getAllProducts(Pageable pageable) {
         log.info("ProductService::getAllProducts execution started.");
 
@@ -124,32 +197,31 @@ public class ProductServiceImpl implements ProductService {
 
 
     @Override
-    @Cacheable(key = "'shopDisplayable'")
+    @Cacheable(keyGenerator = "productListKeyGenerator")
     public PageableDto<ProductDto> getShopDisplayableProducts(Pageable pageable) {
         log.info("ProductService::getShopDisplayableProducts execution started.");
 
-        List<Product> products = productRepository.findAll();
-        log.debug("Called - productRepository.findAll(), response - products : {}", products);
+        // 정렬 조건이 없으면 인덱스 순서(id)로 정렬해 페이지 간 중복/누락이 없도록 함
+        Pageable sortedPageable = pageable.isPaged() && pageable.getSort().isUnsorted()
+            ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("id"))
+            : pageable;
 
-        List<Product> shopDisplayableProducts = products.stream()
-            .filter(p -> p != null && Boolean.TRUE.equals(p.getShopDisplayable()))
-            .toList();
-        log.debug("""
-                Called - products.stream()
-                .filter(p -> p != null && Boolean.TRUE.equals(p.getShopDisplayable()))
-                .toList();, response - shopDisplayableProducts : {}""",
+        // 노출 여부 필터와 페이징을 DB 에서 처리 (카탈로그 전체를 메모리에 올리지 않음)
+        Page<Product> shopDisplayableProducts = productRepository.findAllByShopDisplayableTrue(
+            sortedPageable);
+        log.debug(
+            "Called - productRepository.findAllByShopDisplayableTrue(sortedPageable), response - shopDisplayableProducts : {}",
             shopDisplayableProducts);
 
-        List<ProductDto> productDtoList = convertToProductDtoList(shopDisplayableProducts);
+        // presigned URL 은 현재 페이지의 상품에 대해서만 생성
+        List<ProductDto> productDtoList = convertToProductDtoList(
+            shopDisplayableProducts.getContent());
         log.debug(
-            "Called - convertToProductDtoList(productDtoPageableDto.data()), response - productDtoList : {}",
+            "Called - convertToProductDtoList(shopDisplayableProducts.getContent()), response - productDtoList : {}",
             productDtoList);
 
-        Page<ProductDto> productDtoPage = generateProductDtoPage(
-            pageable, productDtoList);
-        log.debug(
-            "Called - generateProductDtoPage(pageable, productDtoList), response - productDtoPage: {}",
-            productDtoPage);
+        Page<ProductDto> productDtoPage = new PageImpl<>(productDtoList,
+            shopDisplayableProducts.getPageable(), shopDisplayableProducts.getTotalElements());
 
         log.info("ProductService::getShopDisplayableProducts execution successfully ended.");
 
@@ -158,37 +230,29 @@ public class ProductServiceImpl implements ProductService {
 
 
     @Override
-    @Cacheable(key = "#id", unless = "#result == null") // 조회 시 값이 null이면 캐싱을 하지 않음
     public ProductDto getProduct(Long id) {
         log.info("ProductService::getProduct execution started.");
 
-        Product product = findProductById(id);
-        log.debug(
-            "Called - productRepository.findById(id), response from database - product : {}",
-            product);
+        // Redis hash 에 없을 때만 DB 에서 읽어 채움
+        RedisProduct redisProduct = redisProductStore.find(id)
+            .orElseGet(() -> redisProductStore.load(findProductById(id)));
+        log.debug("Called - redisProductStore.find(id), response - redisProduct : {}",
+            redisProduct);
 
-        String fileKey = product.getFileKey();
-        log.debug("Called - product.getFileKey(), response - fileKey : {}", fileKey);
+        String fileKey = redisProduct.getFileKey();
+        log.debug("Called - redisProduct.getFileKey(), response - fileKey : {}", fileKey);
 
         String fileUrl = s3Service.getPresignedUrl(fileKey);
         log.debug("Called - s3Service.getPresignedUrl(fileKey), response - fileUrl : {}",
             fileUrl);
 
-        String fileName = product.getFileName();
-        log.debug("Called - product.getFileName(), response - fileName : {}", fileName);
-
         log.info("ProductService::getProduct execution successfully ended.");
 
-        return Product.toDto(product, fileName, fileUrl);
+        return redisProduct.toDto(fileUrl);
     }
 
     @Transactional
     @Override
-    @Caching(evict = {
-        @CacheEvict(key = "'all'"),
-        @CacheEvict(key = "'shopDisplayable'"),
-        @CacheEvict(key = "#id")
-    })
     public ProductDto updateProduct(Long id, ProductDto productDto, MultipartFile file) {
         log.info("ProductService::updateProduct execution started.");
 
@@ -214,6 +278,9 @@ public class ProductServiceImpl implements ProductService {
             "Called - Product.toDto(product, product.getFileName(), presignedUrl), response - dto : {}",
             dto);
 
+        redisProductStore.save(product);
+        productSearchIndexSynchronizer.productChanged(id);
+
         log.info("ProductService::updateProduct execution successfully ended.");
 
         return dto;
@@ -221,11 +288,6 @@ public class ProductServiceImpl implements ProductService {
 
     @Transactional
     @Override
-    @Caching(evict = {
-        @CacheEvict(key = "'all'"),
-        @CacheEvict(key = "'shopDisplayable'"),
-        @CacheEvict(key = "#id")
-    })
     public void deleteProduct(Long id) {
         log.info("ProductService::deleteProduct execution started.");
 
@@ -236,9 +298,49 @@ public class ProductServiceImpl implements ProductService {
         productRepository.delete(product);
         log.info("Called - productRepository.delete(product), response : NONE");
 
+        redisProductStore.delete(id);
+        productSearchIndexSynchronizer.productChanged(id);
+
         log.info("ProductService::deleteProduct execution successfully ended.");
     }
 
+    @Override
+    public void enableFlashSale(Long id) {
+        log.info("ProductService::enableFlashSale execution started.");
+
+        inventoryReservationService.enableFlashSale(id);
+        log.debug("Called - inventoryReservationService.enableFlashSale(id), response : NONE");
+
+        log.info("ProductService::enableFlashSale execution successfully ended.");
+    }
+
+    @Override
+    public void disableFlashSale(Long id) {
+        log.info("ProductService::disableFlashSale execution started.");
+
+        inventoryReservationService.disableFlashSale(id);
+        log.debug("Called - inventoryReservationService.disableFlashSale(id), response : NONE");
+
+        log.info("ProductService::disableFlashSale execution successfully ended.");
+    }
+
+    /**
+     * 역색인이 반환한 ID 순서대로 상품을 조회 (그 사이 삭제된 상품은 제외)
+     */
+    private PageableDto<Product> findProductsInOrder(PageableDto<Long> productIds) {
+        Map<Long, Product> productsById = productRepository.findAllById(productIds.data())
+            .stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<Product> products = productIds.data().stream()
+            .map(productsById::get)
+            .filter(Objects::nonNull)
+            .toList();
+
+        return new PageableDto<>(products, productIds.last(), productIds.page(),
+            productIds.size(), null, productIds.totalElements());
+    }
+
     private Product findProductById(Long id) {
         return productRepository.findById(id)
             .orElseThrow(() -> new ProductNotFoundException(ProductException.NOTFOUND.getStatus(),
@@ -292,20 +394,4 @@ public class ProductServiceImpl implements ProductService {
 
         log.info("File validation successfully ended.");
     }
-
-    private static Page<ProductDto> generateProductDtoPage(Pageable pageable,
-        List<ProductDto> productDtoList) {
-        log.info("ProductService::generateProductDtoPage execution started.");
-
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), productDtoList.size());
-        List<ProductDto> pagedList = productDtoList.subList(start, end);
-
-        Page<ProductDto> productDtoPage = new PageImpl<>(pagedList, pageable,
-            productDtoList.size());
-
-        log.info("ProductService::generateProductDtoPage execution successfully ended.");
-
-        return productDtoPage;
-    }
 }
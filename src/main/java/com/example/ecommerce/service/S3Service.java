@@ -1,38 +1,54 @@
 package com.example.ecommerce.service;
 
+import com.example.ecommerce.config.S3PresignProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
 import java.io.IOException;
-import java.time.Duration;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
-import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class S3Service {
 
     private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final S3PresignProperties s3PresignProperties;
+
+    // fileKey -> presigned URL (유효 시간 - 안전 여유 시간이 지나면 제거되어 다시 발급)
+    private final Cache<String, String> presignedUrlCache;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
-    @Value("${cloud.aws.credentials.accessKey}")
-    private String accessKey;
-
-    @Value("${cloud.aws.credentials.secretKey}")
-    private String secretKey;
+    @Autowired
+    public S3Service(S3Client s3Client, S3Presigner s3Presigner,
+        S3PresignProperties s3PresignProperties) {
+        this(s3Client, s3Presigner, s3PresignProperties, Ticker.systemTicker());
+    }
 
-    @Value("${cloud.aws.region.static}")
-    private String region;
+    S3Service(S3Client s3Client, S3Presigner s3Presigner, S3PresignProperties s3PresignProperties,
+        Ticker ticker) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.s3PresignProperties = s3PresignProperties;
+        this.presignedUrlCache = Caffeine.newBuilder()
+            .maximumSize(s3PresignProperties.getCacheMaxSize())
+            .expireAfterWrite(s3PresignProperties.getSignatureDuration()
+                .minus(s3PresignProperties.getSafetyMargin()))
+            .ticker(ticker)
+            .build();
+    }
 
     public String uploadFile(MultipartFile file) {
         log.info("S3Service::uploadFile execution started.");
@@ -65,16 +81,7 @@ public class S3Service {
         log.info("S3Service::getPresignedUrl execution started.");
 
         try {
-            S3Presigner presigner = S3Presigner.builder()
-                .region(Region.of(region))
-                .credentialsProvider(
-                    StaticCredentialsProvider.create(
-                        AwsBasicCredentials.create(accessKey, secretKey)))
-                .build();
-
-            String presignedUrl = presigner.presignGetObject(
-                b -> b.signatureDuration(Duration.ofMinutes(60))
-                    .getObjectRequest(r -> r.bucket(bucketName).key(fileKey))).url().toString();
+            String presignedUrl = presignedUrlCache.get(fileKey, this::presign);
 
             log.info("S3Service::getPresignedUrl execution successfully ended.");
 
@@ -85,4 +92,20 @@ public class S3Service {
 
     }
 
+    private String presign(String fileKey) {
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+            .signatureDuration(s3PresignProperties.getSignatureDuration())
+            .getObjectRequest(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(fileKey)
+                .build())
+            .build();
+
+        String presignedUrl = s3Presigner.presignGetObject(presignRequest).url().toString();
+        log.debug("Called - s3Presigner.presignGetObject(presignRequest), response - fileKey : {}",
+            fileKey);
+
+        return presignedUrl;
+    }
+
 }
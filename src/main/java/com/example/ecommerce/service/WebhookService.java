@@ -0,0 +1,5 @@
+package com.example.ecommerce.service;
+
+public interface WebhookService {
+    void receivePortOneWebhook(String webhookId, String webhookTimestamp, String webhookSignature, String body);
+}
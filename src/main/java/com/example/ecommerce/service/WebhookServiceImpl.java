@@ -0,0 +1,67 @@
+package com.example.ecommerce.service;
+
+import com.example.ecommerce.api.port_one.PortOneWebhookVerifier;
+import com.example.ecommerce.common.enums.outbox.OutboxEventType;
+import com.example.ecommerce.common.exception.port_one.PortOneException;
+import com.example.ecommerce.common.exception.port_one.PortOneInvalidWebhookException;
+import com.example.ecommerce.common.outbox.OutboxEventAppender;
+import com.example.ecommerce.dto.outbox.PortOnePaymentWebhookEvent;
+import com.example.ecommerce.dto.port_one.PortOneWebhookDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@AllArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class WebhookServiceImpl implements WebhookService {
+
+    private final PortOneWebhookVerifier portOneWebhookVerifier;
+    private final OutboxEventAppender outboxEventAppender;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 포트원 웹훅은 서명 검증 후 아웃박스에 한 건 기록만 하고 바로 응답
+     * 결제 조회와 주문 생성은 OutboxDispatcher 의 워커 스레드(PortOnePaymentWebhookHandler)에서 처리
+     * 응답 전에 커밋되므로 서버가 바로 죽어도 웹훅이 유실되지 않음
+     */
+    @Override
+    @Transactional
+    public void receivePortOneWebhook(String webhookId, String webhookTimestamp,
+        String webhookSignature, String body) {
+        log.info("WebhookService::receivePortOneWebhook execution started.");
+
+        portOneWebhookVerifier.verify(webhookId, webhookTimestamp, webhookSignature, body);
+
+        PortOneWebhookDto webhookDto = readBody(body);
+        log.debug("Called - readBody(body), response - webhookDto : {}", webhookDto);
+
+        // 결제 완료 외의 알림(취소, 가상계좌 발급 등)은 수신만 확인
+        if (!PortOneWebhookDto.TRANSACTION_PAID.equals(webhookDto.type())
+            || webhookDto.data() == null || webhookDto.data().paymentId() == null) {
+            log.info("WebhookService::receivePortOneWebhook ignored - type : {}", webhookDto.type());
+            return;
+        }
+
+        outboxEventAppender.append(OutboxEventType.PORTONE_PAYMENT_WEBHOOK, null,
+            PortOnePaymentWebhookEvent.builder()
+                .webhookId(webhookId)
+                .paymentId(webhookDto.data().paymentId())
+                .build());
+
+        log.info("WebhookService::receivePortOneWebhook execution successfully ended.");
+    }
+
+    private PortOneWebhookDto readBody(String body) {
+        try {
+            return objectMapper.readValue(body, PortOneWebhookDto.class);
+        } catch (JsonProcessingException ex) {
+            throw new PortOneInvalidWebhookException(PortOneException.INVALID_WEBHOOK.getStatus(),
+                PortOneException.INVALID_WEBHOOK.getMessage());
+        }
+    }
+}
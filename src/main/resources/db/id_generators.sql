@@ -0,0 +1,18 @@
+-- IDENTITY 에서 TABLE(pooled) ID 전략으로 전환할 때 한 번 실행
+-- pooled 최적화기는 next_val 을 MAX(id) + (allocationSize - 1) 로 초기화해야 첫 ID 가 MAX(id) + 1 이 됨
+-- (allocationSize(50) 를 그대로 더하면 MAX(id) + 2 부터 할당되어 ID 하나가 비게 됨, IdGeneratorSeedTest 참고)
+CREATE TABLE IF NOT EXISTS id_generators (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val      BIGINT
+);
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'orders', COALESCE(MAX(id), 0) + 49 FROM orders
+UNION ALL
+SELECT 'order_items', COALESCE(MAX(id), 0) + 49 FROM order_items
+UNION ALL
+SELECT 'cart_has_product', COALESCE(MAX(cart_has_product_id), 0) + 49 FROM cart_has_product
+UNION ALL
+SELECT 'reviews', COALESCE(MAX(id), 0) + 49 FROM reviews
+UNION ALL
+SELECT 'products', COALESCE(MAX(id), 0) + 49 FROM products;
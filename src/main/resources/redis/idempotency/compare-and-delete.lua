@@ -0,0 +1,9 @@
+-- 처리 권한을 획득한 요청의 처리 중 표시일 때만 삭제 (TTL 만료 후 다른 요청이 획득한 표시는 지우지 않음)
+-- KEYS[1] : 멱등성 key
+-- ARGV[1] : 처리 중 표시 값 (IN_FLIGHT:{claimToken})
+-- 반환 : 삭제한 key 수
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+
+return 0
@@ -0,0 +1,35 @@
+-- 결제 완료된 예약을 확정하고, 판매 수량을 DB 미반영 hash 에 누적
+-- KEYS[1] : 예약 hash, KEYS[2] : 예약 만료 zset, KEYS[3] : DB 미반영 판매 수량 hash
+-- ARGV[1] : 예약 ID, ARGV[2] : 재고 key prefix
+-- ARGV[3..n] : 선점했던 상품별 (productId, quantity) 쌍
+-- 반환 : { 예약 존재 여부(1/0), 재고가 음수가 된 productId... }
+local lines = redis.call('HGETALL', KEYS[1])
+
+if #lines > 0 then
+    for i = 1, #lines, 2 do
+        redis.call('HINCRBY', KEYS[3], lines[i], lines[i + 1])
+    end
+
+    redis.call('DEL', KEYS[1])
+    redis.call('ZREM', KEYS[2], ARGV[1])
+
+    return { 1 }
+end
+
+-- 주문 저장 중에 예약이 만료 해제되어 재고가 복구된 경우, 주문 상품 수량으로 판매를 다시 반영
+-- 그 사이 복구된 재고가 다시 판매되었다면 재고가 음수가 되므로 초과 판매로 보고
+local result = { 0 }
+
+for i = 3, #ARGV, 2 do
+    local stockKey = ARGV[2] .. ARGV[i]
+    if redis.call('EXISTS', stockKey) == 1 then
+        if redis.call('DECRBY', stockKey, ARGV[i + 1]) < 0 then
+            table.insert(result, ARGV[i])
+        end
+    end
+    redis.call('HINCRBY', KEYS[3], ARGV[i], ARGV[i + 1])
+end
+
+redis.call('ZREM', KEYS[2], ARGV[1])
+
+return result
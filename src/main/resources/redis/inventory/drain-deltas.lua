@@ -0,0 +1,23 @@
+-- DB 에 반영할 판매 수량을 스냅샷 hash 로 옮긴 뒤 스냅샷 ID 와 함께 반환
+-- KEYS[1] : DB 미반영 판매 수량 hash, KEYS[2] : 반영 중인 스냅샷 hash, KEYS[3] : 스냅샷 ID
+-- ARGV[1] : 새 스냅샷에 부여할 ID
+-- 이전 반영이 실패해 스냅샷이 남아 있으면 새로 옮기지 않고 같은 ID 로 스냅샷부터 다시 반영
+-- 반환 : { 스냅샷 ID, productId, quantity, ... } 또는 {}
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    if redis.call('EXISTS', KEYS[1]) == 0 then
+        return {}
+    end
+    redis.call('RENAME', KEYS[1], KEYS[2])
+    redis.call('SET', KEYS[3], ARGV[1])
+end
+
+local snapshotId = redis.call('GET', KEYS[3])
+if not snapshotId then
+    snapshotId = ARGV[1]
+    redis.call('SET', KEYS[3], snapshotId)
+end
+
+local result = redis.call('HGETALL', KEYS[2])
+table.insert(result, 1, snapshotId)
+
+return result
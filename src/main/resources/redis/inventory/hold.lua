@@ -0,0 +1,11 @@
+-- 주문 저장 직전에 예약을 붙잡아 저장이 끝날 때까지 만료 해제되지 않도록 만료 시각을 연장
+-- KEYS[1] : 예약 hash, KEYS[2] : 예약 만료 zset
+-- ARGV[1] : 예약 ID, ARGV[2] : 연장할 만료 시각(epoch ms)
+-- 반환 : 1 (연장), 0 (이미 만료 해제되어 예약이 없음)
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return 0
+end
+
+redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+
+return 1
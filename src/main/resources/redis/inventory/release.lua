@@ -0,0 +1,26 @@
+-- 결제 실패 또는 만료된 예약을 해제하고 선점한 재고를 되돌림
+-- KEYS[1] : 예약 hash, KEYS[2] : 예약 만료 zset
+-- ARGV[1] : 예약 ID, ARGV[2] : 재고 key prefix
+-- ARGV[3] : (만료 해제 시에만) 기준 시각(epoch ms), 그 사이 만료 시각이 연장된 예약은 해제하지 않음
+-- 반환 : 해제한 상품 수
+if ARGV[3] then
+    local expiresAt = redis.call('ZSCORE', KEYS[2], ARGV[1])
+    if expiresAt and tonumber(expiresAt) > tonumber(ARGV[3]) then
+        return 0
+    end
+end
+
+local lines = redis.call('HGETALL', KEYS[1])
+
+for i = 1, #lines, 2 do
+    local stockKey = ARGV[2] .. lines[i]
+    -- 플래시 세일이 해제된 상품은 DB 재고가 원본이므로 되돌리지 않음
+    if redis.call('EXISTS', stockKey) == 1 then
+        redis.call('INCRBY', stockKey, lines[i + 1])
+    end
+end
+
+redis.call('DEL', KEYS[1])
+redis.call('ZREM', KEYS[2], ARGV[1])
+
+return #lines / 2
@@ -0,0 +1,45 @@
+-- 플래시 세일 상품 재고 선점
+-- KEYS[1] : 예약 hash (productId -> quantity)
+-- KEYS[2] : 예약 만료 zset (reservationId, score = 만료 시각)
+-- KEYS[3..n] : 주문 상품별 재고 key (key 가 존재하는 상품만 플래시 세일 대상)
+-- ARGV[1] : 예약 ID, ARGV[2] : 만료 시각(epoch ms)
+-- ARGV[3..n] : 주문 상품별 (productId, quantity) 쌍
+-- 반환 : { 'OK', 선점한 productId... } 또는 { 'OUT_OF_STOCK', productId }
+
+-- 같은 예약 ID 로 다시 호출되면 재시도로 보고 기존 선점 결과를 그대로 반환
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    local reserved = redis.call('HKEYS', KEYS[1])
+    table.insert(reserved, 1, 'OK')
+    return reserved
+end
+
+local lineCount = #KEYS - 2
+
+-- 1. 모든 대상 상품의 재고가 충분한지 먼저 확인 (하나라도 부족하면 아무것도 차감하지 않음)
+for i = 1, lineCount do
+    local stock = redis.call('GET', KEYS[i + 2])
+    if stock then
+        local quantity = tonumber(ARGV[4 + (i - 1) * 2])
+        if tonumber(stock) < quantity then
+            return { 'OUT_OF_STOCK', ARGV[3 + (i - 1) * 2] }
+        end
+    end
+end
+
+-- 2. 재고 차감 및 예약 기록
+local reserved = { 'OK' }
+for i = 1, lineCount do
+    if redis.call('EXISTS', KEYS[i + 2]) == 1 then
+        local productId = ARGV[3 + (i - 1) * 2]
+        local quantity = tonumber(ARGV[4 + (i - 1) * 2])
+        redis.call('DECRBY', KEYS[i + 2], quantity)
+        redis.call('HSET', KEYS[1], productId, quantity)
+        table.insert(reserved, productId)
+    end
+end
+
+if #reserved > 1 then
+    redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+end
+
+return reserved
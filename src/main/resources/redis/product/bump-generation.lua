@@ -0,0 +1,10 @@
+-- 상품 목록 캐시 세대를 올리고, 같은 스크립트 안에서 올린 세대 번호를 붙여 역색인 동기화 메시지를 발행
+-- 스크립트는 원자적으로 실행되므로 구독자는 메시지를 세대 번호 순서대로 받음
+-- KEYS[1] : 세대 번호 key
+-- ARGV[1] : 동기화 채널, ARGV[2] : 메시지 ("{노드 식별자}:{상품 ID}")
+-- 반환 : 올린 세대 번호
+local generation = redis.call('INCR', KEYS[1])
+
+redis.call('PUBLISH', ARGV[1], ARGV[2] .. ':' .. generation)
+
+return generation
@@ -0,0 +1,11 @@
+-- 캐싱된 상품 hash 가 있을 때만 필드 하나를 갱신 (없는 상품의 불완전한 hash 생성 방지)
+-- KEYS[1] : 상품 hash
+-- ARGV[1] : 필드 이름, ARGV[2] : 값
+-- 반환 : 갱신했으면 1, 캐싱된 상품이 없으면 0
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return 0
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+
+return 1
@@ -0,0 +1,181 @@
+package com.example.ecommerce.api.port_one;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 로컬 포트원 API (JDK HttpServer)
+ * GET /payments/{paymentId}, POST /payments/{paymentId}/cancel 만 흉내냄
+ * 장애 상황 재현을 위해 응답 지연과 실패 응답 코드를 주입할 수 있음
+ * Profile 로 지연 분포(기본 지연 + 지터 + 일정 비율의 꼬리 지연)와 확률적 오류 응답을 한 번에 설정
+ */
+public class FakePortOneServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private volatile Duration latency = Duration.ZERO;
+    private volatile int failureStatus = 0;
+    private volatile long paidAmount = 0;
+    private volatile Profile profile = Profile.NONE;
+
+    /**
+     * @param jitter      기본 지연에 더해지는 0 ~ jitter 사이의 균등 분포 지연
+     * @param tailLatency tailRate 비율의 요청에 추가되는 지연 (느린 꼬리 재현)
+     * @param errorRate   errorStatus 로 응답할 요청 비율
+     */
+    public record Profile(Duration latency, Duration jitter, Duration tailLatency, double tailRate,
+                          double errorRate, int errorStatus) {
+
+        public static final Profile NONE = new Profile(Duration.ZERO, Duration.ZERO, Duration.ZERO,
+            0, 0, 503);
+
+        public static Profile healthy() {
+            return new Profile(Duration.ofMillis(20), Duration.ofMillis(10), Duration.ofMillis(200),
+                0.01, 0, 503);
+        }
+
+        public static Profile degraded() {
+            return new Profile(Duration.ofMillis(150), Duration.ofMillis(100),
+                Duration.ofSeconds(2), 0.05, 0.02, 503);
+        }
+
+        public static Profile flaky() {
+            return new Profile(Duration.ofMillis(30), Duration.ofMillis(20), Duration.ofMillis(500),
+                0.02, 0.2, 500);
+        }
+
+        public static Profile of(String name) {
+            return switch (name) {
+                case "healthy" -> healthy();
+                case "degraded" -> degraded();
+                case "flaky" -> flaky();
+                default -> throw new IllegalArgumentException("Unknown profile : " + name);
+            };
+        }
+    }
+
+    public FakePortOneServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        executor = Executors.newFixedThreadPool(128);
+        server.setExecutor(executor);
+        server.createContext("/payments/", this::handle);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * 0 이 아니면 모든 요청에 해당 상태 코드로 응답 (예: 503)
+     */
+    public void setFailureStatus(int failureStatus) {
+        this.failureStatus = failureStatus;
+    }
+
+    /**
+     * 결제 조회 응답의 총 결제 금액 (주문 총액과 비교되므로 주문 생성 테스트에서 맞춰 설정)
+     */
+    public void setPaidAmount(long paidAmount) {
+        this.paidAmount = paidAmount;
+    }
+
+    public void setProfile(Profile profile) {
+        this.profile = profile;
+    }
+
+    public int requestCount() {
+        return requestCount.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+
+        try {
+            Profile current = profile;
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            sleep(latency.plus(current.latency()));
+            if (!current.jitter().isZero()) {
+                sleep(Duration.ofMillis(random.nextLong(current.jitter().toMillis() + 1)));
+            }
+            if (random.nextDouble() < current.tailRate()) {
+                sleep(current.tailLatency());
+            }
+
+            if (failureStatus != 0) {
+                respond(exchange, failureStatus, "{\"message\":\"injected failure\"}");
+                return;
+            }
+
+            if (random.nextDouble() < current.errorRate()) {
+                respond(exchange, current.errorStatus(), "{\"message\":\"injected failure\"}");
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            String paymentId = path.substring("/payments/".length()).replace("/cancel", "");
+
+            if ("POST".equals(exchange.getRequestMethod()) && path.endsWith("/cancel")) {
+                respond(exchange, 200, "{\"status\":\"CANCELLED\"}");
+                return;
+            }
+
+            respond(exchange, 200, paymentJson(paymentId));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private String paymentJson(String paymentId) {
+        return """
+            {"id":"%s","status":"PAID","transactionId":"0192e18e-152c-33d8-3a0a-6a88e0eb17b6",\
+            "merchantId":"merchant-a633191f-848d-41f3-9621-128f52d3b187",\
+            "method":{"type":"PaymentMethodEasyPay","provider":"KAKAOPAY"},\
+            "paidAt":"2024-11-01T12:59:16.773693","amount":{"total":%d}}""".formatted(paymentId,
+            paidAmount);
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
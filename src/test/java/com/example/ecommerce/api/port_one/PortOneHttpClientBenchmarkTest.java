@@ -0,0 +1,119 @@
+package com.example.ecommerce.api.port_one;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.ecommerce.config.AppConfig;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.RestTemplate;
+
+// 로컬 포트원 서버를 대상으로 동시 결제 조회 시 p50/p99 지연 시간과 커넥션 재사용을 측정
+@Slf4j
+class PortOneHttpClientBenchmarkTest {
+
+    private static final int THREAD_COUNT = 32;
+    private static final int REQUEST_COUNT = 1000;
+
+    private FakePortOneServer fakePortOneServer;
+    private PortOneClientProperties properties;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fakePortOneServer = new FakePortOneServer();
+        fakePortOneServer.setLatency(Duration.ofMillis(5));
+
+        properties = new PortOneClientProperties();
+        properties.setBaseUrl(fakePortOneServer.baseUrl());
+        properties.setMaxPerRoute(THREAD_COUNT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fakePortOneServer.close();
+    }
+
+    @Test
+    @DisplayName("커넥션 풀을 사용하는 클라이언트는 동시 요청에서도 풀 크기 이상의 커넥션을 만들지 않고 재사용한다.")
+    void pooledClient_latencyAndReuse() throws Exception {
+        // given
+        AppConfig appConfig = new AppConfig();
+        PoolingHttpClientConnectionManager connectionManager =
+            appConfig.portOneConnectionManager(properties);
+        CloseableHttpClient httpClient = appConfig.portOneHttpClient(connectionManager, properties);
+        RestTemplate pooledRestTemplate = appConfig.restTemplate(new RestTemplateBuilder(),
+            httpClient);
+
+        // when
+        List<Long> pooledLatencies = run(pooledRestTemplate);
+        List<Long> simpleLatencies = run(new RestTemplate());
+
+        // then
+        log.info("PortOne getPayment latency (ms) - pooled p50 : {}, p99 : {} / simple p50 : {}, p99 : {}",
+            percentile(pooledLatencies, 0.5), percentile(pooledLatencies, 0.99),
+            percentile(simpleLatencies, 0.5), percentile(simpleLatencies, 0.99));
+
+        assertEquals(REQUEST_COUNT, pooledLatencies.size());
+        assertTrue(connectionManager.getTotalStats().getAvailable()
+            + connectionManager.getTotalStats().getLeased() <= THREAD_COUNT);
+
+        httpClient.close();
+    }
+
+    private List<Long> run(RestTemplate restTemplate) throws Exception {
+        // 벌크헤드가 측정 대상 동시 요청을 거절하지 않도록 스레드 수만큼 허용
+        PortOneResilience portOneResilience = new PortOneResilience(
+            CircuitBreakerRegistry.ofDefaults(),
+            BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(THREAD_COUNT).build()));
+        PortOnePayment portOnePayment = new PortOnePayment(restTemplate,
+            new ApiAuthProperties("test-token"), properties, portOneResilience);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            String paymentId = "payment-" + i;
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+
+                long startedAt = System.nanoTime();
+                portOnePayment.getPayment(paymentId);
+                latencies.add((System.nanoTime() - startedAt) / 1_000_000);
+                return null;
+            }));
+        }
+
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        return new ArrayList<>(latencies);
+    }
+
+    private long percentile(List<Long> latencies, double percentile) {
+        List<Long> sorted = latencies.stream().sorted().toList();
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0));
+    }
+}
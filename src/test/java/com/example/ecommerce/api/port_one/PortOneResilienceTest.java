@@ -0,0 +1,169 @@
+package com.example.ecommerce.api.port_one;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.ecommerce.common.exception.port_one.PortOneNotFoundPaymentException;
+import com.example.ecommerce.common.exception.port_one.PortOneUnavailableException;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.RestTemplate;
+
+// 로컬 포트원 서버에 장애를 주입해 서킷 브레이커/벌크헤드 동작 확인
+class PortOneResilienceTest {
+
+    private static final int WINDOW_SIZE = 4;
+    private static final int MAX_CONCURRENT_CALLS = 2;
+    private static final Duration WAIT_IN_OPEN_STATE = Duration.ofMillis(200);
+
+    private FakePortOneServer fakePortOneServer;
+    private CircuitBreaker circuitBreaker;
+    private PortOnePayment portOnePayment;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fakePortOneServer = new FakePortOneServer();
+
+        PortOneClientProperties properties = new PortOneClientProperties();
+        properties.setBaseUrl(fakePortOneServer.baseUrl());
+
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(
+            CircuitBreakerConfig.custom()
+                .slidingWindowSize(WINDOW_SIZE)
+                .minimumNumberOfCalls(WINDOW_SIZE)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(WAIT_IN_OPEN_STATE)
+                .permittedNumberOfCallsInHalfOpenState(2)
+                .recordExceptions(PortOneUnavailableException.class)
+                .build());
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+            .maxConcurrentCalls(MAX_CONCURRENT_CALLS)
+            .maxWaitDuration(Duration.ZERO)
+            .build());
+
+        circuitBreaker = circuitBreakerRegistry.circuitBreaker(PortOneResilience.INSTANCE_NAME);
+        portOnePayment = new PortOnePayment(new RestTemplate(), new ApiAuthProperties("test-token"),
+            properties, new PortOneResilience(circuitBreakerRegistry, bulkheadRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        fakePortOneServer.close();
+    }
+
+    @Test
+    @DisplayName("포트원 5xx 응답이 누적되면 서킷이 열리고, 이후 호출은 포트원에 요청하지 않고 즉시 실패한다.")
+    void getPayment_circuitOpen_failFast() {
+        // given
+        fakePortOneServer.setFailureStatus(503);
+
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            assertThrows(PortOneUnavailableException.class,
+                () -> portOnePayment.getPayment("payment-id"));
+        }
+
+        // when
+        int requestCount = fakePortOneServer.requestCount();
+        PortOneUnavailableException exception = assertThrows(PortOneUnavailableException.class,
+            () -> portOnePayment.getPayment("payment-id"));
+
+        // then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(requestCount, fakePortOneServer.requestCount());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatus());
+    }
+
+    @Test
+    @DisplayName("결제를 찾을 수 없는 4xx 응답은 포트원 장애로 집계하지 않는다.")
+    void getPayment_clientError_notRecorded() {
+        // given
+        fakePortOneServer.setFailureStatus(404);
+
+        // when
+        for (int i = 0; i < WINDOW_SIZE * 2; i++) {
+            assertThrows(PortOneNotFoundPaymentException.class,
+                () -> portOnePayment.getPayment("payment-id"));
+        }
+
+        // then
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나면 half-open 상태에서 시험 호출을 허용하고, 성공하면 서킷을 닫는다.")
+    void getPayment_halfOpenProbe_closesCircuit() throws Exception {
+        // given
+        fakePortOneServer.setFailureStatus(503);
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            assertThrows(PortOneUnavailableException.class,
+                () -> portOnePayment.getPayment("payment-id"));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        // when
+        fakePortOneServer.setFailureStatus(0);
+        Thread.sleep(WAIT_IN_OPEN_STATE.toMillis() + 100);
+
+        portOnePayment.getPayment("payment-id");
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        portOnePayment.getPayment("payment-id");
+
+        // then
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    @DisplayName("포트원 응답이 지연되면 동시 호출 상한을 넘는 요청은 대기하지 않고 즉시 거절된다.")
+    void getPayment_bulkheadFull_rejected() throws Exception {
+        // given
+        fakePortOneServer.setLatency(Duration.ofMillis(500));
+        int threadCount = MAX_CONCURRENT_CALLS * 2;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return portOnePayment.getPayment("payment-id");
+            }));
+        }
+        startLatch.countDown();
+
+        int rejected = 0;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException ex) {
+                assertInstanceOf(PortOneUnavailableException.class, ex.getCause());
+                rejected++;
+            }
+        }
+        executorService.shutdown();
+
+        // then
+        assertEquals(threadCount - MAX_CONCURRENT_CALLS, rejected);
+        assertEquals(MAX_CONCURRENT_CALLS, fakePortOneServer.requestCount());
+        // 거절된 호출은 서킷 브레이커 실패율에 포함되지 않음
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+}
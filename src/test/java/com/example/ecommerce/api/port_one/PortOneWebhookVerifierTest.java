@@ -0,0 +1,75 @@
+package com.example.ecommerce.api.port_one;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.ecommerce.common.exception.port_one.PortOneInvalidWebhookException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PortOneWebhookVerifierTest {
+
+    private static final String WEBHOOK_ID = "msg_2KWPBgLlAfxdpx2AI54pPJ85f4W";
+    private static final String BODY = """
+        {"type":"Transaction.Paid","timestamp":"2024-11-01T12:59:16Z",\
+        "data":{"paymentId":"payment-id","storeId":"store-id","transactionId":"tx-id"}}""";
+
+    private final Instant now = Instant.parse("2024-11-01T12:59:20Z");
+    private PortOneWebhookVerifier portOneWebhookVerifier;
+    private String timestamp;
+
+    @BeforeEach
+    void setUp() {
+        PortOneWebhookProperties properties = new PortOneWebhookProperties();
+        properties.setSecret("whsec_" + Base64.getEncoder()
+            .encodeToString("test-webhook-secret".getBytes(StandardCharsets.UTF_8)));
+
+        portOneWebhookVerifier = new PortOneWebhookVerifier(properties,
+            Clock.fixed(now, ZoneOffset.UTC));
+        timestamp = String.valueOf(now.getEpochSecond());
+    }
+
+    @Test
+    @DisplayName("서명이 일치하면 웹훅을 통과시키며, 시크릿 교체 기간의 여러 서명 중 하나만 맞아도 된다.")
+    void verify_Success() {
+        // given
+        String signature = "v1," + Base64.getEncoder().encodeToString(
+            portOneWebhookVerifier.sign(WEBHOOK_ID + "." + timestamp + "." + BODY));
+
+        // when & then
+        assertDoesNotThrow(() -> portOneWebhookVerifier.verify(WEBHOOK_ID, timestamp,
+            "v1,b2xkLXNpZ25hdHVyZQ== " + signature, BODY));
+    }
+
+    @Test
+    @DisplayName("본문이 변조되면 서명 불일치로 거절한다.")
+    void verify_TamperedBody() {
+        // given
+        String signature = "v1," + Base64.getEncoder().encodeToString(
+            portOneWebhookVerifier.sign(WEBHOOK_ID + "." + timestamp + "." + BODY));
+
+        // when & then
+        assertThrows(PortOneInvalidWebhookException.class,
+            () -> portOneWebhookVerifier.verify(WEBHOOK_ID, timestamp, signature,
+                BODY.replace("payment-id", "other-payment-id")));
+    }
+
+    @Test
+    @DisplayName("허용 시간을 벗어난 timestamp 는 서명이 맞아도 재전송으로 보고 거절한다.")
+    void verify_StaleTimestamp() {
+        // given
+        String staleTimestamp = String.valueOf(now.minusSeconds(600).getEpochSecond());
+        String signature = "v1," + Base64.getEncoder().encodeToString(
+            portOneWebhookVerifier.sign(WEBHOOK_ID + "." + staleTimestamp + "." + BODY));
+
+        // when & then
+        assertThrows(PortOneInvalidWebhookException.class,
+            () -> portOneWebhookVerifier.verify(WEBHOOK_ID, staleTimestamp, signature, BODY));
+    }
+}
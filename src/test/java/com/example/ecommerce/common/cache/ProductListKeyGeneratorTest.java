@@ -0,0 +1,171 @@
+package com.example.ecommerce.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.ecommerce.config.TwoLevelCacheProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ProductListKeyGeneratorTest {
+
+    private StringRedisTemplate stringRedisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private TwoLevelCacheManager cacheManager;
+    private ProductCacheGeneration productCacheGeneration;
+    private ProductListKeyGenerator keyGenerator;
+    private Method method;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        cacheManager = new TwoLevelCacheManager(new ConcurrentMapCacheManager(),
+            new TwoLevelCacheProperties(), stringRedisTemplate, new ObjectMapper(),
+            new SimpleMeterRegistry());
+        productCacheGeneration = new ProductCacheGeneration(stringRedisTemplate, cacheManager,
+            new TwoLevelCacheProperties());
+        keyGenerator = new ProductListKeyGenerator(productCacheGeneration);
+        method = Object.class.getMethod("toString");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("페이지 번호, 크기, 정렬이 다르면 서로 다른 캐시 key 를 만든다.")
+    void generate_pageable() {
+        // given
+        when(valueOperations.get(ProductCacheGeneration.GENERATION_KEY)).thenReturn("3");
+
+        // when
+        Object firstPage = keyGenerator.generate(this, method, PageRequest.of(0, 10));
+        Object secondPage = keyGenerator.generate(this, method, PageRequest.of(1, 10));
+        Object largerPage = keyGenerator.generate(this, method, PageRequest.of(0, 20));
+        Object sortedPage = keyGenerator.generate(this, method,
+            PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "unitPrice")));
+
+        // then
+        assertEquals("toString:g3:0:10:unsorted", firstPage);
+        assertEquals("toString:g3:0:10:unitPrice,DESC", sortedPage);
+        assertEquals("toString:g3:unpaged", keyGenerator.generate(this, method, Pageable.unpaged()));
+        assertNotEquals(firstPage, secondPage);
+        assertNotEquals(firstPage, largerPage);
+    }
+
+    @Test
+    @DisplayName("세대 번호가 올라가면 같은 요청이라도 새로운 캐시 key 를 만들고, 다른 노드에 L1 무효화를 알린다.")
+    void generate_generationBumped() {
+        // given
+        when(valueOperations.get(ProductCacheGeneration.GENERATION_KEY)).thenReturn(null);
+        when(valueOperations.increment(ProductCacheGeneration.GENERATION_KEY)).thenReturn(1L);
+
+        // when
+        Object before = keyGenerator.generate(this, method, "셔츠", null, PageRequest.of(0, 10));
+        productCacheGeneration.bump();
+        Object after = keyGenerator.generate(this, method, "셔츠", null, PageRequest.of(0, 10));
+
+        // then
+        assertEquals("toString:g0:셔츠:null:0:10:unsorted", before);
+        assertEquals("toString:g1:셔츠:null:0:10:unsorted", after);
+        verify(stringRedisTemplate).convertAndSend(eq("cache:invalidation"), anyString());
+    }
+
+    @Test
+    @DisplayName("세대 번호는 노드 로컬에 보관해 key 를 만들 때마다 Redis 를 조회하지 않는다.")
+    void generate_localGeneration() {
+        // given
+        when(valueOperations.get(ProductCacheGeneration.GENERATION_KEY)).thenReturn("3");
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            keyGenerator.generate(this, method, PageRequest.of(i, 10));
+        }
+
+        // then
+        verify(valueOperations, times(1)).get(ProductCacheGeneration.GENERATION_KEY);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 세대 번호를 올렸다는 메시지를 받으면 Redis 에서 세대 번호를 다시 읽는다.")
+    void generate_generationBumpedOnOtherNode() throws Exception {
+        // given
+        when(valueOperations.get(ProductCacheGeneration.GENERATION_KEY)).thenReturn("3", "4");
+        Object before = keyGenerator.generate(this, method, PageRequest.of(0, 10));
+
+        String payload = new ObjectMapper().writeValueAsString(
+            new CacheInvalidationMessage("other-node", ProductCacheGeneration.CACHE_NAME, null));
+
+        // when
+        cacheManager.onMessage(new DefaultMessage("cache:invalidation".getBytes(),
+            payload.getBytes()), null);
+        Object after = keyGenerator.generate(this, method, PageRequest.of(0, 10));
+
+        // then
+        assertEquals("toString:g3:0:10:unsorted", before);
+        assertEquals("toString:g4:0:10:unsorted", after);
+    }
+
+    @Test
+    @DisplayName("역색인 동기화 메시지의 세대로 올리면 L1 무효화를 보내지 않고, 이미 지난 세대는 무시한다.")
+    void advanceTo() {
+        // given
+        when(valueOperations.get(ProductCacheGeneration.GENERATION_KEY)).thenReturn("3");
+        Object before = keyGenerator.generate(this, method, PageRequest.of(0, 10));
+
+        // when
+        productCacheGeneration.advanceTo(5L);
+        productCacheGeneration.advanceTo(4L);
+        Object after = keyGenerator.generate(this, method, PageRequest.of(0, 10));
+
+        // then
+        assertEquals("toString:g3:0:10:unsorted", before);
+        assertEquals("toString:g5:0:10:unsorted", after);
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 세대 번호를 올리면 커밋 이후에 반영한다.")
+    void bump_afterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        productCacheGeneration.bump();
+
+        // then
+        verify(valueOperations, never()).increment(ProductCacheGeneration.GENERATION_KEY);
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(TransactionSynchronization::afterCommit);
+        verify(valueOperations).increment(ProductCacheGeneration.GENERATION_KEY);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.ecommerce.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.example.ecommerce.config.TwoLevelCacheProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+// L2(Redis) 는 ConcurrentMapCache 로 대체
+class TwoLevelCacheManagerTest {
+
+    private static final String CHANNEL = "cache:invalidation";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private StringRedisTemplate stringRedisTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager();
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        cacheManager = new TwoLevelCacheManager(remoteCacheManager,
+            new TwoLevelCacheProperties(), stringRedisTemplate, objectMapper, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("L1 에 채워진 값은 L2 를 거치지 않고 반환하고, 단계별 히트율을 기록한다.")
+    void get_localHit() {
+        // given
+        Cache cache = cacheManager.getCache("products");
+        remoteCacheManager.getCache("products").put(1L, "치노 팬츠");
+
+        // when
+        assertEquals("치노 팬츠", cache.get(1L).get());
+        remoteCacheManager.getCache("products").evict(1L); // L2 에서 사라져도 L1 에서 조회
+        assertEquals("치노 팬츠", cache.get(1L).get());
+
+        // then
+        assertEquals(0.5, hitRatio("l1"));
+        assertEquals(1.0, hitRatio("l2"));
+    }
+
+    @Test
+    @DisplayName("evict 시 L1/L2 를 모두 제거하고 다른 노드에 무효화 메시지를 보낸다.")
+    void evict_publishInvalidation() throws Exception {
+        // given
+        Cache cache = cacheManager.getCache("products");
+        cache.put(1L, "치노 팬츠");
+
+        // when
+        cache.evict(1L);
+
+        // then
+        assertNull(cache.get(1L));
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(CHANNEL), message.capture());
+        CacheInvalidationMessage invalidation = objectMapper.readValue(message.getValue(),
+            CacheInvalidationMessage.class);
+        assertEquals("products", invalidation.cacheName());
+        assertEquals("1", invalidation.key());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 L1 만 제거하고, 다음 조회는 L2 에서 읽는다.")
+    void onMessage_evictLocal() throws Exception {
+        // given
+        Cache cache = cacheManager.getCache("products");
+        cache.put(1L, "치노 팬츠");
+        remoteCacheManager.getCache("products").put(1L, "와이드 팬츠"); // 다른 노드가 L2 를 갱신
+
+        String payload = objectMapper.writeValueAsString(
+            new CacheInvalidationMessage("other-node", "products", "1"));
+
+        // when
+        assertEquals("치노 팬츠", cache.get(1L).get());
+        cacheManager.onMessage(new DefaultMessage(CHANNEL.getBytes(), payload.getBytes()), null);
+
+        // then
+        assertEquals("와이드 팬츠", cache.get(1L).get());
+        verify(stringRedisTemplate, never()).convertAndSend(eq(CHANNEL),
+            anyString());
+    }
+
+    @Test
+    @DisplayName("clearLocal 은 L2 를 유지한 채 L1 만 비우고, 다른 노드에 캐시 전체 L1 무효화를 알린다.")
+    void clearLocal_keepRemote() throws Exception {
+        // given
+        Cache cache = cacheManager.getCache("products");
+        cache.put(1L, "치노 팬츠");
+        remoteCacheManager.getCache("products").put(1L, "와이드 팬츠");
+
+        // when
+        cacheManager.clearLocal("products");
+
+        // then
+        assertEquals("와이드 팬츠", cache.get(1L).get());
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(CHANNEL), message.capture());
+        CacheInvalidationMessage invalidation = objectMapper.readValue(message.getValue(),
+            CacheInvalidationMessage.class);
+        assertEquals("products", invalidation.cacheName());
+        assertNull(invalidation.key());
+    }
+
+    private double hitRatio(String level) {
+        return meterRegistry.get("cache.level.hit.ratio")
+            .tag("cache", "products")
+            .tag("level", level)
+            .gauge().value();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.ecommerce.common.idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.ecommerce.common.exception.order.OrderCheckoutInProgressException;
+import com.example.ecommerce.config.CheckoutIdempotencyProperties;
+import java.io.IOException;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+/**
+ * 임베디드 Redis 에서 멱등성 기록의 획득/해제를 검증
+ */
+class RedisCheckoutIdempotencyStoreTest {
+
+    private static final int REDIS_PORT = 16380;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    private StringRedisTemplate stringRedisTemplate;
+    private RedisCheckoutIdempotencyStore store;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory("localhost", REDIS_PORT);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        store = new RedisCheckoutIdempotencyStore(stringRedisTemplate,
+            new CheckoutIdempotencyProperties());
+    }
+
+    @Test
+    @DisplayName("처리 중 표시가 만료된 뒤 다른 요청이 획득했다면, 먼저 획득했던 요청의 abort 는 그 표시를 지우지 않는다.")
+    void abort_otherClaim() {
+        // given
+        store.begin("payment-1", "claim-1");
+        stringRedisTemplate.delete("checkout:payment:payment-1"); // 처리 중 표시 TTL 만료
+        store.begin("payment-1", "claim-2");
+
+        // when
+        store.abort("payment-1", "claim-1");
+
+        // then
+        assertEquals("IN_FLIGHT:claim-2",
+            stringRedisTemplate.opsForValue().get("checkout:payment:payment-1"));
+
+        store.abort("payment-1", "claim-2");
+        assertTrue(store.tryBegin("payment-1", "claim-3").isEmpty());
+    }
+
+    @Test
+    @DisplayName("tryBegin 은 처리 중인 결제를 기다리지 않고 바로 409 로 실패하고, 완료된 결제는 주문 ID 를 반환한다.")
+    void tryBegin() {
+        // given
+        store.begin("payment-1", "claim-1");
+
+        // when / then
+        assertThrows(OrderCheckoutInProgressException.class,
+            () -> store.tryBegin("payment-1", "claim-2"));
+
+        store.complete("payment-1", 10L);
+        assertEquals(Optional.of(10L), store.tryBegin("payment-1", "claim-3"));
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.ecommerce.common.outbox;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.example.ecommerce.common.cache.RedisProductStore;
+import com.example.ecommerce.common.enums.outbox.OutboxEventType;
+import com.example.ecommerce.entity.OutboxEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OrderPaidProductStockRefreshHandlerTest {
+
+    @Test
+    @DisplayName("결제 완료 이벤트는 주문 상품의 재고 필드만 갱신한다.")
+    void handle_refreshStockOnly() {
+        // given
+        RedisProductStore redisProductStore = mock(RedisProductStore.class);
+        OrderPaidProductStockRefreshHandler handler = new OrderPaidProductStockRefreshHandler(
+            redisProductStore, new ObjectMapper());
+
+        OutboxEvent event = OutboxEvent.builder()
+            .id(1L)
+            .eventType(OutboxEventType.ORDER_PAID)
+            .aggregateId(1L)
+            .payload("{\"orderId\":1,\"productsMap\":{\"1\":2,\"3\":1}}")
+            .nextAttemptAt(LocalDateTime.now())
+            .createdAt(LocalDateTime.now())
+            .build();
+
+        // when
+        handler.handle(event);
+
+        // then
+        verify(redisProductStore).refreshStockQuantities(Set.of(1L, 3L));
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.ecommerce.common.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.ecommerce.common.enums.outbox.OutboxEventType;
+import com.example.ecommerce.common.enums.outbox.OutboxStatus;
+import com.example.ecommerce.config.OutboxProperties;
+import com.example.ecommerce.entity.OutboxEvent;
+import com.example.ecommerce.repository.OutboxEventRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @Mock
+    private OutboxEventHandler orderPaidHandler;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxProperties outboxProperties;
+    private OutboxDispatcher outboxDispatcher;
+    private OutboxEvent event;
+
+    @BeforeEach
+    void setUp() {
+        when(orderPaidHandler.eventType()).thenReturn(OutboxEventType.ORDER_PAID);
+
+        outboxProperties = new OutboxProperties();
+        outboxProperties.setMaxAttempts(2);
+
+        // 테스트에서는 핸들러를 호출 스레드에서 바로 실행
+        outboxDispatcher = new OutboxDispatcher(outboxEventRepository, List.of(orderPaidHandler),
+            Runnable::run, transactionManager, outboxProperties);
+
+        event = OutboxEvent.builder()
+            .id(1L)
+            .eventType(OutboxEventType.ORDER_PAID)
+            .aggregateId(1L)
+            .payload("{\"orderId\":1}")
+            .nextAttemptAt(LocalDateTime.now())
+            .createdAt(LocalDateTime.now())
+            .build();
+
+        when(outboxEventRepository.findDispatchable(eq(OutboxStatus.PENDING),
+            any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(event));
+    }
+
+    @Test
+    @DisplayName("핸들러가 성공하면 이벤트를 PUBLISHED 로 변경한다.")
+    void dispatch_published() {
+        // given
+        when(outboxEventRepository.findAllById(List.of(1L))).thenReturn(List.of(event));
+
+        // when
+        outboxDispatcher.dispatch();
+
+        // then
+        verify(orderPaidHandler).handle(event);
+        assertEquals(OutboxStatus.PUBLISHED, event.getStatus());
+        assertEquals(1, event.getAttempts());
+        assertNotNull(event.getPublishedAt());
+    }
+
+    @Test
+    @DisplayName("핸들러가 실패하면 백오프 후 재시도하고, 최대 시도 횟수를 넘으면 FAILED 로 남긴다.")
+    void dispatch_retryThenFailed() {
+        // given
+        doThrow(new IllegalStateException("cache unavailable")).when(orderPaidHandler).handle(event);
+        when(outboxEventRepository.findAllById(List.of(1L))).thenReturn(List.of(event));
+
+        // when
+        outboxDispatcher.dispatch();
+
+        // then
+        assertEquals(OutboxStatus.PENDING, event.getStatus());
+        assertTrue(event.getNextAttemptAt().isAfter(LocalDateTime.now()));
+
+        // when
+        outboxDispatcher.dispatch();
+
+        // then
+        assertEquals(OutboxStatus.FAILED, event.getStatus());
+        assertEquals(2, event.getAttempts());
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.ecommerce.common.outbox;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.ecommerce.api.port_one.PortOnePayment;
+import com.example.ecommerce.common.enums.outbox.OutboxEventType;
+import com.example.ecommerce.dto.port_one.PortOneGetPaymentResponseDto;
+import com.example.ecommerce.entity.OutboxEvent;
+import com.example.ecommerce.repository.PaymentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentCancelHandlerTest {
+
+    @Mock
+    private PortOnePayment portOnePayment;
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    private PaymentCancelHandler paymentCancelHandler;
+    private OutboxEvent event;
+    private final String paymentId = "payment-id";
+
+    @BeforeEach
+    void setUp() {
+        paymentCancelHandler = new PaymentCancelHandler(portOnePayment, paymentRepository,
+            new ObjectMapper());
+
+        event = OutboxEvent.of(OutboxEventType.PAYMENT_CANCEL, null,
+            "{\"paymentId\":\"" + paymentId + "\",\"reason\":\"재고 부족\"}");
+    }
+
+    @Test
+    @DisplayName("아직 취소되지 않은 결제를 취소한다.")
+    void handle_Cancel() {
+        // given
+        when(paymentRepository.existsById(paymentId)).thenReturn(false);
+        when(portOnePayment.getPayment(paymentId)).thenReturn(paymentDto("PAID"));
+
+        // when
+        paymentCancelHandler.handle(event);
+
+        // then
+        verify(portOnePayment).cancelPayment(paymentId, "재고 부족");
+    }
+
+    @Test
+    @DisplayName("재전달된 이벤트라도 이미 취소된 결제는 다시 취소하지 않는다.")
+    void handle_AlreadyCancelled() {
+        // given
+        when(paymentRepository.existsById(paymentId)).thenReturn(false);
+        when(portOnePayment.getPayment(paymentId)).thenReturn(paymentDto("CANCELLED"));
+
+        // when
+        paymentCancelHandler.handle(event);
+
+        // then
+        verify(portOnePayment, never()).cancelPayment(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("그 사이 주문이 저장된 결제는 취소하지 않는다.")
+    void handle_OrderSaved() {
+        // given
+        when(paymentRepository.existsById(paymentId)).thenReturn(true);
+
+        // when
+        paymentCancelHandler.handle(event);
+
+        // then
+        verify(portOnePayment, never()).getPayment(paymentId);
+        verify(portOnePayment, never()).cancelPayment(anyString(), anyString());
+    }
+
+    private PortOneGetPaymentResponseDto paymentDto(String status) {
+        return PortOneGetPaymentResponseDto.builder()
+            .id(paymentId)
+            .status(status)
+            .build();
+    }
+}
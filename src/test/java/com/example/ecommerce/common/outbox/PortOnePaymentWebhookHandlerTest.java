@@ -0,0 +1,185 @@
+package com.example.ecommerce.common.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.ecommerce.api.port_one.PortOnePayment;
+import com.example.ecommerce.common.enums.outbox.OutboxEventType;
+import com.example.ecommerce.common.exception.port_one.PortOneException;
+import com.example.ecommerce.common.exception.port_one.PortOnePaymentMismatchException;
+import com.example.ecommerce.common.exception.product.ProductException;
+import com.example.ecommerce.common.exception.product.ProductNotFoundException;
+import com.example.ecommerce.common.exception.product.ProductOutOfStockException;
+import com.example.ecommerce.dto.order.CreateOrderDto;
+import com.example.ecommerce.dto.port_one.PortOneGetPaymentResponseDto;
+import com.example.ecommerce.entity.OutboxEvent;
+import com.example.ecommerce.repository.PaymentRepository;
+import com.example.ecommerce.service.OrderService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PortOnePaymentWebhookHandlerTest {
+
+    @Mock
+    private PortOnePayment portOnePayment;
+    @Mock
+    private PaymentRepository paymentRepository;
+    @Mock
+    private OrderService orderService;
+
+    private PortOnePaymentWebhookHandler portOnePaymentWebhookHandler;
+    private OutboxEvent event;
+    private final String paymentId = "payment-id";
+
+    @BeforeEach
+    void setUp() {
+        portOnePaymentWebhookHandler = new PortOnePaymentWebhookHandler(portOnePayment,
+            paymentRepository, orderService, new ObjectMapper());
+
+        event = OutboxEvent.of(OutboxEventType.PORTONE_PAYMENT_WEBHOOK, null,
+            "{\"webhookId\":\"webhook-id\",\"paymentId\":\"" + paymentId + "\"}");
+    }
+
+    @Test
+    @DisplayName("결제 완료 웹훅이면 포트원에서 결제를 다시 조회하고 customData 의 주문 정보로 주문을 생성한다.")
+    void handle_CreateOrder() {
+        // given
+        PortOneGetPaymentResponseDto paymentDto = paymentDto("PAID",
+            "{\"userId\":1,\"totalPrice\":100000,\"productsMap\":{\"1\":2}}");
+
+        when(paymentRepository.existsById(paymentId)).thenReturn(false);
+        when(portOnePayment.getPayment(paymentId)).thenReturn(paymentDto);
+
+        // when
+        portOnePaymentWebhookHandler.handle(event);
+
+        // then
+        verify(orderService).createOrderFromPayment(paymentDto, CreateOrderDto.builder()
+            .userId(1L)
+            .totalPrice(100000)
+            .productsMap(Map.of(1L, 2))
+            .build());
+    }
+
+    @Test
+    @DisplayName("이미 저장된 결제면 포트원을 조회하지 않고 종료한다.")
+    void handle_AlreadyFinalized() {
+        // given
+        when(paymentRepository.existsById(paymentId)).thenReturn(true);
+
+        // when
+        portOnePaymentWebhookHandler.handle(event);
+
+        // then
+        verify(portOnePayment, never()).getPayment(paymentId);
+        verify(orderService, never()).createOrderFromPayment(any(), any());
+    }
+
+    @Test
+    @DisplayName("결제 상태가 PAID 가 아니면 주문을 생성하지 않는다.")
+    void handle_NotPaid() {
+        // given
+        when(paymentRepository.existsById(paymentId)).thenReturn(false);
+        when(portOnePayment.getPayment(paymentId)).thenReturn(paymentDto("CANCELLED", null));
+
+        // when
+        portOnePaymentWebhookHandler.handle(event);
+
+        // then
+        verify(orderService, never()).createOrderFromPayment(any(), any());
+    }
+
+    @Test
+    @DisplayName("주문 정보(customData)가 없는 결제는 예외를 던져 아웃박스 재시도/실패로 남긴다.")
+    void handle_MissingCustomData() {
+        // given
+        when(paymentRepository.existsById(paymentId)).thenReturn(false);
+        when(portOnePayment.getPayment(paymentId)).thenReturn(paymentDto("PAID", null));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> portOnePaymentWebhookHandler.handle(event));
+        verify(orderService, never()).createOrderFromPayment(any(), any());
+    }
+
+    @Test
+    @DisplayName("결제 금액이 주문 총액과 다르면 재시도하지 않고 결제를 취소한다.")
+    void handle_AmountMismatch() {
+        // given
+        PortOneGetPaymentResponseDto paymentDto = paymentDto("PAID",
+            "{\"userId\":1,\"totalPrice\":100000,\"productsMap\":{\"1\":2}}");
+
+        when(paymentRepository.existsById(paymentId)).thenReturn(false);
+        when(portOnePayment.getPayment(paymentId)).thenReturn(paymentDto);
+        when(orderService.createOrderFromPayment(any(), any())).thenThrow(
+            new PortOnePaymentMismatchException(PortOneException.MISMATCH.getStatus(),
+                PortOneException.MISMATCH.getMessage()));
+
+        // when
+        portOnePaymentWebhookHandler.handle(event);
+
+        // then
+        verify(portOnePayment).cancelPayment(eq(paymentId), anyString());
+    }
+
+    @Test
+    @DisplayName("주문 정보의 상품이 없으면 재시도하지 않고 결제를 취소한다.")
+    void handle_ProductNotFound() {
+        // given
+        when(paymentRepository.existsById(paymentId)).thenReturn(false);
+        when(portOnePayment.getPayment(paymentId)).thenReturn(paymentDto("PAID",
+            "{\"userId\":1,\"totalPrice\":100000,\"productsMap\":{\"99\":2}}"));
+        when(orderService.createOrderFromPayment(any(), any())).thenThrow(
+            new ProductNotFoundException(ProductException.NOTFOUND.getStatus(),
+                ProductException.NOTFOUND.getMessage()));
+
+        // when
+        portOnePaymentWebhookHandler.handle(event);
+
+        // then
+        verify(portOnePayment).cancelPayment(eq(paymentId), anyString());
+    }
+
+    @Test
+    @DisplayName("재고 부족은 주문 서비스가 이미 결제를 취소했으므로 다시 취소하지 않고 종료한다.")
+    void handle_OutOfStock() {
+        // given
+        when(paymentRepository.existsById(paymentId)).thenReturn(false);
+        when(portOnePayment.getPayment(paymentId)).thenReturn(paymentDto("PAID",
+            "{\"userId\":1,\"totalPrice\":100000,\"productsMap\":{\"1\":2}}"));
+        when(orderService.createOrderFromPayment(any(), any())).thenThrow(
+            new ProductOutOfStockException(ProductException.OUT_OF_STOCK.getStatus(),
+                ProductException.OUT_OF_STOCK.getMessage()));
+
+        // when
+        portOnePaymentWebhookHandler.handle(event);
+
+        // then
+        verify(portOnePayment, never()).cancelPayment(anyString(), anyString());
+    }
+
+    private PortOneGetPaymentResponseDto paymentDto(String status, String customData) {
+        return PortOneGetPaymentResponseDto.builder()
+            .id(paymentId)
+            .status(status)
+            .transactionId("0192e18e-152c-33d8-3a0a-6a88e0eb17b6")
+            .merchantId("merchant-a633191f-848d-41f3-9621-128f52d3b187")
+            .method(new PortOneGetPaymentResponseDto.PaymentMethod("PaymentMethodEasyPay",
+                "KAKAOPAY"))
+            .paidAt(LocalDateTime.now())
+            .customData(customData)
+            .build();
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.ecommerce.common.reconciliation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.ecommerce.api.port_one.PortOnePayment;
+import com.example.ecommerce.common.enums.order.OrderStatus;
+import com.example.ecommerce.common.exception.port_one.PortOneException;
+import com.example.ecommerce.common.exception.port_one.PortOneNotFoundPaymentException;
+import com.example.ecommerce.common.exception.port_one.PortOneUnavailableException;
+import com.example.ecommerce.config.QuerydslConfig;
+import com.example.ecommerce.config.ReconciliationProperties;
+import com.example.ecommerce.dto.port_one.PortOneGetPaymentResponseDto;
+import com.example.ecommerce.entity.Order;
+import com.example.ecommerce.entity.Payment;
+import com.example.ecommerce.entity.ReconciliationCheckpoint;
+import com.example.ecommerce.repository.OrderRepository;
+import com.example.ecommerce.repository.PaymentRepository;
+import com.example.ecommerce.repository.ReconciliationCheckpointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+class OrderReconciliationJobTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private ReconciliationCheckpointRepository checkpointRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private PortOnePayment portOnePayment;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderReconciliationJob orderReconciliationJob;
+
+    @BeforeEach
+    void setUp() {
+        portOnePayment = mock(PortOnePayment.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        ReconciliationProperties properties = new ReconciliationProperties();
+        properties.setChunkSize(2);
+        properties.setStaleAfter(Duration.ZERO);
+        properties.setPermitsPerSecond(1000);
+
+        // 테스트에서는 포트원 조회를 호출 스레드에서 바로 실행
+        orderReconciliationJob = new OrderReconciliationJob(orderRepository, paymentRepository,
+            checkpointRepository, portOnePayment, Runnable::run, transactionManager, properties,
+            meterRegistry);
+    }
+
+    @Test
+    @DisplayName("포트원 결제 상태에 따라 PENDING/FAILED 주문을 청크 단위로 PAID/FAILED 로 변경하고, 판단할 수 없는 주문은 그대로 둔다.")
+    void reconcile_transitions() {
+        // given
+        Long paidOrderId = saveOrder(OrderStatus.PENDING, "payment-paid");
+        Long cancelledOrderId = saveOrder(OrderStatus.PENDING, "payment-cancelled");
+        Long notFoundOrderId = saveOrder(OrderStatus.FAILED, "payment-not-found");
+        Long noPaymentOrderId = saveOrder(OrderStatus.PENDING, null);
+        Long alreadyPaidOrderId = saveOrder(OrderStatus.PAID, "payment-already-paid");
+        Long unavailableOrderId = saveOrder(OrderStatus.PENDING, "payment-unavailable");
+
+        when(portOnePayment.getPayment("payment-paid")).thenReturn(paymentDto("PAID"));
+        when(portOnePayment.getPayment("payment-cancelled")).thenReturn(paymentDto("CANCELLED"));
+        when(portOnePayment.getPayment("payment-not-found")).thenThrow(
+            new PortOneNotFoundPaymentException(PortOneException.NOTFOUND.getStatus(),
+                PortOneException.NOTFOUND.getMessage()));
+        when(portOnePayment.getPayment("payment-unavailable")).thenThrow(
+            new PortOneUnavailableException(PortOneException.UNAVAILABLE.getStatus(),
+                PortOneException.UNAVAILABLE.getMessage()));
+
+        // when
+        orderReconciliationJob.reconcile();
+
+        // then
+        assertEquals(OrderStatus.PAID, statusOf(paidOrderId));
+        assertEquals(OrderStatus.FAILED, statusOf(cancelledOrderId));
+        assertEquals(OrderStatus.FAILED, statusOf(notFoundOrderId));
+        assertEquals(OrderStatus.PENDING, statusOf(unavailableOrderId));
+        assertEquals(OrderStatus.FAILED, statusOf(noPaymentOrderId));
+        assertEquals(OrderStatus.PAID, statusOf(alreadyPaidOrderId));
+        verify(portOnePayment, never()).getPayment("payment-already-paid");
+
+        assertEquals(5, meterRegistry.counter("reconciliation.orders.scanned").count());
+        assertEquals(1, meterRegistry.counter("reconciliation.orders.errors").count());
+        assertEquals(1, meterRegistry.counter("reconciliation.orders.transitioned",
+            "status", OrderStatus.PAID.name()).count());
+        // 이미 FAILED 인 주문은 UPDATE 대상에서 제외
+        assertEquals(2, meterRegistry.counter("reconciliation.orders.transitioned",
+            "status", OrderStatus.FAILED.name()).count());
+
+        // 확인하지 못한 주문 앞에서 멈췄으므로 다음 실행은 그 주문부터
+        ReconciliationCheckpoint checkpoint = checkpointRepository
+            .findById(OrderReconciliationJob.JOB_NAME).orElseThrow();
+        assertEquals(noPaymentOrderId, checkpoint.getLastOrderId());
+        assertEquals(null, checkpoint.getLeaseUntil());
+    }
+
+    @Test
+    @DisplayName("포트원 조회에 실패한 주문이 있으면 체크포인트를 그 주문 앞에 멈추고, 다음 실행에서 그 주문부터 다시 확인한다.")
+    void reconcile_pauseAtUnresolvedOrder() {
+        // given
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            orderIds.add(saveOrder(OrderStatus.PENDING, "payment-" + i));
+        }
+
+        when(portOnePayment.getPayment("payment-0")).thenReturn(paymentDto("PAID"));
+        when(portOnePayment.getPayment("payment-1"))
+            .thenThrow(new PortOneUnavailableException(PortOneException.UNAVAILABLE.getStatus(),
+                PortOneException.UNAVAILABLE.getMessage()))
+            .thenReturn(paymentDto("PAID"));
+        when(portOnePayment.getPayment("payment-2")).thenReturn(paymentDto("PAID"));
+        when(portOnePayment.getPayment("payment-3")).thenReturn(paymentDto("PAID"));
+
+        // when
+        orderReconciliationJob.reconcile();
+
+        // then
+        assertEquals(orderIds.get(0), checkpointRepository
+            .findById(OrderReconciliationJob.JOB_NAME).orElseThrow().getLastOrderId());
+        assertEquals(OrderStatus.PENDING, statusOf(orderIds.get(1)));
+        verify(portOnePayment, never()).getPayment("payment-2");
+
+        // when
+        orderReconciliationJob.reconcile();
+
+        // then
+        orderIds.forEach(orderId -> assertEquals(OrderStatus.PAID, statusOf(orderId)));
+        assertEquals(0L, checkpointRepository
+            .findById(OrderReconciliationJob.JOB_NAME).orElseThrow().getLastOrderId());
+    }
+
+    @Test
+    @DisplayName("중단된 작업은 체크포인트 이후의 주문부터 이어서 처리한다.")
+    void reconcile_resumeFromCheckpoint() {
+        // given
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            orderIds.add(saveOrder(OrderStatus.PENDING, "payment-" + i));
+        }
+
+        ReconciliationCheckpoint checkpoint = ReconciliationCheckpoint.of(
+            OrderReconciliationJob.JOB_NAME);
+        checkpoint.advance(orderIds.get(1), null);
+        checkpointRepository.saveAndFlush(checkpoint);
+
+        when(portOnePayment.getPayment("payment-2")).thenReturn(paymentDto("PAID"));
+        when(portOnePayment.getPayment("payment-3")).thenReturn(paymentDto("PAID"));
+
+        // when
+        orderReconciliationJob.reconcile();
+
+        // then
+        verify(portOnePayment, never()).getPayment("payment-0");
+        verify(portOnePayment, never()).getPayment("payment-1");
+        assertEquals(OrderStatus.PENDING, statusOf(orderIds.get(0)));
+        assertEquals(OrderStatus.PAID, statusOf(orderIds.get(2)));
+        assertEquals(OrderStatus.PAID, statusOf(orderIds.get(3)));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 lease 를 보유 중이면 실행하지 않는다.")
+    void reconcile_leaseHeldByOtherInstance() {
+        // given
+        saveOrder(OrderStatus.PENDING, "payment-id");
+
+        ReconciliationCheckpoint checkpoint = ReconciliationCheckpoint.of(
+            OrderReconciliationJob.JOB_NAME);
+        checkpoint.advance(0L, LocalDateTime.now().plusMinutes(5));
+        checkpointRepository.saveAndFlush(checkpoint);
+
+        // when
+        orderReconciliationJob.reconcile();
+
+        // then
+        verify(portOnePayment, never()).getPayment("payment-id");
+    }
+
+    private Long saveOrder(OrderStatus orderStatus, String paymentId) {
+        Order order = Order.builder()
+            .totalPrice(50000)
+            .orderStatus(orderStatus)
+            .createdAt(LocalDateTime.now().minusMinutes(10))
+            .build();
+        Long orderId = orderRepository.saveAndFlush(order).getId();
+
+        if (paymentId != null) {
+            paymentRepository.saveAndFlush(Payment.builder()
+                .paymentId(paymentId)
+                .transactionId("0192e18e-152c-33d8-3a0a-6a88e0eb17b6")
+                .merchantId("merchant-a633191f-848d-41f3-9621-128f52d3b187")
+                .orderId(orderId)
+                .paymentMethodType("PaymentMethodEasyPay")
+                .provider("KAKAOPAY")
+                .paidAt(LocalDateTime.now())
+                .build());
+        }
+
+        return orderId;
+    }
+
+    private OrderStatus statusOf(Long orderId) {
+        return orderRepository.findById(orderId).orElseThrow().getOrderStatus();
+    }
+
+    private PortOneGetPaymentResponseDto paymentDto(String status) {
+        return PortOneGetPaymentResponseDto.builder()
+            .id("payment-id")
+            .status(status)
+            .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.ecommerce.common.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.ecommerce.common.enums.product.Category;
+import com.example.ecommerce.common.enums.product.Size;
+import com.example.ecommerce.entity.Product;
+import java.util.BitSet;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProductFilterBitmapIndexTest {
+
+    @Test
+    @DisplayName("같은 종류의 필터는 OR, 다른 종류의 필터는 AND 로 조합한다.")
+    void filter() {
+        // given
+        ProductFilterBitmapIndex index = new ProductFilterBitmapIndex();
+        index.add(product(1L, Category.TOPS, Size.M, true));
+        index.add(product(2L, Category.PANTS, Size.M, true));
+        index.add(product(3L, Category.TOPS, Size.L, false));
+        index.add(product(4L, Category.SHOES, Size.M, true));
+
+        // when
+        BitSet filter = index.filter(List.of(Category.TOPS, Category.PANTS), List.of(Size.M),
+            true);
+
+        // then
+        assertEquals(List.of(1L, 2L), ids(index, filter));
+        assertEquals(List.of(1L, 2L, 3L, 4L), ids(index, index.filter(List.of(), List.of(),
+            false)));
+    }
+
+    @Test
+    @DisplayName("삭제한 상품은 필터 결과에서 빠지고, 비워진 순번은 다음 상품이 재사용한다.")
+    void remove_reuseOrdinal() {
+        // given
+        ProductFilterBitmapIndex index = new ProductFilterBitmapIndex();
+        index.add(product(1L, Category.TOPS, Size.M, true));
+        index.add(product(2L, Category.TOPS, Size.M, true));
+
+        // when
+        index.remove(1L);
+        index.add(product(3L, Category.OUTER, Size.S, false));
+
+        // then
+        BitSet tops = index.filter(List.of(Category.TOPS), List.of(), false);
+        assertEquals(List.of(2L), ids(index, tops));
+        assertFalse(index.matches(tops, 1L));
+        assertFalse(index.matches(tops, 3L));
+        assertTrue(index.matches(index.filter(List.of(Category.OUTER), List.of(), false), 3L));
+        assertEquals(2, index.filter(List.of(), List.of(), false).length());
+    }
+
+    private List<Long> ids(ProductFilterBitmapIndex index, BitSet filter) {
+        return filter.stream().mapToObj(index::idOf).sorted().toList();
+    }
+
+    private Product product(Long id, Category category, Size size, boolean shopDisplayable) {
+        return Product.builder()
+            .id(id)
+            .name("상품 " + id)
+            .description("상품 설명")
+            .unitPrice(10000)
+            .stockQuantity(10)
+            .category(category)
+            .size(size)
+            .shopDisplayable(shopDisplayable)
+            .avgRating(0.0f)
+            .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.ecommerce.common.search;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.ecommerce.common.cache.ProductCacheGeneration;
+import com.example.ecommerce.config.ProductSearchIndexProperties;
+import com.example.ecommerce.entity.Product;
+import com.example.ecommerce.repository.ProductRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class ProductSearchIndexSynchronizerTest {
+
+    private static final String CHANNEL = "search:product-index";
+
+    private ProductSearchIndex productSearchIndex;
+    private ProductRepository productRepository;
+    private ProductCacheGeneration productCacheGeneration;
+    private ProductSearchIndexProperties properties;
+    private ProductSearchIndexSynchronizer synchronizer;
+
+    @BeforeEach
+    void setUp() {
+        productSearchIndex = mock(ProductSearchIndex.class);
+        productRepository = mock(ProductRepository.class);
+        productCacheGeneration = mock(ProductCacheGeneration.class);
+        properties = new ProductSearchIndexProperties();
+
+        synchronizer = new ProductSearchIndexSynchronizer(productSearchIndex, productRepository,
+            productCacheGeneration, mock(RedisMessageListenerContainer.class), properties);
+    }
+
+    @Test
+    @DisplayName("상품이 바뀌면 자신의 색인을 먼저 갱신한 뒤, 세대를 올리면서 상품 ID 를 알린다.")
+    void productChanged() {
+        // given
+        Product product = Product.builder().id(1L).name("치노 팬츠").build();
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+        // when
+        synchronizer.productChanged(1L);
+
+        // then
+        InOrder inOrder = inOrder(productSearchIndex, productCacheGeneration);
+        inOrder.verify(productSearchIndex).index(product);
+        inOrder.verify(productCacheGeneration).bumpAndPublish(eq(CHANNEL), anyString());
+        verify(productCacheGeneration, never()).bump();
+    }
+
+    @Test
+    @DisplayName("역색인을 쓰지 않으면 동기화 메시지 없이 세대만 올린다.")
+    void productChanged_indexDisabled() {
+        // given
+        properties.setEnabled(false);
+
+        // when
+        synchronizer.productChanged(1L);
+
+        // then
+        verify(productCacheGeneration).bump();
+        verify(productCacheGeneration, never()).bumpAndPublish(anyString(), anyString());
+        verify(productSearchIndex, never()).index(any());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경 메시지를 받으면 색인을 갱신한 뒤에 메시지의 세대로 올린다.")
+    void onMessage_otherNode() {
+        // given
+        when(productRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // when
+        synchronizer.onMessage(message("other-node:1:7"), null);
+
+        // then
+        InOrder inOrder = inOrder(productSearchIndex, productCacheGeneration);
+        inOrder.verify(productSearchIndex).remove(1L);
+        inOrder.verify(productCacheGeneration).advanceTo(7L);
+    }
+
+    @Test
+    @DisplayName("자신이 보낸 메시지는 색인을 다시 갱신하지 않고 세대만 올린다.")
+    void onMessage_ownMessage() {
+        // given
+        Product product = Product.builder().id(1L).name("치노 팬츠").build();
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        synchronizer.productChanged(1L);
+
+        // 발행된 메시지에서 노드 식별자를 꺼내 자신이 보낸 메시지를 만듦
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(productCacheGeneration).bumpAndPublish(eq(CHANNEL), published.capture());
+
+        // when
+        synchronizer.onMessage(message(published.getValue() + ":8"), null);
+
+        // then
+        verify(productRepository).findById(1L); // productChanged 에서 한 번만 조회
+        verify(productCacheGeneration).advanceTo(8L);
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 메시지는 무시한다.")
+    void onMessage_invalid() {
+        // when
+        synchronizer.onMessage(message("other-node:1"), null);
+
+        // then
+        verify(productRepository, never()).findById(anyLong());
+        verify(productCacheGeneration, never()).advanceTo(anyLong());
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(), body.getBytes());
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.ecommerce.common.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.ecommerce.common.enums.product.Category;
+import com.example.ecommerce.common.enums.product.Size;
+import com.example.ecommerce.config.ProductSearchIndexProperties;
+import com.example.ecommerce.dto.PageableDto;
+import com.example.ecommerce.entity.Product;
+import com.example.ecommerce.repository.ProductRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+class ProductSearchIndexTest {
+
+    private ProductRepository productRepository;
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+
+        ProductSearchIndexProperties properties = new ProductSearchIndexProperties();
+        properties.setBuildChunkSize(2);
+        productSearchIndex = new ProductSearchIndex(productRepository, properties);
+    }
+
+    @Test
+    @DisplayName("상품명은 한글/영문 경계와 공백에서 단어로 나뉘고, 검색용 n-gram 으로 분해된다.")
+    void tokenize() {
+        assertEquals(List.of("나이키", "air", "반팔", "티셔츠"),
+            ProductNameTokenizer.words("나이키AIR 반팔-티셔츠"));
+        assertEquals(List.of("셔츠", "a"),
+            List.copyOf(ProductNameTokenizer.queryGrams(List.of("셔츠", "a"))));
+    }
+
+    @Test
+    @DisplayName("청크 단위로 색인한 뒤 검색어 부분 일치와 카테고리/사이즈/노출 여부 필터를 교집합으로 처리한다.")
+    void search() {
+        // given
+        buildIndex(
+            product(1L, "오버핏 반팔 티셔츠", Category.TOPS, Size.M, true),
+            product(2L, "슬림핏 긴팔 티셔츠", Category.TOPS, Size.L, true),
+            product(3L, "반팔 셔츠", Category.TOPS, Size.M, false),
+            product(4L, "치노 팬츠", Category.PANTS, Size.M, true),
+            product(5L, "나이키AIR 티셔츠", Category.TOPS, Size.M, true));
+
+        // when, then
+        assertEquals(List.of(1L, 2L, 5L), ids("티셔츠", null, null, null));
+        assertEquals(List.of(1L, 2L, 3L, 5L), ids("셔츠", null, null, null));
+        assertEquals(List.of(1L, 5L), ids("셔츠", Category.TOPS, Size.M, "shop"));
+        assertEquals(List.of(1L, 3L), ids("반팔 셔츠", null, null, null));
+        assertEquals(List.of(5L), ids("air", null, null, null));
+        assertEquals(List.of(4L), ids(null, Category.PANTS, null, null));
+        assertEquals(List.of(), ids("청바지", null, null, null));
+        // 글자가 모두 포함되어도 순서가 다르면 일치하지 않음
+        assertEquals(List.of(), ids("츠셔", null, null, null));
+    }
+
+    @Test
+    @DisplayName("오프셋 페이징과 전체 건수를 함께 반환한다.")
+    void search_paging() {
+        // given
+        buildIndex(
+            product(1L, "반팔 티셔츠", Category.TOPS, Size.M, true),
+            product(2L, "긴팔 티셔츠", Category.TOPS, Size.M, true),
+            product(3L, "민소매 티셔츠", Category.TOPS, Size.M, true));
+
+        // when
+        PageableDto<Long> firstPage = productSearchIndex.search("티셔츠", null, null, null,
+            PageRequest.of(0, 2)).orElseThrow();
+        PageableDto<Long> secondPage = productSearchIndex.search("티셔츠", null, null, null,
+            PageRequest.of(1, 2)).orElseThrow();
+
+        // then
+        assertEquals(List.of(1L, 2L), firstPage.data());
+        assertFalse(firstPage.last());
+        assertEquals(List.of(3L), secondPage.data());
+        assertTrue(secondPage.last());
+        assertEquals(3L, secondPage.totalElements());
+        assertEquals(3L, productSearchIndex.count("티셔츠", null, null, null).getAsLong());
+    }
+
+    @Test
+    @DisplayName("상품 변경/삭제를 색인에 바로 반영하고, 색인 전에는 검색하지 않는다.")
+    void index_and_remove() {
+        // given
+        assertTrue(productSearchIndex.search("티셔츠", null, null, null, PageRequest.of(0, 10))
+            .isEmpty());
+        buildIndex(product(1L, "반팔 티셔츠", Category.TOPS, Size.M, true));
+
+        // when
+        productSearchIndex.index(product(1L, "반팔 셔츠", Category.TOPS, Size.M, false));
+        productSearchIndex.index(product(2L, "긴팔 티셔츠", Category.TOPS, Size.L, true));
+
+        // then
+        assertEquals(List.of(2L), ids("티셔츠", null, null, null));
+        assertEquals(List.of(2L), ids("셔츠", null, null, "shop"));
+
+        productSearchIndex.remove(2L);
+        assertEquals(List.of(1L), ids("셔츠", null, null, null));
+    }
+
+    private void buildIndex(Product... products) {
+        List<Product> all = List.of(products);
+
+        when(productRepository.findByIdGreaterThan(any(), any(Pageable.class)))
+            .thenAnswer(invocation -> {
+                Long lastId = invocation.getArgument(0);
+                Pageable pageable = invocation.getArgument(1);
+                List<Product> rest = all.stream().filter(p -> p.getId() > lastId).toList();
+                List<Product> chunk = rest.stream().limit(pageable.getPageSize()).toList();
+                return new SliceImpl<>(chunk, pageable, rest.size() > chunk.size());
+            });
+
+        productSearchIndex.rebuild();
+    }
+
+    private List<Long> ids(String keyword, Category category, Size size, String entryPoint) {
+        return productSearchIndex.search(keyword, category, size, entryPoint,
+            PageRequest.of(0, 10)).orElseThrow().data();
+    }
+
+    private Product product(Long id, String name, Category category, Size size,
+        boolean shopDisplayable) {
+        return Product.builder()
+            .id(id)
+            .name(name)
+            .description("상품 설명")
+            .unitPrice(10000)
+            .stockQuantity(10)
+            .category(category)
+            .size(size)
+            .shopDisplayable(shopDisplayable)
+            .avgRating(0.0f)
+            .build();
+    }
+}
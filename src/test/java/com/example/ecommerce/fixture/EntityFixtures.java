@@ -0,0 +1,41 @@
+package com.example.ecommerce.fixture;
+
+import com.example.ecommerce.common.enums.product.Category;
+import com.example.ecommerce.common.enums.product.Size;
+import com.example.ecommerce.common.enums.user.UserRole;
+import com.example.ecommerce.entity.Product;
+import com.example.ecommerce.entity.User;
+
+/**
+ * 테스트에서 공통으로 쓰는 엔티티 기본값
+ * 필요한 값만 반환된 빌더에서 덮어쓴 뒤 build() 로 생성
+ */
+public final class EntityFixtures {
+
+    public static final int UNIT_PRICE = 50000;
+
+    private EntityFixtures() {
+    }
+
+    public static Product.ProductBuilder product(String name) {
+        return Product.builder()
+            .name(name)
+            .description("테스트용 상품")
+            .unitPrice(UNIT_PRICE)
+            .stockQuantity(100)
+            .category(Category.PANTS)
+            .size(Size.M)
+            .avgRating(0.0f)
+            .shopDisplayable(true)
+            .fileName("product_image.png")
+            .fileKey("uuid-product_image.png");
+    }
+
+    public static User.UserBuilder user(String name) {
+        return User.builder()
+            .name(name)
+            .email(name + "@naver.com")
+            .password("1234")
+            .role(UserRole.USER);
+    }
+}
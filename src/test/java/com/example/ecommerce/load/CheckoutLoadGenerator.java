@@ -0,0 +1,117 @@
+package com.example.ecommerce.load;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+
+/**
+ * 목표 RPS 로 요청을 시작시키는 open-loop 부하 생성기
+ * 응답을 기다리지 않고 예정된 시각마다 요청을 던지며, 지연 시간은 예정 시각부터 측정
+ * (서버가 밀려 작업 스레드 대기열에 쌓인 시간까지 포함해 coordinated omission 을 피함)
+ */
+public class CheckoutLoadGenerator {
+
+    private static final long[] BUCKET_UPPER_BOUNDS_MS = {5, 10, 25, 50, 100, 250, 500, 1000,
+        2500, 5000};
+
+    private final int targetRps;
+    private final Duration duration;
+    private final int workerThreads;
+
+    public CheckoutLoadGenerator(int targetRps, Duration duration, int workerThreads) {
+        this.targetRps = targetRps;
+        this.duration = duration;
+        this.workerThreads = workerThreads;
+    }
+
+    /**
+     * @param request 요청 번호를 받아 결과 라벨을 반환 (예외는 예외 클래스 이름으로 집계)
+     */
+    public Result run(IntFunction<String> request) throws InterruptedException {
+        int totalRequests = (int) (targetRps * duration.toSeconds());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / targetRps;
+
+        ExecutorService workers = Executors.newFixedThreadPool(workerThreads);
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+        long startedAt = System.nanoTime();
+
+        for (int i = 0; i < totalRequests; i++) {
+            long scheduledAt = startedAt + i * intervalNanos;
+            LockSupport.parkNanos(scheduledAt - System.nanoTime());
+
+            int requestNumber = i;
+            workers.execute(() -> {
+                String outcome;
+                try {
+                    outcome = request.apply(requestNumber);
+                } catch (RuntimeException ex) {
+                    outcome = ex.getClass().getSimpleName();
+                }
+
+                latencies.add(System.nanoTime() - scheduledAt);
+                outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+            });
+        }
+
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.MINUTES);
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        Map<String, Long> outcomeCounts = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> outcomeCounts.put(outcome, count.sum()));
+
+        long[] sortedLatencies = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new Result(totalRequests, elapsedNanos, outcomeCounts, sortedLatencies);
+    }
+
+    public record Result(int totalRequests, long elapsedNanos, Map<String, Long> outcomes,
+                         long[] sortedLatencies) {
+
+        public double throughput() {
+            return totalRequests * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        public long percentileMillis(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return TimeUnit.NANOSECONDS.toMillis(sortedLatencies[Math.max(index, 0)]);
+        }
+
+        /**
+         * 구간별 요청 수 (key : "<= 상한ms", 마지막 구간은 "> 상한ms")
+         */
+        public Map<String, Long> histogram() {
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            long[] counts = new long[BUCKET_UPPER_BOUNDS_MS.length + 1];
+
+            for (long latency : sortedLatencies) {
+                long millis = TimeUnit.NANOSECONDS.toMillis(latency);
+                int bucket = Arrays.binarySearch(BUCKET_UPPER_BOUNDS_MS, millis);
+                counts[bucket >= 0 ? bucket : -bucket - 1]++;
+            }
+
+            for (int i = 0; i < BUCKET_UPPER_BOUNDS_MS.length; i++) {
+                histogram.put("<= " + BUCKET_UPPER_BOUNDS_MS[i] + "ms", counts[i]);
+            }
+            histogram.put("> " + BUCKET_UPPER_BOUNDS_MS[BUCKET_UPPER_BOUNDS_MS.length - 1] + "ms",
+                counts[BUCKET_UPPER_BOUNDS_MS.length]);
+
+            return histogram;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.ecommerce.load;
+
+import static com.example.ecommerce.fixture.EntityFixtures.product;
+import static com.example.ecommerce.fixture.EntityFixtures.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.ecommerce.api.port_one.ApiAuthProperties;
+import com.example.ecommerce.api.port_one.FakePortOneServer;
+import com.example.ecommerce.api.port_one.PortOneClientProperties;
+import com.example.ecommerce.api.port_one.PortOnePayment;
+import com.example.ecommerce.api.port_one.PortOneResilience;
+import com.example.ecommerce.common.idempotency.LocalCheckoutIdempotencyStore;
+import com.example.ecommerce.common.outbox.OutboxEventAppender;
+import com.example.ecommerce.config.AppConfig;
+import com.example.ecommerce.config.CheckoutGroupCommitProperties;
+import com.example.ecommerce.config.CheckoutIdempotencyProperties;
+import com.example.ecommerce.config.InventoryReservationProperties;
+import com.example.ecommerce.config.QuerydslConfig;
+import com.example.ecommerce.dto.order.CreateOrderDto;
+import com.example.ecommerce.entity.OrderItem;
+import com.example.ecommerce.entity.Product;
+import com.example.ecommerce.entity.User;
+import com.example.ecommerce.repository.OrderItemRepository;
+import com.example.ecommerce.repository.OrderRepository;
+import com.example.ecommerce.repository.OutboxEventRepository;
+import com.example.ecommerce.repository.PaymentRepository;
+import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.repository.UserRepository;
+import com.example.ecommerce.service.InventoryReservationService;
+import com.example.ecommerce.service.OrderGroupCommitter;
+import com.example.ecommerce.service.OrderService;
+import com.example.ecommerce.service.OrderServiceImpl;
+import com.example.ecommerce.service.OrderWriteService;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * verifyPaymentAndCreateOrder 를 목표 RPS 로 호출하는 체크아웃 부하 테스트 (H2 + 로컬 포트원 서버)
+ * ./gradlew loadTest -Dload.rps=200 -Dload.duration-seconds=10 -Dload.profile=healthy
+ * 처리량, 지연 시간 분포, 결과별 건수, 초과 판매(oversell) 수를 출력
+ */
+@Slf4j
+@Tag("load")
+@DataJpaTest
+@Import({QuerydslConfig.class, OrderWriteService.class, OutboxEventAppender.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CheckoutLoadTest {
+
+    private static final int UNIT_PRICE = 10000;
+
+    private final int targetRps = Integer.getInteger("load.rps", 200);
+    private final Duration duration = Duration.ofSeconds(Integer.getInteger("load.duration-seconds", 10));
+    private final int workerThreads = Integer.getInteger("load.threads", 64);
+    private final int productCount = Integer.getInteger("load.products", 5);
+    private final int stockQuantity = Integer.getInteger("load.stock", 100);
+    private final boolean groupCommit = Boolean.getBoolean("load.group-commit");
+    private final String profile = System.getProperty("load.profile", "healthy");
+
+    @Autowired
+    private OrderWriteService orderWriteService;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    private FakePortOneServer fakePortOneServer;
+    private CloseableHttpClient httpClient;
+    private OrderGroupCommitter orderGroupCommitter;
+    private OrderService orderService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fakePortOneServer = new FakePortOneServer();
+        fakePortOneServer.setProfile(FakePortOneServer.Profile.of(profile));
+        fakePortOneServer.setPaidAmount(UNIT_PRICE);
+
+        PortOneClientProperties clientProperties = new PortOneClientProperties();
+        clientProperties.setBaseUrl(fakePortOneServer.baseUrl());
+        clientProperties.setMaxPerRoute(workerThreads);
+
+        AppConfig appConfig = new AppConfig();
+        PoolingHttpClientConnectionManager connectionManager =
+            appConfig.portOneConnectionManager(clientProperties);
+        httpClient = appConfig.portOneHttpClient(connectionManager, clientProperties);
+
+        PortOnePayment portOnePayment = new PortOnePayment(
+            appConfig.restTemplate(new RestTemplateBuilder(), httpClient),
+            new ApiAuthProperties("test-token"), clientProperties,
+            new PortOneResilience(CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.of(
+                BulkheadConfig.custom().maxConcurrentCalls(workerThreads).build())));
+
+        CheckoutGroupCommitProperties groupCommitProperties = new CheckoutGroupCommitProperties();
+        groupCommitProperties.setEnabled(groupCommit);
+        orderGroupCommitter = new OrderGroupCommitter(orderWriteService, groupCommitProperties);
+        orderGroupCommitter.start();
+
+        // Redis 없이 실행 (재고는 DB 조건부 UPDATE 로만 차감, 멱등성은 메모리 저장소)
+        orderService = new OrderServiceImpl(orderRepository, userRepository, productRepository,
+            orderGroupCommitter, orderWriteService,
+            new InventoryReservationService(null, productRepository,
+                new InventoryReservationProperties(), null),
+            paymentRepository,
+            new LocalCheckoutIdempotencyStore(new CheckoutIdempotencyProperties()),
+            portOnePayment, null, Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        orderGroupCommitter.stop();
+        httpClient.close();
+        fakePortOneServer.close();
+
+        outboxEventRepository.deleteAllInBatch();
+        paymentRepository.deleteAllInBatch();
+        orderItemRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("목표 RPS 로 체크아웃을 호출해 처리량/지연 시간 분포를 측정하고, 재고보다 많이 팔리지 않았는지 확인한다.")
+    void checkout_atTargetRps() throws Exception {
+        // given
+        User user = userRepository.save(user("load").build());
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            products.add(productRepository.save(product("부하 테스트 상품 " + i)
+                .unitPrice(UNIT_PRICE)
+                .stockQuantity(stockQuantity)
+                .build()));
+        }
+
+        CheckoutLoadGenerator generator = new CheckoutLoadGenerator(targetRps, duration,
+            workerThreads);
+
+        // when
+        CheckoutLoadGenerator.Result result = generator.run(requestNumber -> {
+            Product product = products.get(requestNumber % productCount);
+
+            orderService.verifyPaymentAndCreateOrder("load-payment-" + requestNumber,
+                CreateOrderDto.builder()
+                    .userId(user.getId())
+                    .totalPrice(UNIT_PRICE)
+                    .productsMap(Map.of(product.getId(), 1))
+                    .build());
+            return "CREATED";
+        });
+
+        // then
+        long oversell = countOversell(products);
+
+        log.info("checkout load - profile : {}, groupCommit : {}, target : {} rps, requests : {}",
+            profile, groupCommit, targetRps, result.totalRequests());
+        log.info("checkout load - throughput : {} rps, p50 : {} ms, p90 : {} ms, p99 : {} ms, max : {} ms",
+            String.format("%.1f", result.throughput()), result.percentileMillis(0.5),
+            result.percentileMillis(0.9), result.percentileMillis(0.99),
+            result.percentileMillis(1.0));
+        log.info("checkout load - latency histogram : {}", result.histogram());
+        log.info("checkout load - outcomes : {}, oversell : {}, portOneRequests : {}",
+            result.outcomes(), oversell, fakePortOneServer.requestCount());
+
+        assertEquals(0, oversell);
+    }
+
+    /**
+     * 상품별 (판매 수량 - 초기 재고) 중 양수인 값의 합, 그리고 남은 재고가 판매 수량과 맞는지 확인
+     */
+    private long countOversell(List<Product> products) {
+        Map<Long, Integer> soldQuantities = orderItemRepository.findAll().stream()
+            .collect(Collectors.groupingBy(orderItem -> orderItem.getProduct().getId(),
+                Collectors.summingInt(OrderItem::getQuantity)));
+
+        long oversell = 0;
+
+        for (Product product : products) {
+            int sold = soldQuantities.getOrDefault(product.getId(), 0);
+            int remaining = productRepository.findById(product.getId()).orElseThrow()
+                .getStockQuantity();
+
+            assertEquals(stockQuantity - sold, remaining);
+            oversell += Math.max(0, sold - stockQuantity);
+        }
+
+        return oversell;
+    }
+}
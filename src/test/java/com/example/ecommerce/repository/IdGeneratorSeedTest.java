@@ -0,0 +1,70 @@
+package com.example.ecommerce.repository;
+
+import static com.example.ecommerce.fixture.EntityFixtures.product;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.ecommerce.common.enums.product.Category;
+import com.example.ecommerce.common.enums.product.Size;
+import com.example.ecommerce.config.QuerydslConfig;
+import com.example.ecommerce.entity.Product;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 기존 데이터가 있는 DB 에 db/id_generators.sql 을 실행한 뒤 새로 저장한 행의 ID 가 기존 ID 와 겹치지 않는지 확인
+// ID 할당 상태(pooled 최적화기의 메모리 구간)가 다른 테스트와 섞이지 않도록 별도의 DB/컨텍스트 사용
+@DataJpaTest(properties = "spring.datasource.generate-unique-name=true")
+@Import(QuerydslConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdGeneratorSeedTest {
+
+    private static final int EXISTING_PRODUCT_COUNT = 120;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("IDENTITY 로 저장된 행이 있는 상태에서 ID 생성 테이블을 초기화하면, 이후 저장되는 행은 기존 최대 ID 다음부터 할당된다.")
+    void seed_afterExistingRows() {
+        // given
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        for (long id = 1; id <= EXISTING_PRODUCT_COUNT; id++) {
+            jdbcTemplate.update("INSERT INTO products (id, name, description, unit_price, "
+                    + "stock_quantity, category, product_size, avg_rating, shop_displayable, "
+                    + "file_name, file_key) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                id, "기존 상품 " + id, "IDENTITY 로 저장된 상품", 10000, 10,
+                Category.PANTS.getCategory(), Size.M.name(), 0.0f, true, "product_image.png",
+                "uuid-product_image.png");
+        }
+        jdbcTemplate.update("DELETE FROM id_generators");
+
+        new ResourceDatabasePopulator(new ClassPathResource("db/id_generators.sql"))
+            .execute(dataSource);
+
+        // when
+        Product first = productRepository.save(product("신규 상품 1").build());
+        Product second = productRepository.save(product("신규 상품 2").build());
+
+        // then
+        assertEquals(EXISTING_PRODUCT_COUNT + 1L, first.getId());
+        assertEquals(EXISTING_PRODUCT_COUNT + 2L, second.getId());
+        assertEquals(EXISTING_PRODUCT_COUNT + 2L, productRepository.count());
+    }
+}
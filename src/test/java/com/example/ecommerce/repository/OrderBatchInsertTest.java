@@ -0,0 +1,99 @@
+package com.example.ecommerce.repository;
+
+import static com.example.ecommerce.fixture.EntityFixtures.product;
+import static com.example.ecommerce.fixture.EntityFixtures.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.ecommerce.config.QuerydslConfig;
+import com.example.ecommerce.entity.Order;
+import com.example.ecommerce.entity.OrderItem;
+import com.example.ecommerce.entity.Product;
+import com.example.ecommerce.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+// 주문 한 건(주문 + 주문 아이템 N개) 저장 시 실행되는 JDBC 문장 수를 Hibernate 통계로 측정
+@Slf4j
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(QuerydslConfig.class)
+class OrderBatchInsertTest {
+
+    private static final int ORDER_ITEM_COUNT = 30;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("주문 아이템은 JDBC 배치로 저장되어 아이템 수만큼 INSERT 문장을 준비하지 않는다.")
+    void saveOrderItems_batchInsert() {
+        // given
+        User user = userRepository.save(user("ILYA").build());
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < ORDER_ITEM_COUNT; i++) {
+            products.add(product("상품 " + i).build());
+        }
+        productRepository.saveAll(products);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        Order order = Order.builder()
+            .user(user)
+            .totalPrice(50000 * ORDER_ITEM_COUNT)
+            .createdAt(LocalDateTime.now())
+            .build();
+        orderRepository.save(order);
+
+        List<OrderItem> orderItems = new ArrayList<>();
+        for (Product product : products) {
+            orderItems.add(OrderItem.builder()
+                .order(order)
+                .product(product)
+                .quantity(1)
+                .price(product.getUnitPrice())
+                .build());
+        }
+        orderItemRepository.saveAll(orderItems);
+        entityManager.flush();
+
+        // then
+        long preparedStatements = statistics.getPrepareStatementCount();
+        log.info("checkout insert - entities : {}, prepared statements : {}",
+            statistics.getEntityInsertCount(), preparedStatements);
+
+        // IDENTITY 전략에서는 주문 1 + 주문 아이템 30 = 31개 이상의 문장이 필요
+        assertEquals(ORDER_ITEM_COUNT + 1, statistics.getEntityInsertCount());
+        assertTrue(preparedStatements < ORDER_ITEM_COUNT / 2);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.ecommerce.repository;
+
+import static com.example.ecommerce.fixture.EntityFixtures.product;
+import static com.example.ecommerce.fixture.EntityFixtures.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.ecommerce.config.QuerydslConfig;
+import com.example.ecommerce.dto.order.OrderDto;
+import com.example.ecommerce.entity.Order;
+import com.example.ecommerce.entity.OrderItem;
+import com.example.ecommerce.entity.Product;
+import com.example.ecommerce.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(QuerydslConfig.class)
+class OrderRepositoryCustomImplTest {
+
+    private static final int ORDER_COUNT = 12;
+    private static final int ORDER_ITEM_COUNT = 3;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // 주문 아이템-상품이 1:1 관계이므로 주문마다 상품을 생성
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            List<Product> products = new ArrayList<>();
+            for (int j = 0; j < ORDER_ITEM_COUNT; j++) {
+                products.add(productRepository.save(product("상품 " + i + "-" + j).build()));
+            }
+
+            User user = userRepository.save(user("user" + i).build());
+
+            Order order = orderRepository.save(Order.builder()
+                .user(user)
+                .totalPrice(50000 * ORDER_ITEM_COUNT)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+            for (Product product : products) {
+                orderItemRepository.save(OrderItem.builder()
+                    .order(order)
+                    .product(product)
+                    .quantity(1)
+                    .price(product.getUnitPrice())
+                    .build());
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("주문 목록 조회 시 페이지 크기와 관계없이 사용자/주문 아이템/상품까지 고정된 쿼리 수로 조회한다.")
+    void findAllWithOrderItems_constantQueryCount() {
+        // when
+        Page<Order> orders = orderRepository.findAllWithOrderItems(PageRequest.of(0, 10));
+        List<OrderDto> orderDtos = orders.map(Order::toDto).getContent();
+
+        // then
+        assertEquals(10, orderDtos.size());
+        assertEquals(ORDER_COUNT, orders.getTotalElements());
+        orderDtos.forEach(orderDto -> assertEquals(ORDER_ITEM_COUNT, orderDto.orderItemsDto().size()));
+
+        // 1. 주문 ID 페이지, 2. fetch join 조회, 3. count 조회
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("주문 목록은 주문 ID 순서대로 페이징된다.")
+    void findAllWithOrderItems_paging() {
+        // when
+        Page<Order> firstPage = orderRepository.findAllWithOrderItems(PageRequest.of(0, 10));
+        Page<Order> lastPage = orderRepository.findAllWithOrderItems(PageRequest.of(1, 10));
+
+        // then
+        assertEquals(ORDER_COUNT - 10, lastPage.getContent().size());
+        assertEquals(firstPage.getContent().get(9).getId() + 1,
+            lastPage.getContent().get(0).getId());
+    }
+
+    @Test
+    @DisplayName("사용자별 주문 내역을 (createdAt, id) 내림차순 커서로 중복/누락 없이 이어서 조회한다.")
+    void findUserOrderHistory_keyset() {
+        // given
+        User user = userRepository.save(user("history").build());
+
+        List<Long> savedOrderIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            savedOrderIds.add(orderRepository.save(Order.builder()
+                .user(user)
+                .totalPrice(50000)
+                .createdAt(LocalDateTime.now())
+                .build()).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Long> fetchedOrderIds = new ArrayList<>();
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorOrderId = null;
+
+        while (true) {
+            List<Order> page = orderRepository.findUserOrderHistory(user.getId(), cursorCreatedAt,
+                cursorOrderId, 2);
+            if (page.isEmpty()) {
+                break;
+            }
+
+            page.forEach(order -> fetchedOrderIds.add(order.getId()));
+            Order last = page.get(page.size() - 1);
+            cursorCreatedAt = last.getCreatedAt();
+            cursorOrderId = last.getId();
+        }
+
+        // then
+        Collections.reverse(savedOrderIds);
+        assertEquals(savedOrderIds, fetchedOrderIds);
+    }
+}
@@ -5,6 +5,15 @@ import com.example.ecommerce.common.enums.product.Size;
 import com.example.ecommerce.dto.PageableDto;
 import com.example.ecommerce.entity.Product;
 import com.example.ecommerce.repository.custom.ProductRepositoryCustomImpl;
+import jakarta.persistence.EntityManager;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.Session;
+import org.hibernate.jdbc.ReturningWork;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +23,12 @@ import org.springframework.data.domain.Pageable;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @SpringBootTest
 class ProductRepositoryCustomImplTest {
@@ -37,6 +52,7 @@ class ProductRepositoryCustomImplTest {
         // then
         assertNotNull(result);
         assertEquals(result.data().size(),1);
+        assertTrue(result.last());
         assertEquals(10, result.size());
         assertEquals(1, result.page());
     }
@@ -60,4 +76,55 @@ class ProductRepositoryCustomImplTest {
         assertEquals(10, result.size());
         assertEquals(1, result.page());
     }
+
+    @Test
+    @DisplayName("검색은 COUNT 쿼리 없이 size + 1 건으로 다음 페이지 여부를 판단하고, 전체 건수는 별도로 조회한다.")
+    void testSearchProducts_lookAhead() {
+        // given
+        String keyword = "티셔츠";
+        Category category = Category.TOPS;
+        Size productSize = Size.M;
+
+        // when
+        PageableDto<Product> firstPage = productRepositoryCustom.searchProducts(keyword, category, productSize, PageRequest.of(0, 1), null);
+        PageableDto<Product> secondPage = productRepositoryCustom.searchProducts(keyword, category, productSize, PageRequest.of(1, 1), null);
+        long totalElements = productRepositoryCustom.countProducts(keyword, category, productSize, null);
+
+        // then
+        assertEquals(1, firstPage.data().size());
+        assertFalse(firstPage.last());
+        assertEquals(1, secondPage.data().size());
+        assertTrue(secondPage.last());
+        assertNull(firstPage.totalElements());
+        assertEquals(2, totalElements);
+    }
+
+    @Test
+    @DisplayName("배치 결과가 SUCCESS_NO_INFO 이면 savepoint 까지 되돌리고 문장 단위로 다시 실행해 재고 부족 상품을 판단한다.")
+    void testDecreaseStockQuantities_successNoInfo() throws Exception {
+        // given
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        Savepoint savepoint = mock(Savepoint.class);
+        Session session = mock(Session.class);
+        EntityManager entityManager = mock(EntityManager.class);
+
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.doReturningWork(any())).thenAnswer(invocation ->
+            invocation.<ReturningWork<?>>getArgument(0).execute(connection));
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(connection.setSavepoint()).thenReturn(savepoint);
+        when(statement.executeBatch()).thenReturn(
+            new int[]{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO});
+        when(statement.executeUpdate()).thenReturn(1, 0);
+
+        // when
+        List<Long> outOfStockProductIds = new ProductRepositoryCustomImpl(entityManager)
+            .decreaseStockQuantities(Map.of(2L, 1, 1L, 1));
+
+        // then
+        verify(connection).rollback(savepoint);
+        verify(statement, times(2)).executeUpdate();
+        assertEquals(List.of(2L), outOfStockProductIds);
+    }
 }
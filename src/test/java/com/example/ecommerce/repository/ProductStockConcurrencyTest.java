@@ -0,0 +1,140 @@
+package com.example.ecommerce.repository;
+
+import static com.example.ecommerce.fixture.EntityFixtures.product;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.ecommerce.config.QuerydslConfig;
+import com.example.ecommerce.entity.Product;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 각 스레드가 자신의 트랜잭션을 커밋해야 하므로 테스트 메서드 단위 트랜잭션은 사용하지 않음
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductStockConcurrencyTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시에 여러 주문이 재고를 차감해도 재고 이상으로 판매되지 않는다.")
+    void decreaseStockQuantities_concurrently() throws Exception {
+        // given
+        int stockQuantity = 50;
+        int threadCount = 16;
+        int orderCount = 200;
+
+        Long productId = productRepository.save(product("치노 팬츠")
+            .stockQuantity(stockQuantity)
+            .build()).getId();
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger succeededOrders = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < orderCount; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+
+                Boolean succeeded = transactionTemplate.execute(status ->
+                    productRepository.decreaseStockQuantities(Map.of(productId, 1)).isEmpty());
+
+                if (Boolean.TRUE.equals(succeeded)) {
+                    succeededOrders.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        // then
+        Product product = productRepository.findById(productId).orElseThrow();
+
+        assertEquals(stockQuantity, succeededOrders.get());
+        assertEquals(0, product.getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("주문 상품 중 하나라도 재고가 부족하면 해당 상품 ID를 반환하고, 롤백 시 모든 차감이 취소된다.")
+    void decreaseStockQuantities_outOfStock_rollback() {
+        // given
+        Long enoughStockProductId = productRepository.save(product("치노 팬츠")
+            .stockQuantity(5)
+            .build()).getId();
+        Long lowStockProductId = productRepository.save(product("패딩 점퍼")
+            .stockQuantity(1)
+            .build()).getId();
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        List<Long> outOfStockProductIds = transactionTemplate.execute(status -> {
+            List<Long> result = productRepository.decreaseStockQuantities(
+                Map.of(enoughStockProductId, 2, lowStockProductId, 2));
+            status.setRollbackOnly(); // 주문 실패 시 서비스 트랜잭션이 롤백되는 상황
+            return result;
+        });
+
+        // then
+        assertEquals(List.of(lowStockProductId), outOfStockProductIds);
+        assertEquals(5, productRepository.findById(enoughStockProductId).orElseThrow()
+            .getStockQuantity());
+        assertEquals(1, productRepository.findById(lowStockProductId).orElseThrow()
+            .getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("같은 스냅샷 ID 의 판매 수량은 한 번만 반영되고, 재고가 음수가 되어도 0 으로 보정하지 않는다.")
+    void applyStockDeltas_oncePerSnapshot() {
+        // given
+        Long productId = productRepository.save(product("치노 팬츠")
+            .stockQuantity(1)
+            .build()).getId();
+
+        // when
+        boolean firstApplied = productRepository.applyStockDeltas("snapshot-1",
+            Map.of(productId, 2));
+        boolean secondApplied = productRepository.applyStockDeltas("snapshot-1",
+            Map.of(productId, 2));
+
+        // then
+        assertTrue(firstApplied);
+        assertFalse(secondApplied);
+        assertEquals(-1, productRepository.findById(productId).orElseThrow().getStockQuantity());
+    }
+}
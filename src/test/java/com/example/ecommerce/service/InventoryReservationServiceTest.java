@@ -0,0 +1,279 @@
+package com.example.ecommerce.service;
+
+import static com.example.ecommerce.fixture.EntityFixtures.product;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyMap;
+
+import com.example.ecommerce.common.cache.RedisProductStore;
+import com.example.ecommerce.common.exception.product.ProductOutOfStockException;
+import com.example.ecommerce.config.InventoryReservationProperties;
+import com.example.ecommerce.repository.ProductRepository;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+/**
+ * 임베디드 Redis 에서 재고 선점 Lua 스크립트를 실제로 실행해 검증
+ */
+class InventoryReservationServiceTest {
+
+    private static final int REDIS_PORT = 16379;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    private StringRedisTemplate stringRedisTemplate;
+    private ProductRepository productRepository;
+    private InventoryReservationService inventoryReservationService;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory("localhost", REDIS_PORT);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        productRepository = mock(ProductRepository.class);
+
+        InventoryReservationProperties properties = new InventoryReservationProperties();
+        properties.setEnabled(true);
+        properties.setTtl(Duration.ofMinutes(10));
+
+        inventoryReservationService = new InventoryReservationService(stringRedisTemplate,
+            productRepository, properties, mock(RedisProductStore.class));
+
+        // 1번 상품만 플래시 세일 대상 (재고 3개)
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product("치노 팬츠")
+            .id(1L)
+            .stockQuantity(3)
+            .build()));
+        inventoryReservationService.enableFlashSale(1L);
+    }
+
+    @Test
+    @DisplayName("플래시 세일 상품만 Redis 에서 재고를 선점하고, 나머지 상품은 DB 차감 대상으로 남긴다.")
+    void reserve() {
+        // when
+        Map<Long, Integer> reserved = inventoryReservationService.reserve("payment-1",
+            Map.of(1L, 2, 2L, 5));
+
+        // then
+        assertEquals(Map.of(1L, 2), reserved);
+        assertEquals("1", stringRedisTemplate.opsForValue().get("{inventory}:stock:1"));
+    }
+
+    @Test
+    @DisplayName("재고가 부족하면 ProductOutOfStockException 을 던지고 재고를 차감하지 않는다.")
+    void reserve_OutOfStock() {
+        // when / then
+        assertThrows(ProductOutOfStockException.class,
+            () -> inventoryReservationService.reserve("payment-1", Map.of(1L, 4)));
+        assertEquals("3", stringRedisTemplate.opsForValue().get("{inventory}:stock:1"));
+    }
+
+    @Test
+    @DisplayName("같은 예약 ID 로 다시 선점하면 재고를 중복 차감하지 않는다.")
+    void reserve_Retry() {
+        // when
+        inventoryReservationService.reserve("payment-1", Map.of(1L, 2));
+        inventoryReservationService.reserve("payment-1", Map.of(1L, 2));
+
+        // then
+        assertEquals("1", stringRedisTemplate.opsForValue().get("{inventory}:stock:1"));
+    }
+
+    @Test
+    @DisplayName("예약을 해제하면 선점한 재고가 복구된다.")
+    void release() {
+        // given
+        inventoryReservationService.reserve("payment-1", Map.of(1L, 2));
+
+        // when
+        inventoryReservationService.release("payment-1");
+
+        // then
+        assertEquals("3", stringRedisTemplate.opsForValue().get("{inventory}:stock:1"));
+        assertNull(stringRedisTemplate.opsForZSet().score("{inventory}:reservations", "payment-1"));
+    }
+
+    @Test
+    @DisplayName("확정된 예약의 판매 수량은 재고 반영 작업에서 DB 에 일괄 반영된다.")
+    void confirmAndReconcile() {
+        // given
+        inventoryReservationService.reserve("payment-1", Map.of(1L, 2));
+        inventoryReservationService.reserve("payment-2", Map.of(1L, 1));
+        when(productRepository.applyStockDeltas(anyString(), anyMap())).thenReturn(true);
+
+        // when
+        inventoryReservationService.confirm("payment-1", Map.of(1L, 2));
+        inventoryReservationService.confirm("payment-2", Map.of(1L, 1));
+        inventoryReservationService.reconcileStockDeltas();
+
+        // then
+        verify(productRepository).applyStockDeltas(anyString(), eq(Map.of(1L, 3)));
+        assertEquals("0", stringRedisTemplate.opsForValue().get("{inventory}:stock:1"));
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 예약은 자동으로 해제된다.")
+    void releaseExpiredReservations() {
+        // given
+        inventoryReservationService.reserve("payment-1", Map.of(1L, 2));
+        stringRedisTemplate.opsForZSet().add("{inventory}:reservations", "payment-1", 0);
+
+        // when
+        inventoryReservationService.releaseExpiredReservations();
+        inventoryReservationService.reconcileStockDeltas();
+
+        // then
+        assertEquals("3", stringRedisTemplate.opsForValue().get("{inventory}:stock:1"));
+        verify(productRepository, never()).applyStockDeltas(anyString(), anyMap());
+    }
+
+    @Test
+    @DisplayName("주문 저장 직전에 예약을 붙잡으면 만료 해제 대상에서 빠지고, 이미 해제된 예약은 주문 저장 전에 실패한다.")
+    void hold() {
+        // given
+        inventoryReservationService.reserve("payment-1", Map.of(1L, 2));
+        inventoryReservationService.reserve("payment-2", Map.of(1L, 1));
+        stringRedisTemplate.opsForZSet().add("{inventory}:reservations", "payment-2", 0);
+        inventoryReservationService.releaseExpiredReservations();
+
+        // when
+        inventoryReservationService.hold("payment-1", Map.of(1L, 2));
+
+        // then
+        assertThrows(ProductOutOfStockException.class,
+            () -> inventoryReservationService.hold("payment-2", Map.of(1L, 1)));
+        assertEquals("1", stringRedisTemplate.opsForValue().get("{inventory}:stock:1"));
+        assertTrue(stringRedisTemplate.opsForZSet().score("{inventory}:reservations", "payment-1")
+            > System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("주문 저장 중에 예약이 해제되었어도 확정 시 판매 수량을 다시 차감하고 DB 반영 대상에 누적한다.")
+    void confirm_afterRelease() {
+        // given
+        inventoryReservationService.reserve("payment-1", Map.of(1L, 2));
+        inventoryReservationService.release("payment-1");
+        when(productRepository.applyStockDeltas(anyString(), anyMap())).thenReturn(true);
+
+        // when
+        inventoryReservationService.confirm("payment-1", Map.of(1L, 2));
+        inventoryReservationService.reconcileStockDeltas();
+
+        // then
+        assertEquals("1", stringRedisTemplate.opsForValue().get("{inventory}:stock:1"));
+        verify(productRepository).applyStockDeltas(anyString(), eq(Map.of(1L, 2)));
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 스냅샷은 다음 주기에 같은 스냅샷 ID 로 다시 반영해, DB 가 중복 반영 여부를 판단할 수 있다.")
+    void reconcileStockDeltas_retrySameSnapshot() {
+        // given
+        inventoryReservationService.reserve("payment-1", Map.of(1L, 2));
+        inventoryReservationService.confirm("payment-1", Map.of(1L, 2));
+        when(productRepository.applyStockDeltas(anyString(), anyMap()))
+            .thenThrow(new IllegalStateException("DB unavailable"))
+            .thenReturn(false);
+
+        // when
+        assertThrows(IllegalStateException.class,
+            () -> inventoryReservationService.reconcileStockDeltas());
+        inventoryReservationService.reconcileStockDeltas();
+
+        // then
+        ArgumentCaptor<String> snapshotIds = ArgumentCaptor.forClass(String.class);
+        verify(productRepository, times(2)).applyStockDeltas(snapshotIds.capture(),
+            eq(Map.of(1L, 2)));
+        assertEquals(snapshotIds.getAllValues().get(0), snapshotIds.getAllValues().get(1));
+        assertFalse(stringRedisTemplate.hasKey("{inventory}:deltas:snapshot"));
+    }
+
+    @Test
+    @DisplayName("플래시 세일을 해제하면 확정된 판매 수량을 DB 에 반영한 뒤 Redis 재고를 삭제한다.")
+    void disableFlashSale_drainDeltas() {
+        // given
+        inventoryReservationService.reserve("payment-1", Map.of(1L, 2));
+        inventoryReservationService.confirm("payment-1", Map.of(1L, 2));
+
+        // when
+        inventoryReservationService.disableFlashSale(1L);
+
+        // then
+        verify(productRepository).applyStockDeltas(anyString(), eq(Map.of(1L, 2)));
+        assertFalse(stringRedisTemplate.hasKey("{inventory}:stock:1"));
+        assertFalse(stringRedisTemplate.hasKey("{inventory}:deltas"));
+        assertFalse(stringRedisTemplate.hasKey("{inventory}:reconcile-lock"));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 판매 수량을 반영 중이면 반영이 끝날 때까지 기다린 뒤, 남은 판매 수량을 반영하고 재고를 복제한다.")
+    void enableFlashSale_waitForReconcile() throws InterruptedException {
+        // given
+        stringRedisTemplate.opsForHash().put("{inventory}:deltas", "2", "1");
+        stringRedisTemplate.opsForValue().set("{inventory}:reconcile-lock", "other-node");
+        when(productRepository.findById(2L)).thenReturn(Optional.of(product("셔츠")
+            .id(2L)
+            .stockQuantity(9)
+            .build()));
+
+        Thread otherNode = new Thread(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            stringRedisTemplate.delete("{inventory}:reconcile-lock");
+        });
+        otherNode.start();
+
+        // when
+        inventoryReservationService.enableFlashSale(2L);
+        otherNode.join();
+
+        // then
+        InOrder inOrder = inOrder(productRepository);
+        inOrder.verify(productRepository).applyStockDeltas(anyString(), eq(Map.of(2L, 1)));
+        inOrder.verify(productRepository).findById(2L);
+        assertEquals("9", stringRedisTemplate.opsForValue().get("{inventory}:stock:2"));
+        assertFalse(stringRedisTemplate.hasKey("{inventory}:reconcile-lock"));
+    }
+}
@@ -0,0 +1,317 @@
+package com.example.ecommerce.service;
+
+import static com.example.ecommerce.fixture.EntityFixtures.product;
+import static com.example.ecommerce.fixture.EntityFixtures.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.ecommerce.common.exception.order.OrderCheckoutUnavailableException;
+import com.example.ecommerce.common.exception.product.ProductOutOfStockException;
+import com.example.ecommerce.common.outbox.OutboxEventAppender;
+import com.example.ecommerce.config.CheckoutGroupCommitProperties;
+import com.example.ecommerce.config.QuerydslConfig;
+import com.example.ecommerce.dto.order.CreatePaidOrderDto;
+import com.example.ecommerce.dto.port_one.PortOneGetPaymentResponseDto;
+import com.example.ecommerce.entity.Product;
+import com.example.ecommerce.entity.User;
+import com.example.ecommerce.repository.OrderItemRepository;
+import com.example.ecommerce.repository.OrderRepository;
+import com.example.ecommerce.repository.OutboxEventRepository;
+import com.example.ecommerce.repository.PaymentRepository;
+import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.repository.UserRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 그룹 커밋과 개별 커밋의 처리량 비교 및 실패 격리 확인 (각 주문이 실제로 커밋되어야 하므로 테스트 트랜잭션 미사용)
+@Slf4j
+@DataJpaTest
+@Import({QuerydslConfig.class, OrderWriteService.class, OutboxEventAppender.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderGroupCommitterTest {
+
+    private static final int ORDER_COUNT = 200;
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private OrderWriteService orderWriteService;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(user("ILYA").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAllInBatch();
+        paymentRepository.deleteAllInBatch();
+        orderItemRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("그룹 커밋과 개별 커밋 모두 동시 주문을 빠짐없이 저장하며, 처리량을 비교한다.")
+    void throughput_groupCommitVersusSingleCommit() throws Exception {
+        // given
+        OrderGroupCommitter singleCommitter = createCommitter(false);
+        OrderGroupCommitter groupCommitter = createCommitter(true);
+
+        // when
+        long singleNanos = runConcurrentOrders(singleCommitter, createOrders(ORDER_COUNT, 1));
+        long groupNanos = runConcurrentOrders(groupCommitter, createOrders(ORDER_COUNT, 1));
+        groupCommitter.stop();
+
+        // then
+        log.info("checkout throughput - single commit : {} orders/s, group commit : {} orders/s",
+            ORDER_COUNT * 1_000_000_000L / singleNanos, ORDER_COUNT * 1_000_000_000L / groupNanos);
+        assertEquals(ORDER_COUNT * 2, orderRepository.count());
+        assertEquals(ORDER_COUNT * 2, paymentRepository.count());
+    }
+
+    @Test
+    @DisplayName("배치 중 한 주문이 실패하면 개별 커밋으로 재시도해 실패한 주문만 예외를 받는다.")
+    void groupCommit_failureIsolation() throws Exception {
+        // given
+        OrderGroupCommitter groupCommitter = createCommitter(true);
+        List<CreatePaidOrderDto> orders = new ArrayList<>(createOrders(THREAD_COUNT - 1, 1));
+
+        // 재고 1개인 상품을 2개 주문
+        orders.add(createOrders(1, 2).get(0));
+
+        // when
+        List<Future<Long>> futures = submitConcurrently(groupCommitter, orders);
+
+        // then
+        int failed = 0;
+        for (Future<Long> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException ex) {
+                assertInstanceOf(ProductOutOfStockException.class, ex.getCause());
+                failed++;
+            }
+        }
+        groupCommitter.stop();
+
+        assertEquals(1, failed);
+        assertEquals(THREAD_COUNT - 1, orderRepository.count());
+    }
+
+    @Test
+    @DisplayName("여러 배치가 같은 상품들을 동시에 주문해도 교착 상태 없이 합산 수량만큼 재고가 차감된다.")
+    void groupCommit_sharedProducts() throws Exception {
+        // given
+        OrderGroupCommitter groupCommitter = createCommitter(true);
+        Product first = saveProduct("상품 A", ORDER_COUNT);
+        Product second = saveProduct("상품 B", ORDER_COUNT);
+
+        // 주문마다 상품 순서를 뒤집어, 주문 단위로 차감하면 lock 순서가 엇갈리도록 구성
+        List<CreatePaidOrderDto> orders = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            orders.add(createOrder(i % 2 == 0 ? List.of(first, second) : List.of(second, first),
+                1));
+        }
+
+        // when
+        runConcurrentOrders(groupCommitter, orders);
+        groupCommitter.stop();
+
+        // then
+        assertEquals(ORDER_COUNT, orderRepository.count());
+        assertEquals(0, productRepository.findById(first.getId()).orElseThrow()
+            .getStockQuantity());
+        assertEquals(0, productRepository.findById(second.getId()).orElseThrow()
+            .getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("배치를 모으던 flusher 가 인터럽트되어도 이미 꺼낸 주문은 커밋되어 요청이 결과를 받는다.")
+    void groupCommit_flusherInterrupted() throws Exception {
+        // given
+        OrderGroupCommitter groupCommitter = createCommitter(orderWriteService, Duration.ofSeconds(5),
+            Duration.ofSeconds(10));
+        CreatePaidOrderDto order = createOrders(1, 1).get(0);
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Future<Long> future = executorService.submit(() -> groupCommitter.createPaidOrder(order));
+        executorService.shutdown();
+
+        // when : flusher 가 주문을 꺼내 다음 주문을 기다리는 동안 인터럽트
+        Thread.sleep(200);
+        Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.getName().startsWith("checkout-group-commit-"))
+            .forEach(Thread::interrupt);
+
+        // then
+        assertNotNull(future.get(2, TimeUnit.SECONDS));
+        groupCommitter.stop();
+        assertEquals(1, orderRepository.count());
+    }
+
+    @Test
+    @DisplayName("커밋 결과를 제한 시간 안에 받지 못하면 계속 기다리지 않고 OrderCheckoutUnavailableException 을 던진다.")
+    void groupCommit_resultTimeout() {
+        // given
+        OrderWriteService slowOrderWriteService = mock(OrderWriteService.class);
+        when(slowOrderWriteService.createPaidOrder(any())).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return 1L;
+        });
+        OrderGroupCommitter groupCommitter = createCommitter(slowOrderWriteService,
+            Duration.ofMillis(5), Duration.ofMillis(100));
+        CreatePaidOrderDto order = createOrders(1, 1).get(0);
+
+        // when / then
+        assertThrows(OrderCheckoutUnavailableException.class,
+            () -> groupCommitter.createPaidOrder(order));
+        groupCommitter.stop();
+    }
+
+    @Test
+    @DisplayName("종료된 뒤에 들어온 주문은 대기열에 넣지 않고 요청 스레드에서 바로 커밋한다.")
+    void groupCommit_afterStop() {
+        // given
+        OrderGroupCommitter groupCommitter = createCommitter(true);
+        groupCommitter.stop();
+
+        // when
+        Long orderId = groupCommitter.createPaidOrder(createOrders(1, 1).get(0));
+
+        // then
+        assertNotNull(orderId);
+        assertEquals(1, orderRepository.count());
+    }
+
+    private OrderGroupCommitter createCommitter(boolean enabled) {
+        CheckoutGroupCommitProperties properties = new CheckoutGroupCommitProperties();
+        properties.setEnabled(enabled);
+        properties.setWindow(Duration.ofMillis(5));
+        properties.setMaxBatchSize(THREAD_COUNT);
+
+        OrderGroupCommitter committer = new OrderGroupCommitter(orderWriteService, properties);
+        committer.start();
+        return committer;
+    }
+
+    private OrderGroupCommitter createCommitter(OrderWriteService orderWriteService,
+        Duration window, Duration resultTimeout) {
+        CheckoutGroupCommitProperties properties = new CheckoutGroupCommitProperties();
+        properties.setEnabled(true);
+        properties.setWindow(window);
+        properties.setMaxBatchSize(THREAD_COUNT);
+        properties.setResultTimeout(resultTimeout);
+
+        OrderGroupCommitter committer = new OrderGroupCommitter(orderWriteService, properties);
+        committer.start();
+        return committer;
+    }
+
+    private long runConcurrentOrders(OrderGroupCommitter committer, List<CreatePaidOrderDto> orders)
+        throws Exception {
+        long startedAt = System.nanoTime();
+        for (Future<Long> future : submitConcurrently(committer, orders)) {
+            future.get();
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private List<Future<Long>> submitConcurrently(OrderGroupCommitter committer,
+        List<CreatePaidOrderDto> orders) {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Long>> futures = new ArrayList<>();
+
+        for (CreatePaidOrderDto order : orders) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return committer.createPaidOrder(order);
+            }));
+        }
+
+        startLatch.countDown();
+        executorService.shutdown();
+        return futures;
+    }
+
+    // 주문마다 재고 1개짜리 상품을 새로 생성
+    private List<CreatePaidOrderDto> createOrders(int count, int quantity) {
+        List<CreatePaidOrderDto> orders = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            orders.add(createOrder(List.of(saveProduct("상품 " + i, 1)), quantity));
+        }
+
+        return orders;
+    }
+
+    private Product saveProduct(String name, int stockQuantity) {
+        return productRepository.save(product(name).stockQuantity(stockQuantity).build());
+    }
+
+    private CreatePaidOrderDto createOrder(List<Product> products, int quantity) {
+        Map<Long, Integer> productsMap = new LinkedHashMap<>();
+        products.forEach(product -> productsMap.put(product.getId(), quantity));
+
+        return CreatePaidOrderDto.builder()
+            .user(user)
+            .totalPrice(50000 * quantity * products.size())
+            .products(products)
+            .productsMap(productsMap)
+            .stockProductsMap(productsMap)
+            .paymentDto(PortOneGetPaymentResponseDto.builder()
+                .id("payment-" + UUID.randomUUID())
+                .status("PAID")
+                .transactionId(UUID.randomUUID().toString())
+                .merchantId("merchant-a633191f-848d-41f3-9621-128f52d3b187")
+                .method(new PortOneGetPaymentResponseDto.PaymentMethod("PaymentMethodEasyPay",
+                    "KAKAOPAY"))
+                .paidAt(LocalDateTime.now())
+                .build())
+            .build();
+    }
+}
@@ -1,16 +1,32 @@
 package com.example.ecommerce.service;
 
+import com.example.ecommerce.api.port_one.PortOneAsyncPayment;
 import com.example.ecommerce.api.port_one.PortOnePayment;
+import com.example.ecommerce.common.idempotency.CheckoutIdempotencyStore;
+import com.example.ecommerce.common.outbox.OutboxEventAppender;
+import com.example.ecommerce.config.CheckoutGroupCommitProperties;
+import com.example.ecommerce.common.enums.outbox.OutboxEventType;
 import com.example.ecommerce.common.enums.product.Category;
 import com.example.ecommerce.common.enums.product.Size;
+import com.example.ecommerce.common.exception.order.OrderCheckoutUnavailableException;
+import com.example.ecommerce.common.exception.order.OrderException;
+import com.example.ecommerce.common.exception.order.OrderInvalidCursorException;
 import com.example.ecommerce.common.exception.order.OrderNotFoundException;
+import com.example.ecommerce.common.exception.port_one.PortOneException;
+import com.example.ecommerce.common.exception.port_one.PortOneNotFoundPaymentException;
+import com.example.ecommerce.common.exception.port_one.PortOnePaymentMismatchException;
+import com.example.ecommerce.common.exception.port_one.PortOneUnavailableException;
 import com.example.ecommerce.common.exception.product.ProductException;
 import com.example.ecommerce.common.exception.product.ProductNotFoundException;
 import com.example.ecommerce.common.exception.product.ProductOutOfStockException;
 import com.example.ecommerce.common.exception.user.UserException;
+import com.example.ecommerce.dto.CursorPageDto;
 import com.example.ecommerce.dto.PageableDto;
 import com.example.ecommerce.dto.order.CreateOrderDto;
+import com.example.ecommerce.dto.order.OrderCursor;
 import com.example.ecommerce.dto.order.OrderDto;
+import com.example.ecommerce.dto.outbox.OrderPaidEvent;
+import com.example.ecommerce.dto.outbox.PaymentCancelEvent;
 import com.example.ecommerce.dto.port_one.PortOneGetPaymentResponseDto;
 import com.example.ecommerce.entity.Order;
 import com.example.ecommerce.entity.Payment;
@@ -24,7 +40,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -40,8 +55,15 @@ import java.lang.reflect.Field;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.ArrayList;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,8 +80,16 @@ public class OrderServiceTest {
     @Mock
     private PortOnePayment portOnePayment;
     @Mock
+    private PortOneAsyncPayment portOneAsyncPayment;
+    @Mock
     private PaymentRepository paymentRepository;
-    @InjectMocks
+    @Mock
+    private InventoryReservationService inventoryReservationService;
+    @Mock
+    private CheckoutIdempotencyStore checkoutIdempotencyStore;
+    @Mock
+    private OutboxEventAppender outboxEventAppender;
+
     private OrderServiceImpl orderService;
 
     private CreateOrderDto createOrderDto;
@@ -72,6 +102,8 @@ public class OrderServiceTest {
 
     @BeforeEach
     void setUp() {
+        orderService = orderService(Runnable::run);
+
         //userId가 1L이라고 가정한 주문한 상품 2개의 총 가격은 = 100,000 (개당 50,000)
         createOrderDto = CreateOrderDto.builder()
                 .userId(1L)
@@ -115,6 +147,7 @@ public class OrderServiceTest {
                 .merchantId("merchant-a633191f-848d-41f3-9621-128f52d3b187")
                 .method(new PortOneGetPaymentResponseDto.PaymentMethod("PaymentMethodEasyPay", "KAKAOPAY"))
                 .paidAt(paidAt)
+                .amount(new PortOneGetPaymentResponseDto.PaymentAmount(100000))
                 .build();
 
         //데이터베이스에 넣을 값
@@ -136,7 +169,7 @@ public class OrderServiceTest {
     void verifyPaymentAndCreateOrder() {
         //given
         when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-        when(productRepository.findById(product.getId())).thenReturn(Optional.of(product));
+        when(productRepository.findAllById(Set.of(product.getId()))).thenReturn(List.of(product));
         when(portOnePayment.getPayment(paymentId)).thenReturn(portOneGetPaymentResponseDto);
 
         // save 호출 시 ID가 설정된 order 반환
@@ -157,6 +190,139 @@ public class OrderServiceTest {
         verify(orderRepository).save(any(Order.class));
         verify(orderItemRepository).saveAll(anyList());
         verify(paymentRepository).save(any(Payment.class));
+        verify(productRepository).decreaseStockQuantities(createOrderDto.productsMap());
+        verify(inventoryReservationService).confirm(paymentId, Map.of());
+        verify(outboxEventAppender).append(eq(OutboxEventType.ORDER_PAID), eq(1L), any(OrderPaidEvent.class));
+    }
+
+    @Test
+    @DisplayName("비동기 주문 생성은 비동기 포트원 클라이언트로 결제를 조회한 뒤 주문을 저장한다.")
+    void verifyPaymentAndCreateOrderAsync() {
+        // given
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(productRepository.findAllById(Set.of(product.getId()))).thenReturn(List.of(product));
+        when(portOneAsyncPayment.getPayment(paymentId))
+                .thenReturn(CompletableFuture.completedFuture(portOneGetPaymentResponseDto));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+            Order savedOrder = invocation.getArgument(0);
+            Field idField = Order.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(savedOrder, 1L);
+            return savedOrder;
+        });
+
+        // when
+        Long orderId = orderService.verifyPaymentAndCreateOrderAsync(paymentId, createOrderDto).join();
+
+        // then
+        assertEquals(1L, orderId);
+        verify(portOnePayment, never()).getPayment(anyString());
+        verify(paymentRepository).save(any(Payment.class));
+        verify(checkoutIdempotencyStore).complete(paymentId, 1L);
+    }
+
+    @Test
+    @DisplayName("비동기 주문 생성 스레드 풀이 포화되면 결제 조회 전에 OrderCheckoutUnavailableException 으로 거절한다.")
+    void verifyPaymentAndCreateOrderAsync_ExecutorSaturated() {
+        // given
+        OrderServiceImpl saturatedOrderService = orderService(task -> {
+            throw new RejectedExecutionException("saturated");
+        });
+
+        // when
+        CompletableFuture<Long> result = saturatedOrderService.verifyPaymentAndCreateOrderAsync(
+                paymentId, createOrderDto);
+
+        // then
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(OrderCheckoutUnavailableException.class, exception.getCause());
+        verify(portOneAsyncPayment, never()).getPayment(anyString());
+        verify(inventoryReservationService, never()).reserve(anyString(), anyMap());
+    }
+
+    @Test
+    @DisplayName("결제 조회 이후에 스레드 풀이 포화되면 거절하지 않고 결제 조회를 완료한 스레드에서 주문을 저장한다.")
+    void verifyPaymentAndCreateOrderAsync_ExecutorSaturatedAfterPayment() {
+        // given : 결제 조회 전 두 단계(중복 확인, 저장된 주문 조회)만 실행하고 이후 작업은 거절
+        AtomicInteger acceptedTasks = new AtomicInteger();
+        OrderServiceImpl saturatedOrderService = orderService(task -> {
+            if (acceptedTasks.incrementAndGet() > 2) {
+                throw new RejectedExecutionException("saturated");
+            }
+            task.run();
+        });
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(productRepository.findAllById(Set.of(product.getId()))).thenReturn(List.of(product));
+        when(portOneAsyncPayment.getPayment(paymentId))
+                .thenReturn(CompletableFuture.completedFuture(portOneGetPaymentResponseDto));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+            Order savedOrder = invocation.getArgument(0);
+            Field idField = Order.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(savedOrder, 1L);
+            return savedOrder;
+        });
+
+        // when
+        Long orderId = saturatedOrderService.verifyPaymentAndCreateOrderAsync(paymentId,
+                createOrderDto).join();
+
+        // then
+        assertEquals(1L, orderId);
+        verify(checkoutIdempotencyStore).complete(paymentId, 1L);
+        verify(portOnePayment, never()).cancelPayment(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("비동기 결제 조회가 실패하면 재고 선점을 해제하고 예외를 그대로 전달한다.")
+    void verifyPaymentAndCreateOrderAsync_PaymentFailed() {
+        // given
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(productRepository.findAllById(Set.of(product.getId()))).thenReturn(List.of(product));
+        when(portOneAsyncPayment.getPayment(paymentId)).thenReturn(CompletableFuture.failedFuture(
+                new PortOneNotFoundPaymentException(PortOneException.NOTFOUND.getStatus(),
+                        PortOneException.NOTFOUND.getMessage())));
+
+        // when
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> orderService.verifyPaymentAndCreateOrderAsync(paymentId, createOrderDto).join());
+
+        // then
+        assertInstanceOf(PortOneNotFoundPaymentException.class, exception.getCause());
+        verify(inventoryReservationService).release(paymentId);
+        verify(checkoutIdempotencyStore).abort(eq(paymentId), anyString());
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("같은 결제 ID 로 재시도하면 결제 조회와 저장 없이 기존 주문 ID 를 반환한다.")
+    void verifyPaymentAndCreateOrder_Retry() {
+        // given
+        when(checkoutIdempotencyStore.begin(eq(paymentId), anyString())).thenReturn(Optional.of(1L));
+
+        // when
+        Long orderId = orderService.verifyPaymentAndCreateOrder(paymentId, createOrderDto);
+
+        // then
+        assertEquals(1L, orderId);
+        verify(portOnePayment, never()).getPayment(anyString());
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(paymentRepository, never()).save(any(Payment.class));
+    }
+
+    @Test
+    @DisplayName("멱등성 기록이 없어도 이미 저장된 결제라면 기존 주문 ID 를 반환한다.")
+    void verifyPaymentAndCreateOrder_PaymentAlreadySaved() {
+        // given
+        when(paymentRepository.findById(paymentId)).thenReturn(Optional.of(payment));
+
+        // when
+        Long orderId = orderService.verifyPaymentAndCreateOrder(paymentId, createOrderDto);
+
+        // then
+        assertEquals(payment.getOrderId(), orderId);
+        verify(portOnePayment, never()).getPayment(anyString());
+        verify(checkoutIdempotencyStore).complete(paymentId, payment.getOrderId());
     }
 
     @Test
@@ -177,12 +343,36 @@ public class OrderServiceTest {
     @DisplayName("주문 시 상품을 찾을 수 없으면 ProductNotFoundException 예외를 던진다.")
     void verifyPaymentAndCreateOrder_ProductNotFound() {
         when(userRepository.findById(createOrderDto.userId())).thenReturn(Optional.of(user));
-        when(productRepository.findById(1L)).thenReturn(Optional.empty());
+        when(productRepository.findAllById(Set.of(1L))).thenReturn(List.of());
 
         // when & then
         assertThrows(ProductNotFoundException.class, () -> orderService.verifyPaymentAndCreateOrder(paymentId, createOrderDto));
         verify(orderRepository, never()).save(any(Order.class));
         verify(orderItemRepository, never()).saveAll(anyList());
+        verify(portOnePayment, never()).getPayment(anyString());
+    }
+
+    @Test
+    @DisplayName("주문 상품을 한 번의 조회로 불러오고, 없는 상품 ID 는 모두 모아서 알려준다.")
+    void verifyPaymentAndCreateOrder_ProductsNotFoundTogether() {
+        // given
+        CreateOrderDto multiProductsOrderDto = CreateOrderDto.builder()
+                .userId(1L)
+                .totalPrice(200000)
+                .productsMap(Map.of(1L, 2, 3L, 1, 2L, 1))
+                .build();
+
+        when(userRepository.findById(multiProductsOrderDto.userId())).thenReturn(Optional.of(user));
+        when(productRepository.findAllById(Set.of(1L, 2L, 3L))).thenReturn(List.of(product));
+
+        // when
+        ProductNotFoundException exception = assertThrows(ProductNotFoundException.class,
+                () -> orderService.verifyPaymentAndCreateOrder(paymentId, multiProductsOrderDto));
+
+        // then
+        assertTrue(exception.getMessage().contains("[2, 3]"));
+        verify(productRepository, times(1)).findAllById(anyIterable());
+        verify(productRepository, never()).findById(anyLong());
     }
 
     @Test
@@ -190,7 +380,7 @@ public class OrderServiceTest {
     void verifyPaymentAndCreateOrder_OrderTotalPriceNotCorrect() {
         // given
         when(userRepository.findById(createOrderDto.userId())).thenReturn(Optional.of(user));
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productRepository.findAllById(Set.of(1L))).thenReturn(List.of(product));
         CreateOrderDto incorrectDto = new CreateOrderDto(1L, 900, Map.of(1L, 2));
 
         // when / then
@@ -202,15 +392,164 @@ public class OrderServiceTest {
     @DisplayName("주문 시 상품의 재고가 없으면 ProductOutOfStockException 예외를 던진다.")
     void verifyPaymentAndCreateOrder_ProductOutOfStock() {
         // given
-        product.updateStockQuantity(0);  // 재고가 부족한 상태로 설정
+        when(userRepository.findById(createOrderDto.userId())).thenReturn(Optional.of(user));
+        when(productRepository.findAllById(Set.of(1L))).thenReturn(List.of(product));
+        when(portOnePayment.getPayment(paymentId)).thenReturn(portOneGetPaymentResponseDto);
+        when(orderRepository.save(any(Order.class))).thenReturn(order);
+        // 조건부 UPDATE 결과 재고가 부족해 차감되지 않은 상품
+        when(productRepository.decreaseStockQuantities(createOrderDto.productsMap()))
+                .thenReturn(List.of(1L));
 
+        // when / then
+        assertThrows(ProductOutOfStockException.class,
+                () -> orderService.verifyPaymentAndCreateOrder(paymentId, createOrderDto));
+        // 결제는 완료되었으므로 보상 처리로 재고 선점을 해제하고 결제를 취소한다.
+        verify(inventoryReservationService).release(paymentId);
+        verify(portOnePayment).cancelPayment(eq(paymentId), anyString());
+        verify(checkoutIdempotencyStore).abort(eq(paymentId), anyString());
+    }
+
+    @Test
+    @DisplayName("웹훅으로 받은 결제의 금액이 서버에서 계산한 주문 총액과 다르면 주문을 저장하지 않는다.")
+    void createOrderFromPayment_AmountMismatch() {
+        // given
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(productRepository.findAllById(Set.of(product.getId()))).thenReturn(List.of(product));
+        PortOneGetPaymentResponseDto underpaid = PortOneGetPaymentResponseDto.builder()
+                .id(paymentId)
+                .status("PAID")
+                .amount(new PortOneGetPaymentResponseDto.PaymentAmount(100))
+                .build();
+
+        // when / then
+        assertThrows(PortOnePaymentMismatchException.class,
+                () -> orderService.createOrderFromPayment(underpaid, createOrderDto));
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(checkoutIdempotencyStore).abort(eq(paymentId), anyString());
+    }
+
+    @Test
+    @DisplayName("재고 선점에 실패하면 결제를 조회해 이 주문의 결제임을 확인한 뒤 결제를 취소한다.")
+    void verifyPaymentAndCreateOrder_ReservationOutOfStock() {
+        // given
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(productRepository.findAllById(Set.of(product.getId()))).thenReturn(List.of(product));
+        when(inventoryReservationService.reserve(paymentId, createOrderDto.productsMap()))
+                .thenThrow(new ProductOutOfStockException(ProductException.OUT_OF_STOCK.getStatus(),
+                        ProductException.OUT_OF_STOCK.getMessage()));
+        when(portOnePayment.getPayment(paymentId)).thenReturn(portOneGetPaymentResponseDto);
+
+        // when / then
+        assertThrows(ProductOutOfStockException.class,
+                () -> orderService.verifyPaymentAndCreateOrder(paymentId, createOrderDto));
+        verify(portOnePayment).getPayment(paymentId);
+        verify(portOnePayment).cancelPayment(eq(paymentId), anyString());
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("재고 선점에 실패해도 결제 금액이 주문과 다르면 다른 주문의 결제일 수 있으므로 취소하지 않는다.")
+    void verifyPaymentAndCreateOrder_ReservationOutOfStock_PaymentMismatch() {
+        // given
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(productRepository.findAllById(Set.of(product.getId()))).thenReturn(List.of(product));
+        when(inventoryReservationService.reserve(paymentId, createOrderDto.productsMap()))
+                .thenThrow(new ProductOutOfStockException(ProductException.OUT_OF_STOCK.getStatus(),
+                        ProductException.OUT_OF_STOCK.getMessage()));
+        when(portOnePayment.getPayment(paymentId)).thenReturn(PortOneGetPaymentResponseDto.builder()
+                .id(paymentId)
+                .status("PAID")
+                .amount(new PortOneGetPaymentResponseDto.PaymentAmount(1000))
+                .build());
+
+        // when / then
+        assertThrows(PortOnePaymentMismatchException.class,
+                () -> orderService.verifyPaymentAndCreateOrder(paymentId, createOrderDto));
+        verify(portOnePayment, never()).cancelPayment(anyString(), anyString());
+        verify(inventoryReservationService).release(paymentId);
+    }
+
+    @Test
+    @DisplayName("결제 취소 요청이 실패하면 아웃박스에 결제 취소 이벤트를 기록해 재시도한다.")
+    void verifyPaymentAndCreateOrder_CancelFailedQueued() {
+        // given
+        when(userRepository.findById(createOrderDto.userId())).thenReturn(Optional.of(user));
+        when(productRepository.findAllById(Set.of(1L))).thenReturn(List.of(product));
+        when(portOnePayment.getPayment(paymentId)).thenReturn(portOneGetPaymentResponseDto);
+        when(orderRepository.save(any(Order.class))).thenReturn(order);
+        when(productRepository.decreaseStockQuantities(createOrderDto.productsMap()))
+                .thenReturn(List.of(1L));
+        doThrow(new PortOneUnavailableException(PortOneException.UNAVAILABLE.getStatus(),
+                PortOneException.UNAVAILABLE.getMessage()))
+                .when(portOnePayment).cancelPayment(eq(paymentId), anyString());
+
+        // when / then
+        assertThrows(ProductOutOfStockException.class,
+                () -> orderService.verifyPaymentAndCreateOrder(paymentId, createOrderDto));
+        verify(outboxEventAppender).append(eq(OutboxEventType.PAYMENT_CANCEL), isNull(),
+                any(PaymentCancelEvent.class));
+    }
+
+    @Test
+    @DisplayName("주문 저장 결과를 제한 시간 안에 받지 못하면 바로 취소하지 않고, 주문 저장 여부를 확인하는 아웃박스로 결제 취소를 요청한다.")
+    void verifyPaymentAndCreateOrder_CommitUnavailable() {
+        // given
         when(userRepository.findById(createOrderDto.userId())).thenReturn(Optional.of(user));
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productRepository.findAllById(Set.of(1L))).thenReturn(List.of(product));
+        when(portOnePayment.getPayment(paymentId)).thenReturn(portOneGetPaymentResponseDto);
+        doThrow(new OrderCheckoutUnavailableException(OrderException.UNAVAILABLE.getStatus(),
+                OrderException.UNAVAILABLE.getMessage()))
+                .when(inventoryReservationService).hold(eq(paymentId), anyMap());
+
+        // when / then
+        assertThrows(OrderCheckoutUnavailableException.class,
+                () -> orderService.verifyPaymentAndCreateOrder(paymentId, createOrderDto));
+        verify(portOnePayment, never()).cancelPayment(anyString(), anyString());
+        verify(outboxEventAppender).append(eq(OutboxEventType.PAYMENT_CANCEL), isNull(),
+                any(PaymentCancelEvent.class));
+        verify(inventoryReservationService).release(paymentId);
+    }
+
+    @Test
+    @DisplayName("플래시 세일 상품은 Redis 에서 재고를 선점하고, DB 재고 차감 대상에서 제외된다.")
+    void verifyPaymentAndCreateOrder_FlashSaleReserved() {
+        // given
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(productRepository.findAllById(Set.of(product.getId()))).thenReturn(List.of(product));
+        when(inventoryReservationService.reserve(paymentId, createOrderDto.productsMap()))
+                .thenReturn(Map.of(1L, 2));
+        when(portOnePayment.getPayment(paymentId)).thenReturn(portOneGetPaymentResponseDto);
         when(orderRepository.save(any(Order.class))).thenReturn(order);
 
+        // when
+        Long orderId = orderService.verifyPaymentAndCreateOrder(paymentId, createOrderDto);
+
+        // then
+        assertEquals(order.getId(), orderId);
+        verify(productRepository).decreaseStockQuantities(Map.of());
+        verify(inventoryReservationService).hold(paymentId, Map.of(1L, 2));
+        verify(inventoryReservationService).confirm(paymentId, Map.of(1L, 2));
+    }
+
+    @Test
+    @DisplayName("결제 조회 중에 재고 선점이 만료 해제되었으면 주문을 저장하지 않고 결제를 취소한다.")
+    void verifyPaymentAndCreateOrder_ReservationExpired() {
+        // given
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(productRepository.findAllById(Set.of(product.getId()))).thenReturn(List.of(product));
+        when(inventoryReservationService.reserve(paymentId, createOrderDto.productsMap()))
+                .thenReturn(Map.of(1L, 2));
+        when(portOnePayment.getPayment(paymentId)).thenReturn(portOneGetPaymentResponseDto);
+        doThrow(new ProductOutOfStockException(ProductException.RESERVATION_EXPIRED.getStatus(),
+                ProductException.RESERVATION_EXPIRED.getMessage()))
+                .when(inventoryReservationService).hold(paymentId, Map.of(1L, 2));
+
         // when / then
         assertThrows(ProductOutOfStockException.class,
                 () -> orderService.verifyPaymentAndCreateOrder(paymentId, createOrderDto));
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(inventoryReservationService, never()).confirm(anyString(), anyMap());
+        verify(portOnePayment).cancelPayment(eq(paymentId), anyString());
     }
 
     @Test
@@ -219,7 +558,7 @@ public class OrderServiceTest {
         // given
         Page<Order> ordersPage = new PageImpl<>(Arrays.asList(order));
         Pageable pageable = PageRequest.of(0, 10);
-        when(orderRepository.findAll(pageable)).thenReturn(ordersPage);
+        when(orderRepository.findAllWithOrderItems(pageable)).thenReturn(ordersPage);
 
         // when
         PageableDto<OrderDto> result = orderService.getAllOrders(pageable);
@@ -227,7 +566,44 @@ public class OrderServiceTest {
         // then
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(orderRepository, times(1)).findAll(pageable);
+        verify(orderRepository, times(1)).findAllWithOrderItems(pageable);
+    }
+
+    @Test
+    @DisplayName("사용자 주문 내역을 조회하면 다음 페이지가 있을 때 마지막 주문 위치의 커서를 함께 반환한다.")
+    void getUserOrders() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 11, 1, 12, 0);
+        Order newerOrder = Order.builder().id(2L).user(user).totalPrice(100000)
+                .orderItems(new ArrayList<>()).createdAt(createdAt.plusMinutes(1)).build();
+        Order olderOrder = Order.builder().id(1L).user(user).totalPrice(100000)
+                .orderItems(new ArrayList<>()).createdAt(createdAt).build();
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(orderRepository.findUserOrderHistory(1L, null, null, 2))
+                .thenReturn(List.of(newerOrder, olderOrder));
+
+        // when
+        CursorPageDto<OrderDto> result = orderService.getUserOrders(1L, null, 1);
+
+        // then
+        assertEquals(1, result.data().size());
+        assertEquals(2L, result.data().get(0).orderId());
+        assertTrue(result.hasNext());
+        assertEquals(new OrderCursor(createdAt.plusMinutes(1), 2L),
+                OrderCursor.decode(result.nextCursor()));
+    }
+
+    @Test
+    @DisplayName("주문 내역 커서를 해석할 수 없으면 OrderInvalidCursorException 예외를 던진다.")
+    void getUserOrders_InvalidCursor() {
+        // given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        // when & then
+        assertThrows(OrderInvalidCursorException.class,
+                () -> orderService.getUserOrders(1L, "not-a-cursor", 20));
+        verify(orderRepository, never()).findUserOrderHistory(anyLong(), any(), any(), anyInt());
     }
 
     @Test
@@ -285,5 +661,15 @@ public class OrderServiceTest {
         assertTrue(order.getOrderItems().isEmpty());
     }
 
+    private OrderServiceImpl orderService(Executor checkoutExecutor) {
+        // 쓰기 트랜잭션 서비스는 실제 객체로 두고, 하위 Repository 만 Mock 으로 주입
+        OrderWriteService orderWriteService = new OrderWriteService(orderRepository,
+                productRepository, orderItemRepository, paymentRepository, outboxEventAppender);
+        // 그룹 커밋은 비활성화 상태로 두어 주문마다 OrderWriteService 를 바로 호출
+        OrderGroupCommitter orderGroupCommitter = new OrderGroupCommitter(orderWriteService,
+                new CheckoutGroupCommitProperties());
+        return new OrderServiceImpl(orderRepository, userRepository, productRepository,
+                orderGroupCommitter, orderWriteService, inventoryReservationService, paymentRepository,
+                checkoutIdempotencyStore, portOnePayment, portOneAsyncPayment, checkoutExecutor);
+    }
 }
-
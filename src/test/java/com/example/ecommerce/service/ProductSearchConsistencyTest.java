@@ -0,0 +1,115 @@
+package com.example.ecommerce.service;
+
+import static com.example.ecommerce.fixture.EntityFixtures.product;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import com.example.ecommerce.common.enums.product.Category;
+import com.example.ecommerce.common.enums.product.Size;
+import com.example.ecommerce.common.search.ProductSearchIndex;
+import com.example.ecommerce.config.ProductSearchIndexProperties;
+import com.example.ecommerce.dto.PageableDto;
+import com.example.ecommerce.dto.product.ProductDto;
+import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.repository.custom.ProductRepositoryCustom;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 역색인이 준비된 노드와 준비되지 않아 MySQL 로 대체하는 노드가 같은 검색 결과를 같은 순서로 반환하는지 확인
+ * (목록 캐시는 노드 간에 공유되므로 두 경로의 결과가 다르면 어느 노드가 먼저 캐싱했는지에 따라 응답이 달라짐)
+ */
+@SpringBootTest
+@Transactional
+class ProductSearchConsistencyTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ProductRepositoryCustom productRepositoryCustom;
+
+    private ProductServiceImpl indexedProductService;
+    private ProductServiceImpl fallbackProductService;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.saveAll(List.of(
+            product("정합성 오버핏 반팔 티셔츠").category(Category.TOPS).size(Size.M).build(),
+            product("정합성 슬림핏 긴팔 티셔츠").category(Category.TOPS).size(Size.L).build(),
+            product("정합성 반팔 셔츠").category(Category.TOPS).size(Size.M)
+                .shopDisplayable(false).build(),
+            product("정합성 나이키AIR 티셔츠").category(Category.TOPS).size(Size.M).build(),
+            product("정합성 치노 팬츠").build()));
+
+        ProductSearchIndex readyIndex = new ProductSearchIndex(productRepository,
+            new ProductSearchIndexProperties());
+        readyIndex.rebuild();
+
+        ProductSearchIndexProperties disabled = new ProductSearchIndexProperties();
+        disabled.setEnabled(false);
+        ProductSearchIndex disabledIndex = new ProductSearchIndex(productRepository, disabled);
+        disabledIndex.rebuild();
+
+        indexedProductService = productService(readyIndex);
+        fallbackProductService = productService(disabledIndex);
+    }
+
+    @Test
+    @DisplayName("역색인 검색과 MySQL 대체 검색은 같은 상품을 같은 순서로 반환한다.")
+    void searchProducts_indexAndFallbackAgree() {
+        List<String> keywords = List.of("정합성 티셔츠", "정합성 셔츠", "정합성 반팔 셔츠",
+            "정합성 air", "정합성 AIR 셔츠", "정합성 츠셔", "정합성-치노");
+
+        for (String keyword : keywords) {
+            for (String entryPoint : new String[]{null, "shop"}) {
+                // when
+                List<Long> indexed = ids(indexedProductService, keyword, entryPoint);
+                List<Long> fallback = ids(fallbackProductService, keyword, entryPoint);
+
+                // then
+                assertEquals(indexed, fallback, "keyword : " + keyword + ", entryPoint : "
+                    + entryPoint);
+                assertEquals(indexedProductService.countSearchProducts(keyword, null, null,
+                        entryPoint),
+                    fallbackProductService.countSearchProducts(keyword, null, null, entryPoint));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("두 검색 경로 모두 카테고리/사이즈 필터를 적용하고 id 오름차순으로 페이징한다.")
+    void searchProducts_filterAndPaging() {
+        // when
+        PageableDto<ProductDto> indexed = indexedProductService.searchProducts("정합성 셔츠",
+            Category.TOPS, Size.M, PageRequest.of(1, 1), null);
+        PageableDto<ProductDto> fallback = fallbackProductService.searchProducts("정합성 셔츠",
+            Category.TOPS, Size.M, PageRequest.of(1, 1), null);
+
+        // then
+        assertEquals(indexed.data().stream().map(ProductDto::id).toList(),
+            fallback.data().stream().map(ProductDto::id).toList());
+        assertEquals(indexed.last(), fallback.last());
+        assertEquals(3, indexedProductService.countSearchProducts("정합성 셔츠", Category.TOPS,
+            Size.M, null));
+    }
+
+    private List<Long> ids(ProductServiceImpl productService, String keyword,
+        String entryPoint) {
+        return productService.searchProducts(keyword, null, null, PageRequest.of(0, 20),
+                entryPoint)
+            .data().stream()
+            .map(ProductDto::id)
+            .toList();
+    }
+
+    private ProductServiceImpl productService(ProductSearchIndex productSearchIndex) {
+        return new ProductServiceImpl(productRepository, productRepositoryCustom,
+            mock(S3Service.class), null, null, productSearchIndex, null);
+    }
+}
@@ -5,27 +5,35 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.example.ecommerce.common.cache.RedisProductStore;
 import com.example.ecommerce.common.enums.product.Category;
+import com.example.ecommerce.common.enums.product.ProductSortKey;
 import com.example.ecommerce.common.enums.product.Size;
+import com.example.ecommerce.common.exception.product.ProductInvalidCursorException;
 import com.example.ecommerce.common.exception.product.ProductNotFoundException;
+import com.example.ecommerce.common.search.ProductSearchIndex;
+import com.example.ecommerce.common.search.ProductSearchIndexSynchronizer;
 import com.example.ecommerce.dto.PageableDto;
 import com.example.ecommerce.dto.product.CreateProductDto;
 import com.example.ecommerce.dto.product.ProductDto;
+import com.example.ecommerce.dto.product.ProductSearchCursor;
 import com.example.ecommerce.entity.Product;
+import com.example.ecommerce.entity.RedisProduct;
 import com.example.ecommerce.repository.ProductRepository;
 import com.example.ecommerce.repository.custom.ProductRepositoryCustom;
 import com.example.ecommerce.repository.custom.ProductRepositoryCustomImpl;
 import java.util.List;
 import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -33,6 +41,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -47,10 +56,24 @@ class ProductServiceTest {
     private ProductRepositoryCustom productRepositoryCustom;  // Spring 컨텍스트에 주입됨
     @Mock
     private S3Service s3Service;
-    @InjectMocks
+    @Mock
+    private RedisProductStore redisProductStore;
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+    @Mock
+    private ProductSearchIndexSynchronizer productSearchIndexSynchronizer;
     private ProductServiceImpl productService;
     private final String S3_URL = "https://s3.com/";
 
+    @BeforeEach
+    void setUp() {
+        // ProductRepository 도 ProductRepositoryCustom 이므로 @InjectMocks 대신 직접 생성해
+        // 검색을 stub 한 Mock 이 productRepositoryCustom 자리에 들어가도록 함
+        productService = new ProductServiceImpl(productRepository, productRepositoryCustomImpl,
+            s3Service, null, redisProductStore, productSearchIndex,
+            productSearchIndexSynchronizer);
+    }
+
     // request : CreateProductDto createProductDto, MultipartFile file
     // response : Long id
     @Test
@@ -98,6 +121,8 @@ class ProductServiceTest {
         // then
         verify(s3Service, times(1)).uploadFile(file);
         verify(productRepository, times(1)).save(any(Product.class));
+        // 목록 캐시 세대는 역색인 동기화에서 색인을 갱신한 뒤에 올림
+        verify(productSearchIndexSynchronizer).productChanged(product.getId());
 
         assertNotNull(productDto);
         assertEquals(product.getId(), productDto.id());
@@ -499,6 +524,102 @@ class ProductServiceTest {
             .isEqualTo(shopDisplayableProductDtos.get(0));
     }
 
+    @Test
+    @DisplayName("쇼핑몰 상품 목록은 DB 에서 노출 상품만 페이징 조회하고, 해당 페이지 상품에 대해서만 presigned URL 을 생성한다.")
+    void getShopDisplayableProducts() {
+        // given
+        Product product = Product.builder()
+            .id(11L)
+            .name("패딩 점퍼")
+            .description("따뜻한 겨울 점퍼")
+            .unitPrice(120000)
+            .stockQuantity(30)
+            .category(Category.OUTER)
+            .size(Size.L)
+            .shopDisplayable(true)
+            .fileName("padding.png")
+            .fileKey("file-key-11")
+            .build();
+
+        Pageable sortedPageable = PageRequest.of(1, 10, Sort.by("id"));
+
+        when(productRepository.findAllByShopDisplayableTrue(sortedPageable))
+            .thenReturn(new PageImpl<>(List.of(product), sortedPageable, 11));
+        when(s3Service.getPresignedUrl(product.getFileKey()))
+            .thenReturn(S3_URL + product.getFileKey());
+
+        // when
+        PageableDto<ProductDto> result = productService.getShopDisplayableProducts(
+            PageRequest.of(1, 10));
+
+        // then
+        verify(productRepository, never()).findAll();
+        verify(s3Service, times(1)).getPresignedUrl(any());
+
+        assertEquals(1, result.data().size());
+        assertEquals(S3_URL + product.getFileKey(), result.data().get(0).fileUrl());
+        assertThat(result.last()).isTrue();
+        assertThat(result.page()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 전달받은 커서를 (정렬 값, id) 로 해석해 그 이후의 상품을 조회하고 다음 커서를 반환한다.")
+    void searchProductsByCursor() {
+        // given
+        Product product = Product.builder()
+            .id(12L)
+            .name("패딩 점퍼")
+            .description("따뜻한 겨울 점퍼")
+            .unitPrice(120000)
+            .stockQuantity(30)
+            .category(Category.OUTER)
+            .size(Size.L)
+            .shopDisplayable(true)
+            .fileName("padding.png")
+            .fileKey("file-key-12")
+            .build();
+
+        ProductSearchCursor cursor = new ProductSearchCursor(ProductSortKey.UNIT_PRICE,
+            Sort.Direction.ASC, 100000, 7L);
+        String nextCursor = ProductSearchCursor.of(ProductSortKey.UNIT_PRICE, Sort.Direction.ASC,
+            product).encode();
+
+        when(productRepositoryCustomImpl.searchProductsByCursor("점퍼", Category.OUTER, null,
+            "shop", ProductSortKey.UNIT_PRICE, Sort.Direction.ASC, cursor, 1))
+            .thenReturn(new PageableDto<>(List.of(product), false, 0, 1, nextCursor));
+        when(s3Service.getPresignedUrl(product.getFileKey()))
+            .thenReturn(S3_URL + product.getFileKey());
+
+        // when
+        PageableDto<ProductDto> result = productService.searchProductsByCursor("점퍼",
+            Category.OUTER, null, "shop", cursor.encode(),
+            PageRequest.of(0, 1, Sort.by("unitPrice")));
+
+        // then
+        assertEquals(1, result.data().size());
+        assertThat(result.last()).isFalse();
+        assertEquals(nextCursor, result.nextCursor());
+        assertEquals(new ProductSearchCursor(ProductSortKey.UNIT_PRICE, Sort.Direction.ASC,
+            120000, 12L), ProductSearchCursor.decode(result.nextCursor(),
+            ProductSortKey.UNIT_PRICE, Sort.Direction.ASC));
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 다른 정렬로 발급된 커서는 ProductInvalidCursorException 예외를 던진다.")
+    void searchProductsByCursor_ProductInvalidCursorException() {
+        // given
+        String cursor = new ProductSearchCursor(ProductSortKey.ID, Sort.Direction.ASC, 7L, 7L)
+            .encode();
+
+        // when, then
+        assertThrows(ProductInvalidCursorException.class,
+            () -> productService.searchProductsByCursor(null, null, null, null, cursor,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "unitPrice"))));
+        assertThrows(ProductInvalidCursorException.class,
+            () -> productService.searchProductsByCursor(null, null, null, null, "not-a-cursor",
+                PageRequest.of(0, 10)));
+    }
+
     // request : List<Product> productDtoPageableDto
     // response : List<ProductDto>
     @Test
@@ -624,6 +745,7 @@ class ProductServiceTest {
             .build();
 
         when(productRepository.findById(id)).thenReturn(Optional.of(product));
+        when(redisProductStore.load(product)).thenReturn(RedisProduct.from(product));
         when(s3Service.getPresignedUrl(product.getFileKey())).thenReturn(
             returnedProductDto.fileUrl());
 
@@ -632,12 +754,44 @@ class ProductServiceTest {
 
         // then
         verify(productRepository, times(1)).findById(1L);
+        verify(redisProductStore, times(1)).load(product);
         verify(s3Service, times(1)).getPresignedUrl(product.getFileKey());
 
         assertNotNull(productDto);
         assertThat(productDto).usingRecursiveComparison().isEqualTo(returnedProductDto);
     }
 
+    @Test
+    @DisplayName("상품 단일 조회 - Redis hash 에 캐싱된 상품은 DB 를 조회하지 않는다.")
+    void getProduct_cachedInRedis() {
+        // given
+        RedisProduct redisProduct = RedisProduct.builder()
+            .id(1L)
+            .name("치노 팬츠")
+            .description("스타일리시한 슬림 핏으로 다양한 코디에 활용 가능합니다.")
+            .unitPrice(50000)
+            .stockQuantity(97)
+            .category(Category.PANTS)
+            .size(Size.M)
+            .avgRating(0.0f)
+            .shopDisplayable(true)
+            .fileName("product_image.png")
+            .fileKey("uuid-product_image.png")
+            .build();
+
+        when(redisProductStore.find(1L)).thenReturn(Optional.of(redisProduct));
+        when(s3Service.getPresignedUrl(redisProduct.getFileKey())).thenReturn(
+            S3_URL + redisProduct.getFileKey());
+
+        // when
+        ProductDto productDto = productService.getProduct(1L);
+
+        // then
+        verify(productRepository, never()).findById(1L);
+        assertEquals(97, productDto.stockQuantity());
+        assertEquals(S3_URL + redisProduct.getFileKey(), productDto.fileUrl());
+    }
+
     @Test
     @DisplayName("찾는 상품이 존재하지 않을 시, ProductNotFoundException 예외를 던진다.")
     void getProduct_ProductNotFoundException() {
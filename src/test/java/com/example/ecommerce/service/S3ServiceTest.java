@@ -0,0 +1,70 @@
+package com.example.ecommerce.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.ecommerce.config.S3PresignProperties;
+import java.net.URL;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+class S3ServiceTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private S3Presigner s3Presigner;
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        s3Presigner = mock(S3Presigner.class);
+        PresignedGetObjectRequest presigned = mock(PresignedGetObjectRequest.class);
+        when(presigned.url()).thenReturn(new URL("https://s3.com/uuid-product_image.png"));
+        when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenReturn(presigned);
+
+        S3PresignProperties properties = new S3PresignProperties();
+        properties.setSignatureDuration(Duration.ofMinutes(60));
+        properties.setSafetyMargin(Duration.ofMinutes(5));
+
+        s3Service = new S3Service(mock(S3Client.class), s3Presigner, properties, nanos::get);
+    }
+
+    @Test
+    @DisplayName("같은 fileKey 의 presigned URL 은 캐시에서 재사용한다.")
+    void getPresignedUrl_cached() {
+        // when
+        String first = s3Service.getPresignedUrl("uuid-product_image.png");
+        String second = s3Service.getPresignedUrl("uuid-product_image.png");
+
+        // then
+        assertEquals(first, second);
+        verify(s3Presigner, times(1)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    @DisplayName("만료 안전 여유 시간에 들어선 presigned URL 은 다시 발급한다.")
+    void getPresignedUrl_reissuedBeforeExpiry() {
+        // given
+        s3Service.getPresignedUrl("uuid-product_image.png");
+
+        // when
+        nanos.addAndGet(Duration.ofMinutes(54).toNanos());
+        s3Service.getPresignedUrl("uuid-product_image.png");
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+        s3Service.getPresignedUrl("uuid-product_image.png");
+
+        // then
+        verify(s3Presigner, times(2)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+}